@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.benchmarks;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * Generates synthetic, deterministic manifests for the benchmarks.
+ *
+ * Hosts are spread round-robin over {@link #RINGS} rings, {@link #REGIONS} regions and three
+ * availability zones per region, mirroring the shape of our production manifests.
+ *
+ * @since 10/18/2026
+ */
+public final class SyntheticManifest {
+
+  /** Benchmark parameter values for the number of hosts in a manifest. */
+  public static final String SMALL = "100";
+  public static final String MEDIUM = "1000";
+  public static final String LARGE = "10000";
+
+  public static final List<String> REGIONS = ImmutableList.of("us-east-1", "us-west-2", "eu-west-1");
+  public static final List<String> ZONES = ImmutableList.of("a", "b", "c");
+  public static final int RINGS = 10;
+
+  private SyntheticManifest() { /* No instances */ }
+
+  /**
+   * Returns the name of the {@code i}th ring.
+   */
+  public static String ring(int i) {
+    return "ring" + (i % RINGS);
+  }
+
+  /**
+   * Returns the region of the {@code i}th host, such as "us-east-1".
+   */
+  public static String region(int i) {
+    return REGIONS.get(i % REGIONS.size());
+  }
+
+  /**
+   * Returns the zone of the {@code i}th host, such as "us-east-1a".
+   */
+  public static String zone(int i) {
+    return region(i) + ZONES.get((i / REGIONS.size()) % ZONES.size());
+  }
+
+  public static String hostName(int i) {
+    return String.format("cass%05d", i);
+  }
+
+  public static String publicIpAddress(int i) {
+    return String.format("10.%d.%d.%d", (i >> 16) & 0xff, (i >> 8) & 0xff, i & 0xff);
+  }
+
+  public static String fullyQualifiedDomainName(int i) {
+    return hostName(i) + "." + region(i) + ".example.com";
+  }
+
+  /**
+   * Returns the {@code i}th host as a Cassandra instance, using the Ec2Snitch naming conventions.
+   */
+  public static CassandraInstance instance(int i) {
+    String region = region(i);
+    int split = region.lastIndexOf('-');
+    return new CassandraInstance.Builder()
+        .id(i + 1)
+        .dataCenter(region.substring(0, split))
+        .rack(region.substring(split + 1) + ZONES.get((i / REGIONS.size()) % ZONES.size()))
+        .hostName(hostName(i))
+        .publicIpAddress(publicIpAddress(i))
+        .fullyQualifiedDomainName(fullyQualifiedDomainName(i))
+        .build();
+  }
+
+  /**
+   * Returns {@code size} Cassandra instances.
+   */
+  public static List<CassandraInstance> instances(int size) {
+    ImmutableList.Builder<CassandraInstance> instances = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      instances.add(instance(i));
+    }
+    return instances.build();
+  }
+
+  /**
+   * Returns a single ring containing {@code size} Cassandra instances.
+   */
+  public static CassandraRing ring(String name, int size) {
+    return new CassandraRing.Builder().name(name).instances(instances(size)).build();
+  }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.sdb;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.Item;
+import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.brighttag.agathon.benchmarks.SyntheticManifest;
+import com.brighttag.agathon.model.CassandraInstance;
+
+/**
+ * Benchmarks {@link SdbCassandraInstanceDao#transform}, which runs for every item in every
+ * page of a SimpleDB select, and the attributes built for every save. The {@code legacy}
+ * benchmarks are the previous implementations, comparing every attribute name in turn and
+ * building a new instance builder per item.
+ *
+ * @since 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SdbTransformBenchmark {
+
+  @Param({ SyntheticManifest.SMALL, SyntheticManifest.MEDIUM, SyntheticManifest.LARGE })
+  private int hosts;
+
+  private List<Item> items;
+  private List<CassandraInstance> instances;
+
+  @Setup
+  public void setUp() {
+    items = Lists.newArrayListWithCapacity(hosts);
+    instances = Lists.newArrayListWithCapacity(hosts);
+    for (int i = 0; i < hosts; i++) {
+      instances.add(SyntheticManifest.instance(i));
+      items.add(item(instances.get(i)));
+    }
+  }
+
+  @Benchmark
+  public ImmutableSet<CassandraInstance> transform() {
+    return SdbCassandraInstanceDao.transform(items);
+  }
+
+  @Benchmark
+  public ImmutableSet<CassandraInstance> legacyTransform() {
+    List<CassandraInstance> transformed = Lists.newArrayList();
+    for (Item item : items) {
+      transformed.add(legacyTransform(item));
+    }
+    return ImmutableSet.copyOf(transformed);
+  }
+
+  @Benchmark
+  public void buildSaveAttributes(Blackhole blackhole) {
+    long millis = System.currentTimeMillis();
+    for (CassandraInstance instance : instances) {
+      blackhole.consume(SdbCassandraInstanceDao.buildSaveAttributes(instance, millis));
+    }
+  }
+
+  @Benchmark
+  public void legacyBuildSaveAttributes(Blackhole blackhole) {
+    long millis = System.currentTimeMillis();
+    for (CassandraInstance instance : instances) {
+      blackhole.consume(legacyBuildSaveAttributes(instance, millis));
+    }
+  }
+
+  // Checkstyle ignore: CyclomaticComplexity
+  private static CassandraInstance legacyTransform(Item item) {
+    CassandraInstance.Builder instanceBuilder = new CassandraInstance.Builder();
+    for (Attribute attr : item.getAttributes()) {
+      if (attr.getName().equals(SdbCassandraInstanceDao.ID_KEY)) {
+        instanceBuilder.id(Integer.parseInt(attr.getValue()));
+      } else if (attr.getName().equals(SdbCassandraInstanceDao.DATACENTER_KEY)) {
+        instanceBuilder.dataCenter(attr.getValue());
+      } else if (attr.getName().equals(SdbCassandraInstanceDao.RACK_KEY)) {
+        instanceBuilder.rack(attr.getValue());
+      } else if (attr.getName().equals(SdbCassandraInstanceDao.HOSTNAME_KEY)) {
+        instanceBuilder.hostName(attr.getValue());
+      } else if (attr.getName().equals(SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY)) {
+        instanceBuilder.publicIpAddress(attr.getValue());
+      } else if (attr.getName().equals(SdbCassandraInstanceDao.FULLY_QUALIFIED_DOMAIN_NAME_KEY)) {
+        instanceBuilder.fullyQualifiedDomainName(attr.getValue());
+      }
+    }
+    return instanceBuilder.build();
+  }
+
+  private static List<ReplaceableAttribute> legacyBuildSaveAttributes(CassandraInstance instance,
+      long millis) {
+    List<ReplaceableAttribute> attrs = Lists.newArrayList();
+    attrs.add(new ReplaceableAttribute(
+        SdbCassandraInstanceDao.ID_KEY, String.valueOf(instance.getId()), false));
+    attrs.add(new ReplaceableAttribute(
+        SdbCassandraInstanceDao.DATACENTER_KEY, instance.getDataCenter(), true));
+    attrs.add(new ReplaceableAttribute(SdbCassandraInstanceDao.RACK_KEY, instance.getRack(), true));
+    attrs.add(new ReplaceableAttribute(
+        SdbCassandraInstanceDao.HOSTNAME_KEY, instance.getHostName(), true));
+    attrs.add(new ReplaceableAttribute(
+        SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY, instance.getPublicIpAddress(), true));
+    attrs.add(new ReplaceableAttribute(SdbCassandraInstanceDao.FULLY_QUALIFIED_DOMAIN_NAME_KEY,
+        instance.getFullyQualifiedDomainName(), true));
+    attrs.add(new ReplaceableAttribute(
+        SdbCassandraInstanceDao.MODIFIED_KEY, SdbCassandraInstanceDao.stamp(millis), true));
+    return attrs;
+  }
+
+  static Item item(CassandraInstance instance) {
+    return new Item(String.valueOf(instance.getId()), Lists.newArrayList(
+        new Attribute(SdbCassandraInstanceDao.ID_KEY, String.valueOf(instance.getId())),
+        new Attribute(SdbCassandraInstanceDao.DATACENTER_KEY, instance.getDataCenter()),
+        new Attribute(SdbCassandraInstanceDao.RACK_KEY, instance.getRack()),
+        new Attribute(SdbCassandraInstanceDao.HOSTNAME_KEY, instance.getHostName()),
+        new Attribute(SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY, instance.getPublicIpAddress()),
+        new Attribute(SdbCassandraInstanceDao.FULLY_QUALIFIED_DOMAIN_NAME_KEY,
+            instance.getFullyQualifiedDomainName())));
+  }
+
+}
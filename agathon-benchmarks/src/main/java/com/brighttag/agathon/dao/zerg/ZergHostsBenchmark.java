@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.zerg;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.brighttag.agathon.benchmarks.SyntheticManifest;
+import com.brighttag.agathon.model.CassandraInstance;
+
+/**
+ * Benchmarks {@link ZergHosts#filterScope} and {@link ZergHosts#toCassandraInstances}, which run
+ * on every ring and instance lookup against the Zerg backend.
+ *
+ * @since 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZergHostsBenchmark {
+
+  private static final String REGION = SyntheticManifest.REGIONS.get(0);
+  private static final String ENVIRONMENT_RING = SyntheticManifest.ring(0);
+  private static final String REGION_RING = SyntheticManifest.ring(1);
+
+  @Param({ SyntheticManifest.SMALL, SyntheticManifest.MEDIUM, SyntheticManifest.LARGE })
+  private int hosts;
+
+  private List<ZergHost> hostList;
+  private ZergHosts zergHosts;
+  private ZergHosts ringHosts;
+  private Map<String, String> ringScopes;
+
+  @Setup
+  public void setUp() {
+    hostList = Lists.newArrayListWithCapacity(hosts);
+    for (int i = 0; i < hosts; i++) {
+      hostList.add(new ZergHost(SyntheticManifest.hostName(i),
+          ImmutableList.of("cassandra_" + SyntheticManifest.ring(i), "base"),
+          SyntheticManifest.zone(i), SyntheticManifest.publicIpAddress(i),
+          SyntheticManifest.fullyQualifiedDomainName(i)));
+    }
+    zergHosts = ZergHosts.from(hostList);
+    ringScopes = ImmutableMap.of(ENVIRONMENT_RING, "environment", REGION_RING, "region");
+    ringHosts = zergHosts.filterRing(ENVIRONMENT_RING);
+  }
+
+  @Benchmark
+  public ZergHosts from() {
+    return ZergHosts.from(hostList);
+  }
+
+  @Benchmark
+  public ImmutableSet<String> rings() {
+    return zergHosts.rings();
+  }
+
+  @Benchmark
+  public ZergHosts filterScope_environment() {
+    return zergHosts.filterScope(ringScopes, REGION, ENVIRONMENT_RING);
+  }
+
+  @Benchmark
+  public ZergHosts filterScope_region() {
+    return zergHosts.filterScope(ringScopes, REGION, REGION_RING);
+  }
+
+  @Benchmark
+  public ImmutableSet<CassandraInstance> toCassandraInstances() {
+    return ringHosts.toCassandraInstances();
+  }
+
+  @Benchmark
+  public ImmutableSet<CassandraInstance> filterScopeToCassandraInstances() {
+    return zergHosts.filterScope(ringScopes, REGION, REGION_RING).toCassandraInstances();
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of building {@link ImmutableSet}s of model objects.
+ *
+ * The {@code legacy*} benchmarks use {@link LegacyInstance}, a copy of the previous
+ * {@link CassandraInstance} equality which allocated an {@code Object[]} on every
+ * {@code hashCode()} and {@code equals()} call, as the "before" number.
+ *
+ * @since 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelSetBenchmark {
+
+  @Param({ "100", "1000", "10000" })
+  private int size;
+
+  private List<CassandraInstance> instances;
+  private List<CassandraInstance> instanceCopies;
+  private List<LegacyInstance> legacyInstances;
+  private List<LegacyInstance> legacyInstanceCopies;
+
+  @Setup
+  public void setUp() {
+    instances = Lists.newArrayListWithCapacity(size);
+    instanceCopies = Lists.newArrayListWithCapacity(size);
+    legacyInstances = Lists.newArrayListWithCapacity(size);
+    legacyInstanceCopies = Lists.newArrayListWithCapacity(size);
+    for (int i = 1; i <= size; i++) {
+      instances.add(instance(i));
+      instanceCopies.add(instance(i));
+      legacyInstances.add(new LegacyInstance(instance(i)));
+      legacyInstanceCopies.add(new LegacyInstance(instance(i)));
+    }
+  }
+
+  @Benchmark
+  public ImmutableSet<CassandraInstance> buildInstanceSet() {
+    return ImmutableSet.copyOf(instances);
+  }
+
+  @Benchmark
+  public ImmutableSet<LegacyInstance> legacyBuildInstanceSet() {
+    return ImmutableSet.copyOf(legacyInstances);
+  }
+
+  @Benchmark
+  public boolean instancesEqual() {
+    return instances.equals(instanceCopies);
+  }
+
+  @Benchmark
+  public boolean legacyInstancesEqual() {
+    return legacyInstances.equals(legacyInstanceCopies);
+  }
+
+  @Benchmark
+  public CassandraRing buildRing() {
+    return new CassandraRing.Builder().name("ring").instances(instances).build();
+  }
+
+  private static CassandraInstance instance(int id) {
+    return new CassandraInstance.Builder()
+        .id(id)
+        .dataCenter("us-east")
+        .rack("1" + (char) ('a' + id % 3))
+        .hostName("cass" + id)
+        .publicIpAddress("10.0." + (id / 256) + "." + (id % 256))
+        .fullyQualifiedDomainName("cass" + id + ".example.com")
+        .build();
+  }
+
+  /**
+   * The {@link CassandraInstance} equality semantics prior to memoizing the hash code.
+   */
+  static class LegacyInstance {
+    private final int id;
+    private final String datacenter;
+    private final String rack;
+    private final String hostname;
+    private final String publicIpAddress;
+    private final String fullyQualifiedDomainName;
+
+    LegacyInstance(CassandraInstance instance) {
+      this.id = instance.getId();
+      this.datacenter = instance.getDataCenter();
+      this.rack = instance.getRack();
+      this.hostname = instance.getHostName();
+      this.publicIpAddress = instance.getPublicIpAddress();
+      this.fullyQualifiedDomainName = instance.getFullyQualifiedDomainName();
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(significantAttributes());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == null) {
+        return false;
+      } else if (obj == this) {
+        return true;
+      } else if (!getClass().isAssignableFrom(obj.getClass())) {
+        return false;
+      }
+      return Arrays.equals(significantAttributes(), getClass().cast(obj).significantAttributes());
+    }
+
+    Object[] significantAttributes() {
+      return new Object[] { id, datacenter, rack, hostname, publicIpAddress, fullyQualifiedDomainName };
+    }
+  }
+
+}
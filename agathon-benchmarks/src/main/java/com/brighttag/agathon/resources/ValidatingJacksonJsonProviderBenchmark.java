@@ -0,0 +1,152 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.Validation;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.TypeToken;
+import com.sun.jersey.core.header.OutBoundHeaders;
+import com.sun.jersey.core.util.MultivaluedMapImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.brighttag.agathon.benchmarks.SyntheticManifest;
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.model.JacksonModelModule;
+
+/**
+ * Benchmarks reading (with validation) and writing rings through {@link ValidatingJacksonJsonProvider}.
+ *
+ * @since 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatingJacksonJsonProviderBenchmark {
+
+  private static final Class<?> RINGS_TYPE = Set.class;
+  private static final java.lang.reflect.Type RINGS_GENERIC_TYPE =
+      new TypeToken<Set<CassandraRing>>() { }.getType();
+
+  @Param({ SyntheticManifest.SMALL, SyntheticManifest.MEDIUM, SyntheticManifest.LARGE })
+  private int hosts;
+
+  /** Whether to map the models by reflection or with the hand-written {@link JacksonModelModule}. */
+  @Param({ "reflective", "tuned" })
+  private String mapping;
+
+  private ValidatingJacksonJsonProvider provider;
+  private Annotation[] validAnnotations;
+  private MultivaluedMap<String, String> requestHeaders;
+  private CassandraRing ring;
+  private Set<CassandraRing> rings;
+  private byte[] ringJson;
+
+  @Setup
+  public void setUp() throws Exception {
+    ObjectMapper mapper = "tuned".equals(mapping)
+        ? JacksonModelModule.register(new ObjectMapper())
+        : new ObjectMapper();
+    provider = new ValidatingJacksonJsonProvider(new JacksonJsonProvider(mapper),
+        Validation.buildDefaultValidatorFactory().getValidator());
+    validAnnotations = CassandraRingResource.class
+        .getMethod("createRing", CassandraRing.class).getParameterAnnotations()[0];
+    requestHeaders = new MultivaluedMapImpl();
+    ring = SyntheticManifest.ring("ring", hosts);
+    // The same hosts, split over several rings, as returned by GET /rings
+    ImmutableSet.Builder<CassandraRing> ringsBuilder = ImmutableSet.builder();
+    for (int i = 0; i < SyntheticManifest.RINGS; i++) {
+      ringsBuilder.add(SyntheticManifest.ring(SyntheticManifest.ring(i), hosts / SyntheticManifest.RINGS));
+    }
+    rings = ringsBuilder.build();
+    ringJson = requestEntity(ring).getBytes(Charsets.UTF_8);
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream writeRing() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    provider.writeTo(ring, CassandraRing.class, CassandraRing.class, new Annotation[0],
+        MediaType.APPLICATION_JSON_TYPE, new OutBoundHeaders(), out);
+    return out;
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream writeRings() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    provider.writeTo(rings, RINGS_TYPE, RINGS_GENERIC_TYPE, new Annotation[0],
+        MediaType.APPLICATION_JSON_TYPE, new OutBoundHeaders(), out);
+    return out;
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Object readValidRing() throws IOException {
+    Class<Object> type = (Class<Object>) (Class<?>) CassandraRing.class;
+    return provider.readFrom(type, CassandraRing.class, validAnnotations,
+        MediaType.APPLICATION_JSON_TYPE, requestHeaders, new ByteArrayInputStream(ringJson));
+  }
+
+  /**
+   * Builds a {@code POST /rings} request entity in the documented format. (Responses name
+   * some properties differently, e.g., "dataCenter" instead of "datacenter".)
+   */
+  private static String requestEntity(CassandraRing ring) {
+    StringBuilder json = new StringBuilder("{\"name\":\"")
+        .append(ring.getName()).append("\",\"instances\":[");
+    String separator = "";
+    for (CassandraInstance instance : ring.getInstances()) {
+      json.append(separator)
+          .append("{\"id\":").append(instance.getId())
+          .append(",\"datacenter\":\"").append(instance.getDataCenter())
+          .append("\",\"rack\":\"").append(instance.getRack())
+          .append("\",\"hostname\":\"").append(instance.getHostName())
+          .append("\",\"publicIpAddress\":\"").append(instance.getPublicIpAddress())
+          .append("\",\"fullyQualifiedDomainName\":\"").append(instance.getFullyQualifiedDomainName())
+          .append("\"}");
+      separator = ",";
+    }
+    return json.append("]}").toString();
+  }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.security;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+
+import org.joda.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import com.brighttag.agathon.benchmarks.SyntheticManifest;
+import com.brighttag.agathon.dao.CassandraAddressDao;
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * Benchmarks the rule diffing done by each {@link SecurityGroupUpdaterService} iteration.
+ * The fake security groups already contain half of the required rules, plus as many stale ones,
+ * so every iteration computes both additions and removals without any network calls.
+ * <br/>
+ * Each iteration logs every rule it adds and removes at INFO, which would otherwise benchmark
+ * the log file instead, so the service's logger is raised to WARN while benchmarking.
+ *
+ * @since 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityGroupUpdaterServiceBenchmark {
+
+  private static final int PORT = 7000;
+
+  @Param({ SyntheticManifest.SMALL, SyntheticManifest.MEDIUM, SyntheticManifest.LARGE })
+  private int hosts;
+
+  private SecurityGroupUpdaterService service;
+  private CassandraRing ring;
+  private Level level;
+
+  @Setup
+  public void setUp() {
+    Logger logger = (Logger) LoggerFactory.getLogger(SecurityGroupUpdaterService.class);
+    level = logger.getLevel();
+    logger.setLevel(Level.WARN);
+    ring = SyntheticManifest.ring("ring", hosts);
+    ImmutableSet.Builder<Netmask> existing = ImmutableSet.builder();
+    for (int i = 0; i < hosts; i += 2) {
+      existing.add(Netmask.fromCidr(SyntheticManifest.publicIpAddress(i) + "/32"));
+      existing.add(Netmask.fromCidr(SyntheticManifest.publicIpAddress(hosts + i) + "/32"));
+    }
+    service = new SecurityGroupUpdaterService(new FixedAddressDao(ring),
+        new FixedSecurityGroupService(new SecurityGroupPermission(existing.build(), Range.singleton(PORT))),
+        new Function<CassandraInstance, String>() {
+          @Override
+          public String apply(CassandraInstance instance) {
+            return instance.getDataCenter();
+          }
+        },
+        PORT, PORT + 1, ImmutableSet.<String>of(), Duration.standardSeconds(10), "cassandra_");
+  }
+
+  @TearDown
+  public void tearDown() {
+    ((Logger) LoggerFactory.getLogger(SecurityGroupUpdaterService.class)).setLevel(level);
+  }
+
+  @Benchmark
+  public Set<Netmask> requiredRulesFor() {
+    return service.requiredRulesFor(ring.getInstances());
+  }
+
+  @Benchmark
+  public void runOneIteration() {
+    service.runOneIteration();
+  }
+
+  /**
+   * Address DAO that always returns the same ring.
+   */
+  private static class FixedAddressDao implements CassandraAddressDao {
+    private final CassandraRing ring;
+
+    FixedAddressDao(CassandraRing ring) {
+      this.ring = ring;
+    }
+
+    @Override
+    public ImmutableSet<CassandraRing> findAllAddresses() {
+      return ImmutableSet.of(ring);
+    }
+  }
+
+  /**
+   * Security group service whose groups always exist with the same permission. Updates are discarded.
+   */
+  private static class FixedSecurityGroupService implements SecurityGroupService {
+    private final ImmutableSet<SecurityGroupPermission> permissions;
+
+    FixedSecurityGroupService(SecurityGroupPermission permission) {
+      this.permissions = ImmutableSet.of(permission);
+    }
+
+    @Override
+    public boolean exists(String groupName, String dataCenter) {
+      return true;
+    }
+
+    @Override
+    public void create(String groupName, String dataCenter) { }
+
+    @Override
+    public ImmutableSet<SecurityGroupPermission> getPermissions(String groupName, String dataCenter) {
+      return permissions;
+    }
+
+    @Override
+    public void authorizeIngressRules(String groupName, String dataCenter,
+        SecurityGroupPermission permission) { }
+
+    @Override
+    public void revokeIngressRules(String groupName, String dataCenter,
+        SecurityGroupPermission permission) { }
+  }
+
+}
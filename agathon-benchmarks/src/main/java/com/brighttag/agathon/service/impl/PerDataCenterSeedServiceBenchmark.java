@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.brighttag.agathon.benchmarks.SyntheticManifest;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * Benchmarks {@link PerDataCenterSeedService#getSeeds}, which runs on every seed request.
+ *
+ * @since 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerDataCenterSeedServiceBenchmark {
+
+  @Param({ SyntheticManifest.SMALL, SyntheticManifest.MEDIUM, SyntheticManifest.LARGE })
+  private int hosts;
+
+  private PerDataCenterSeedService service;
+  private CassandraRing ring;
+
+  @Setup
+  public void setUp() {
+    service = new PerDataCenterSeedService(2, new CachingAddressResolver(300, 1000));
+    ring = SyntheticManifest.ring("ring", hosts);
+  }
+
+  @Benchmark
+  public ImmutableSet<String> getSeeds() {
+    return service.getSeeds(ring);
+  }
+
+}
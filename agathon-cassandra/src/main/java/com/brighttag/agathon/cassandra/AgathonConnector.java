@@ -16,27 +16,48 @@
 
 package com.brighttag.agathon.cassandra;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.net.InetAddress;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import javax.annotation.Nullable;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
 import com.google.common.base.Objects;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
-import com.google.common.io.CharStreams;
+import com.google.common.collect.Lists;
+import com.google.common.io.Closeables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Represents a connection to Agathon.
+ * <br/>
+ * Agathon may be reached through several endpoints. Endpoints are tried in order of health
+ * (fewest consecutive failures, then lowest latency), failing over to the next endpoint when
+ * a request fails. If a request hasn't completed within the hedge delay, a hedged request is
+ * sent to the next endpoint and whichever succeeds first wins.
  *
  * @author codyaray
  * @since 5/23/12
@@ -46,15 +67,70 @@ public class AgathonConnector {
   private static final Logger LOG = LoggerFactory.getLogger(AgathonConnector.class);
 
   private static final Splitter SEED_SPLITTER = Splitter.on(",").trimResults().omitEmptyStrings();
+  private static final Splitter HOST_SPLITTER = Splitter.on(",").trimResults().omitEmptyStrings();
 
-  @VisibleForTesting static final String SEED_URL = "http://%s:%s/rings/%s/seeds";
+  // Agathon resolves the seeds itself, so that Cassandra needn't
+  @VisibleForTesting static final String SEED_URL = "http://%s:%s/rings/%s/seeds?resolve=ip";
 
-  private final String host;
-  private final int port;
+  private static final String GZIP = "gzip";
+  private static final int BUFFER_SIZE = 4096;
+  @VisibleForTesting static final int MAX_RESPONSE_BYTES = 1024 * 1024;
+
+  private static final String DEFAULT_HOST = "localhost";
+  private static final int DEFAULT_PORT = 8094;
+  private static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 2000;
+  private static final int DEFAULT_READ_TIMEOUT_MILLIS = 5000;
+  private static final int DEFAULT_HEDGE_DELAY_MILLIS = 500;
+
+  private static final Comparator<Endpoint> BY_HEALTH = new Comparator<Endpoint>() {
+    @Override
+    public int compare(Endpoint left, Endpoint right) {
+      int leftFailures = left.consecutiveFailures.get();
+      int rightFailures = right.consecutiveFailures.get();
+      if (leftFailures != rightFailures) {
+        return leftFailures < rightFailures ? -1 : 1;
+      }
+      return Double.compare(left.latencyMillis, right.latencyMillis);
+    }
+  };
+
+  private final List<Endpoint> endpoints;
+  private final int connectTimeoutMillis;
+  private final int readTimeoutMillis;
+  private final int hedgeDelayMillis;
+  private final ExecutorService executor;
 
   public AgathonConnector(String host, @Nullable Integer port) {
-    this.host = host;
-    this.port = Objects.firstNonNull(port, 8094);
+    this(host, port, null, null, null);
+  }
+
+  /**
+   * Creates a new connection to Agathon.
+   *
+   * @param hosts comma-separated list of {@code host[:port]} endpoints, defaults to {@code localhost}
+   * @param port port for endpoints without one, defaults to {@code 8094}
+   * @param connectTimeoutMillis timeout for connecting to an endpoint
+   * @param readTimeoutMillis timeout for reading from an endpoint
+   * @param hedgeDelayMillis delay before sending a hedged request to the next endpoint,
+   *        or negative to only fail over once a request fails
+   */
+  public AgathonConnector(@Nullable String hosts, @Nullable Integer port,
+      @Nullable Integer connectTimeoutMillis, @Nullable Integer readTimeoutMillis,
+      @Nullable Integer hedgeDelayMillis) {
+    this.endpoints = endpoints(Objects.firstNonNull(hosts, DEFAULT_HOST),
+        Objects.firstNonNull(port, DEFAULT_PORT));
+    this.connectTimeoutMillis = Objects.firstNonNull(connectTimeoutMillis, DEFAULT_CONNECT_TIMEOUT_MILLIS);
+    this.readTimeoutMillis = Objects.firstNonNull(readTimeoutMillis, DEFAULT_READ_TIMEOUT_MILLIS);
+    this.hedgeDelayMillis = Objects.firstNonNull(hedgeDelayMillis, DEFAULT_HEDGE_DELAY_MILLIS);
+    // A request per endpoint, plus as many again still running into their read timeouts
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(2 * endpoints.size(), 2 * endpoints.size(),
+        60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+        new ThreadFactoryBuilder()
+            .setNameFormat("agathon-connector-%d")
+            .setDaemon(true)
+            .build());
+    pool.allowCoreThreadTimeOut(true);
+    this.executor = pool;
   }
 
   /**
@@ -64,30 +140,137 @@ public class AgathonConnector {
    * @throws ConfigurationException if a problem prevented us from reading the seeds from Agathon
    */
   public List<String> getSeeds(String ring) throws ConfigurationException {
-    return ImmutableList.copyOf(SEED_SPLITTER.split(
-        getDataFromUrl(String.format(SEED_URL, host, port, ring))));
+    return ImmutableList.copyOf(SEED_SPLITTER.split(getData(SEED_URL, ring)));
+  }
+
+  private String getData(String urlFormat, String ring) throws ConfigurationException {
+    List<Endpoint> ordered = orderedEndpoints();
+    if (ordered.size() == 1) {
+      return ordered.get(0).getData(urlFormat, ring);
+    }
+    CompletionService<String> completionService = new ExecutorCompletionService<String>(executor);
+    List<Future<String>> futures = Lists.newArrayListWithCapacity(ordered.size());
+    ConfigurationException failure = null;
+    int next = 0;
+    try {
+      futures.add(completionService.submit(ordered.get(next++).request(urlFormat, ring)));
+      int inFlight = 1;
+      while (inFlight > 0) {
+        Future<String> done = (hedgeDelayMillis >= 0 && next < ordered.size())
+            ? completionService.poll(hedgeDelayMillis, TimeUnit.MILLISECONDS)
+            : completionService.take();
+        if (done == null) {
+          LOG.debug("Sending hedged request to {}", ordered.get(next));
+        } else {
+          inFlight--;
+          try {
+            return done.get();
+          } catch (ExecutionException e) {
+            failure = asConfigurationException(e.getCause());
+          }
+        }
+        // Hedge a slow request, or fail over from a failed one
+        if (next < ordered.size()) {
+          futures.add(completionService.submit(ordered.get(next++).request(urlFormat, ring)));
+          inFlight++;
+        }
+      }
+      throw failure;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConfigurationException("Interrupted while reading from Agathon", e);
+    } finally {
+      for (Future<String> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private List<Endpoint> orderedEndpoints() {
+    List<Endpoint> ordered = Lists.newArrayList(endpoints);
+    Collections.sort(ordered, BY_HEALTH);
+    return ordered;
+  }
+
+  private static ConfigurationException asConfigurationException(Throwable cause) {
+    if (cause instanceof ConfigurationException) {
+      return (ConfigurationException) cause;
+    }
+    return new ConfigurationException("Unable to get configuration data from Agathon", cause);
+  }
+
+  private List<Endpoint> endpoints(String hosts, int defaultPort) {
+    ImmutableList.Builder<Endpoint> builder = ImmutableList.builder();
+    for (String host : HOST_SPLITTER.split(hosts)) {
+      int colon = host.lastIndexOf(':');
+      if (colon < 0) {
+        builder.add(new Endpoint(host, defaultPort));
+      } else {
+        builder.add(new Endpoint(host.substring(0, colon), Integer.parseInt(host.substring(colon + 1))));
+      }
+    }
+    List<Endpoint> endpoints = builder.build();
+    if (endpoints.isEmpty()) {
+      throw new ConfigurationException("No Agathon endpoints configured: " + hosts);
+    }
+    return endpoints;
   }
 
   @VisibleForTesting @Nullable String getDataFromUrl(String url) throws ConfigurationException {
     try {
       HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+      connection.setConnectTimeout(connectTimeoutMillis);
+      connection.setReadTimeout(readTimeoutMillis);
+      connection.setRequestProperty("Accept-Encoding", "gzip");
+      // Never disconnect; fully reading and closing the response lets the JDK reuse the connection
       if (!isSuccess(connection.getResponseCode())) {
+        drain(connection.getErrorStream());
         throw configurationException(url);
       }
       String data = readFrom(connection);
       LOG.info("Calling Agathon API {} returns {}", url, data);
-      InetAddress localHost = InetAddress.getLocalHost();
-      String localHostIp = localHost.getHostAddress();
-      LOG.info("Local ip is: {} ignoring if in seed list", localHostIp);
-      connection.disconnect();
       return data;
     } catch (IOException e) {
       throw configurationException(url, e);
     }
   }
 
-  private static String readFrom(URLConnection connection) throws IOException {
-    return CharStreams.toString(new InputStreamReader(connection.getInputStream(), "UTF-8"));
+  @VisibleForTesting static String readFrom(URLConnection connection) throws IOException {
+    InputStream in = connection.getInputStream();
+    try {
+      if (GZIP.equalsIgnoreCase(connection.getContentEncoding())) {
+        in = new GZIPInputStream(in);
+      }
+      return new String(read(in), Charsets.UTF_8);
+    } finally {
+      Closeables.closeQuietly(in);
+    }
+  }
+
+  private static void drain(@Nullable InputStream in) {
+    if (in == null) {
+      return;
+    }
+    try {
+      read(in);
+    } catch (IOException e) {
+      LOG.debug("Unable to read error response from Agathon", e);
+    } finally {
+      Closeables.closeQuietly(in);
+    }
+  }
+
+  private static byte[] read(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      if (out.size() + read > MAX_RESPONSE_BYTES) {
+        throw new IOException("Response from Agathon exceeds " + MAX_RESPONSE_BYTES + " bytes");
+      }
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
   }
 
   private static boolean isSuccess(int statusCode) {
@@ -104,4 +287,55 @@ public class AgathonConnector {
     return new ConfigurationException(message, e);
   }
 
+  /**
+   * An Agathon endpoint and its recent health.
+   */
+  private class Endpoint {
+    private static final double LATENCY_WEIGHT = 0.3;
+
+    private final String host;
+    private final int port;
+    // Hedged requests to the same endpoint may fail concurrently
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile double latencyMillis;
+
+    Endpoint(String host, int port) {
+      this.host = host;
+      this.port = port;
+    }
+
+    String getData(String urlFormat, String ring) throws ConfigurationException {
+      long start = System.nanoTime();
+      try {
+        String data = getDataFromUrl(String.format(urlFormat, host, port, ring));
+        recordSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return data;
+      } catch (RuntimeException e) {
+        consecutiveFailures.incrementAndGet();
+        throw e;
+      }
+    }
+
+    Callable<String> request(final String urlFormat, final String ring) {
+      return new Callable<String>() {
+        @Override
+        public String call() throws ConfigurationException {
+          return getData(urlFormat, ring);
+        }
+      };
+    }
+
+    private void recordSuccess(long elapsedMillis) {
+      consecutiveFailures.set(0);
+      latencyMillis = latencyMillis == 0
+          ? elapsedMillis
+          : LATENCY_WEIGHT * elapsedMillis + (1 - LATENCY_WEIGHT) * latencyMillis;
+    }
+
+    @Override
+    public String toString() {
+      return host + ":" + port;
+    }
+  }
+
 }
@@ -16,16 +16,33 @@
 
 package com.brighttag.agathon.cassandra;
 
+import java.io.File;
 import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.cassandra.locator.SeedProvider;
 import org.slf4j.Logger;
@@ -41,35 +58,73 @@ public class AgathonSeedProvider implements SeedProvider {
 
   private static final Logger LOG = LoggerFactory.getLogger(AgathonSeedProvider.class);
 
-  private final AgathonConnector connector;
-  private final String ringName;
-  private final @Nullable String localHost;
+  private static final int DEFAULT_SEED_CACHE_TTL_SECONDS = 60;
+  private static final int DEFAULT_RESOLVE_TIMEOUT_MILLIS = 2000;
+  private static final int DEFAULT_RESOLVE_CACHE_SECONDS = 60;
+  private static final int DEFAULT_RESOLVE_NEGATIVE_CACHE_SECONDS = 5;
+  private static final int RESOLVE_THREADS = 8;
+  private static final int RESOLVE_QUEUE_SIZE = 256;
+
+  private final SeedCache seedCache;
+  private final SeedResolver seedResolver;
+  private final Set<String> localAddresses;
 
   /**
    * Creates a new seed provider with {@code args} populated from {@code cassandra.yaml}.
    * @param params parameters for determining the correct seeds.
    *        Required: {@code agathon_host} and {@code ring_name}.
-   *        Optional: {@code agathon_port}
+   *        Optional: {@code agathon_port}, {@code agathon_connect_timeout_ms},
+   *        {@code agathon_read_timeout_ms}, {@code agathon_hedge_delay_ms},
+   *        {@code seed_cache_ttl_seconds}, {@code seed_cache_file}, {@code seed_resolve_timeout_ms},
+   *        {@code seed_resolve_cache_seconds} and {@code seed_resolve_negative_cache_seconds}
    */
   public AgathonSeedProvider(Map<String, String> params) {
-    this(new AgathonConnector(params.get("agathon_host"), tryParse(params.get("agathon_port"))),
-        params.get("ring_name"), getLocalAddress());
+    this(new SeedCache(
+        new AgathonConnector(params.get("agathon_host"), tryParse(params.get("agathon_port")),
+            tryParse(params.get("agathon_connect_timeout_ms")),
+            tryParse(params.get("agathon_read_timeout_ms")),
+            tryParse(params.get("agathon_hedge_delay_ms"))),
+        params.get("ring_name"),
+        intParam(params, "seed_cache_ttl_seconds", DEFAULT_SEED_CACHE_TTL_SECONDS),
+        TimeUnit.SECONDS, seedCacheFile(params), refreshExecutor()),
+        resolveExecutor(),
+        intParam(params, "seed_resolve_timeout_ms", DEFAULT_RESOLVE_TIMEOUT_MILLIS),
+        intParam(params, "seed_resolve_cache_seconds", DEFAULT_RESOLVE_CACHE_SECONDS),
+        intParam(params, "seed_resolve_negative_cache_seconds", DEFAULT_RESOLVE_NEGATIVE_CACHE_SECONDS),
+        getLocalAddresses());
   }
 
   @VisibleForTesting AgathonSeedProvider(AgathonConnector connector, String ringName, @Nullable InetAddress localAddress) {
+    this(new SeedCache(connector, ringName, DEFAULT_SEED_CACHE_TTL_SECONDS, TimeUnit.SECONDS,
+        null, MoreExecutors.sameThreadExecutor()), MoreExecutors.sameThreadExecutor(),
+        DEFAULT_RESOLVE_TIMEOUT_MILLIS, DEFAULT_RESOLVE_CACHE_SECONDS, DEFAULT_RESOLVE_NEGATIVE_CACHE_SECONDS,
+        localAddress != null
+            ? ImmutableSet.of(localAddress.getHostAddress())
+            : ImmutableSet.<String>of());
+  }
+
+  @VisibleForTesting AgathonSeedProvider(SeedCache seedCache, ExecutorService resolveExecutor,
+      int resolveTimeoutMillis, int resolveCacheSeconds, int resolveNegativeCacheSeconds,
+      Set<String> localAddresses) {
     LOG.info("Using AgathonSeedProvider!");
-    this.connector = connector;
-    this.ringName = ringName;
-    this.localHost = localAddress != null ? localAddress.getHostAddress() : null;
-    if (localHost == null) {
-      LOG.info("Could not determine local ip address ");
+    this.seedCache = seedCache;
+    this.seedResolver = new SeedResolver(new Function<String, InetAddress>() {
+      @Override
+      public InetAddress apply(String host) {
+        return getInetAddress(host);
+      }
+    }, resolveExecutor, resolveTimeoutMillis, TimeUnit.SECONDS.toMillis(resolveCacheSeconds),
+        TimeUnit.SECONDS.toMillis(resolveNegativeCacheSeconds), TimeUnit.MILLISECONDS);
+    this.localAddresses = localAddresses;
+    if (localAddresses.isEmpty()) {
+      LOG.info("Could not determine local ip addresses");
     }
   }
 
   @Override
   public List<InetAddress> getSeeds() {
     try {
-      return transform(connector.getSeeds(ringName));
+      return transform(seedResolver.resolve(seedCache.get()));
     } catch (ConfigurationException e) {
       throw Throwables.propagate(e);
     }
@@ -84,16 +139,46 @@ public class AgathonSeedProvider implements SeedProvider {
     }
   }
 
-  private List<InetAddress> transform(List<String> seeds) {
+  private static int intParam(Map<String, String> params, String name, int defaultValue) {
+    return Objects.firstNonNull(tryParse(params.get(name)), defaultValue);
+  }
+
+  // Not defaulted: a shared directory like java.io.tmpdir lets other users plant seeds
+  private static @Nullable File seedCacheFile(Map<String, String> params) {
+    String path = params.get("seed_cache_file");
+    if (path == null) {
+      LOG.info("No seed_cache_file configured; seeds won't be available while Agathon is down");
+      return null;
+    }
+    return new File(path);
+  }
+
+  private static Executor refreshExecutor() {
+    return Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+        .setNameFormat("agathon-seed-refresh-%d")
+        .setDaemon(true)
+        .build());
+  }
+
+  // Bounded, since hung lookups keep their threads until DNS gives up
+  private static ExecutorService resolveExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(RESOLVE_THREADS, RESOLVE_THREADS,
+        60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(RESOLVE_QUEUE_SIZE),
+        new ThreadFactoryBuilder()
+            .setNameFormat("agathon-seed-resolver-%d")
+            .setDaemon(true)
+            .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private List<InetAddress> transform(List<InetAddress> seeds) {
     ImmutableList.Builder<InetAddress> seedBuilder = ImmutableList.builder();
-    for (String seed : seeds) {
-      InetAddress address = getInetAddress(seed);
-      if (address != null) {
-        if (!address.getHostAddress().equals(localHost)) {
-          seedBuilder.add(address);
-        } else {
-          LOG.info("Ignoring seed: " + seed);
-        }
+    for (InetAddress address : seeds) {
+      if (!localAddresses.contains(address.getHostAddress())) {
+        seedBuilder.add(address);
+      } else {
+        LOG.info("Ignoring local seed: " + address);
       }
     }
     return seedBuilder.build();
@@ -110,15 +195,30 @@ public class AgathonSeedProvider implements SeedProvider {
     return null;
   }
 
-  private static @Nullable InetAddress getLocalAddress() {
+  private static Set<String> getLocalAddresses() {
+    ImmutableSet.Builder<String> addresses = ImmutableSet.builder();
     try {
-      return InetAddress.getLocalHost();
-    } catch (UnknownHostException e) {
+      Enumeration<NetworkInterface> networkInterfaces = NetworkInterface.getNetworkInterfaces();
+      if (networkInterfaces == null) {
+        return addresses.build();
+      }
+      for (NetworkInterface networkInterface : Collections.list(networkInterfaces)) {
+        for (InetAddress address : Collections.list(networkInterface.getInetAddresses())) {
+          addresses.add(withoutScope(address.getHostAddress()));
+        }
+      }
+    } catch (SocketException e) {
       if (LOG.isDebugEnabled()) {
-        LOG.debug("Unable to obtain local ip address", e);
+        LOG.debug("Unable to obtain local ip addresses", e);
       }
     }
-    return null;
+    return addresses.build();
+  }
+
+  // IPv6 interface addresses include a scope (like fe80::1%eth0) that resolved seeds don't
+  private static String withoutScope(String hostAddress) {
+    int percent = hostAddress.indexOf('%');
+    return percent < 0 ? hostAddress : hostAddress.substring(0, percent);
   }
 
 }
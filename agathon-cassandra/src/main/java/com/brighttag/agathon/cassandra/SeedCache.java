@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.cassandra;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the seed list for a ring, refreshing it in the background once it expires.
+ * <br/>
+ * Only the very first request (with no cached or persisted seeds) waits on Agathon. Afterwards,
+ * expired seeds are served while a single background refresh is in flight, and seeds are kept
+ * if the refresh fails. The last successful seed list is optionally persisted to a local file,
+ * which primes the cache at startup so that a node can boot while Agathon is unavailable.
+ *
+ * @since 10/18/2026
+ */
+public class SeedCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SeedCache.class);
+
+  private static final Joiner LINE_JOINER = Joiner.on('\n');
+
+  private final AgathonConnector connector;
+  private final String ringName;
+  private final long ttlNanos;
+  private final @Nullable File file;
+  private final Executor executor;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  private volatile @Nullable Snapshot snapshot;
+
+  /**
+   * Creates a new seed cache.
+   *
+   * @param connector connection to Agathon
+   * @param ringName the ring whose seeds are cached
+   * @param ttl how long seeds are fresh, in {@code unit}s
+   * @param unit the time unit for the {@code ttl}
+   * @param file where the last successful seed list is persisted, or {@code null} to disable
+   * @param executor executes background refreshes
+   */
+  public SeedCache(AgathonConnector connector, String ringName, long ttl, TimeUnit unit,
+      @Nullable File file, Executor executor) {
+    this.connector = connector;
+    this.ringName = ringName;
+    this.ttlNanos = unit.toNanos(ttl);
+    this.file = file;
+    this.executor = executor;
+    this.snapshot = readFrom(file);
+  }
+
+  /**
+   * Returns the cached seeds, loading them from Agathon if there are none.
+   *
+   * @return the seeds for the ring
+   * @throws ConfigurationException if there are no cached seeds and they couldn't be loaded
+   */
+  public List<String> get() throws ConfigurationException {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return load();
+    }
+    if (current.isExpired(System.nanoTime(), ttlNanos)) {
+      refreshAsync();
+    }
+    return current.seeds;
+  }
+
+  private synchronized List<String> load() throws ConfigurationException {
+    Snapshot current = snapshot;
+    if (current != null) {
+      return current.seeds;
+    }
+    return refresh().seeds;
+  }
+
+  private void refreshAsync() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            refresh();
+          } catch (RuntimeException e) {
+            LOG.warn("Unable to refresh seeds for ring " + ringName + "; using cached seeds", e);
+          } finally {
+            refreshing.set(false);
+          }
+        }
+      });
+    } catch (RuntimeException e) {
+      refreshing.set(false);
+      LOG.warn("Unable to schedule seed refresh for ring " + ringName, e);
+    }
+  }
+
+  private Snapshot refresh() throws ConfigurationException {
+    Snapshot refreshed = new Snapshot(connector.getSeeds(ringName), System.nanoTime());
+    snapshot = refreshed;
+    writeTo(file, refreshed.seeds);
+    return refreshed;
+  }
+
+  private @Nullable Snapshot readFrom(@Nullable File source) {
+    if (source == null || !source.isFile()) {
+      return null;
+    }
+    try {
+      ImmutableList.Builder<String> builder = ImmutableList.builder();
+      for (String line : Files.readLines(source, Charsets.UTF_8)) {
+        if (!line.trim().isEmpty()) {
+          builder.add(line.trim());
+        }
+      }
+      List<String> seeds = builder.build();
+      LOG.info("Loaded seeds for ring {} from {}: {}", new Object[] { ringName, source, seeds });
+      // Expired immediately so that the first request refreshes it from Agathon
+      return seeds.isEmpty() ? null : new Snapshot(seeds, System.nanoTime() - ttlNanos);
+    } catch (IOException e) {
+      LOG.warn("Unable to read seeds from " + source, e);
+      return null;
+    }
+  }
+
+  @VisibleForTesting void writeTo(@Nullable File target, List<String> seeds) {
+    // Never replace a useful fallback with an empty one
+    if (target == null || seeds.isEmpty()) {
+      return;
+    }
+    File temp = null;
+    try {
+      // A new, uniquely named file, so nothing planted at a predictable name is written through
+      temp = File.createTempFile(target.getName(), ".tmp", target.getAbsoluteFile().getParentFile());
+      Files.write(LINE_JOINER.join(seeds) + "\n", temp, Charsets.UTF_8);
+      Files.move(temp, target);
+    } catch (IOException e) {
+      LOG.warn("Unable to persist seeds to " + target, e);
+      if (temp != null && temp.exists() && !temp.delete()) {
+        LOG.warn("Unable to delete {}", temp);
+      }
+    }
+  }
+
+  private static class Snapshot {
+    private final List<String> seeds;
+    private final long loadedNanos;
+
+    Snapshot(List<String> seeds, long loadedNanos) {
+      this.seeds = ImmutableList.copyOf(seeds);
+      this.loadedNanos = loadedNanos;
+    }
+
+    boolean isExpired(long nowNanos, long ttlNanos) {
+      return nowNanos - loadedNanos >= ttlNanos;
+    }
+  }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.cassandra;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.net.InetAddresses;
+import com.google.common.util.concurrent.Futures;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves seed hostnames concurrently, caching the results.
+ * <br/>
+ * IP addresses (as returned by Agathon when it resolves the seeds) are used as-is, without DNS.
+ * Uncached hosts are looked up in parallel, and hosts which haven't resolved by the deadline
+ * are skipped. Successful lookups are cached for the positive TTL and failed ones for the
+ * (usually shorter) negative TTL, so repeated seed requests rarely touch DNS.
+ * <br/>
+ * Lookups can't be interrupted, so one that outlives its deadline (such as against a hung DNS
+ * server) is left to finish rather than cancelled, and isn't submitted again while it runs.
+ * Meanwhile the host's last resolved address is used if there is one, or it's skipped.
+ *
+ * @since 10/18/2026
+ */
+public class SeedResolver {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SeedResolver.class);
+
+  private final Function<String, InetAddress> lookup;
+  private final ExecutorService executor;
+  private final long timeoutNanos;
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+  private final ConcurrentMap<String, Resolution> cache = Maps.newConcurrentMap();
+  private final ConcurrentMap<String, Future<InetAddress>> inFlight = Maps.newConcurrentMap();
+
+  /**
+   * Creates a new seed resolver.
+   *
+   * @param lookup resolves a single host, returning {@code null} if it's unknown
+   * @param executor executes the lookups, which should be bounded
+   * @param timeout how long to wait for all lookups, in {@code unit}s
+   * @param ttl how long to cache resolved hosts, in {@code unit}s
+   * @param negativeTtl how long to cache unknown hosts, in {@code unit}s
+   * @param unit the time unit for the {@code timeout}, {@code ttl} and {@code negativeTtl}
+   */
+  public SeedResolver(Function<String, InetAddress> lookup, ExecutorService executor,
+      long timeout, long ttl, long negativeTtl, TimeUnit unit) {
+    this.lookup = lookup;
+    this.executor = executor;
+    this.timeoutNanos = unit.toNanos(timeout);
+    this.ttlNanos = unit.toNanos(ttl);
+    this.negativeTtlNanos = unit.toNanos(negativeTtl);
+  }
+
+  /**
+   * Resolves the hosts, skipping any that are unknown or didn't resolve in time.
+   *
+   * @param hosts the hosts to resolve
+   * @return the addresses of the resolved hosts, in order
+   */
+  public List<InetAddress> resolve(List<String> hosts) {
+    long now = System.nanoTime();
+    Map<String, Future<InetAddress>> resolutions = Maps.newLinkedHashMap();
+    for (String host : hosts) {
+      Resolution cached = cache.get(host);
+      if (InetAddresses.isInetAddress(host)) {
+        resolutions.put(host, Futures.immediateFuture(InetAddresses.forString(host)));
+      } else if (cached != null && !cached.isExpired(now)) {
+        resolutions.put(host, Futures.immediateFuture(cached.address));
+      } else if (!resolutions.containsKey(host)) {
+        resolutions.put(host, lookup(host, cached));
+      }
+    }
+    long deadline = now + timeoutNanos;
+    ImmutableList.Builder<InetAddress> addresses = ImmutableList.builder();
+    for (Map.Entry<String, Future<InetAddress>> entry : resolutions.entrySet()) {
+      InetAddress address = await(entry.getKey(), entry.getValue(), deadline);
+      if (address != null) {
+        addresses.add(address);
+      }
+    }
+    return addresses.build();
+  }
+
+  private Future<InetAddress> lookup(String host, @Nullable Resolution stale) {
+    FutureTask<InetAddress> task = new FutureTask<InetAddress>(lookupTask(host));
+    Future<InetAddress> running = inFlight.putIfAbsent(host, task);
+    if (running != null) {
+      return stale != null ? Futures.immediateFuture(stale.address) : running;
+    }
+    try {
+      executor.execute(task);
+      return task;
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(host, task);
+      LOG.warn("Too many pending lookups to resolve Cassandra host: {}", host);
+      return Futures.immediateFuture(stale != null ? stale.address : null);
+    }
+  }
+
+  private Callable<InetAddress> lookupTask(final String host) {
+    return new Callable<InetAddress>() {
+      @Override
+      public InetAddress call() {
+        try {
+          InetAddress address = lookup.apply(host);
+          long expires = System.nanoTime() + (address != null ? ttlNanos : negativeTtlNanos);
+          cache.put(host, new Resolution(address, expires));
+          return address;
+        } finally {
+          inFlight.remove(host);
+        }
+      }
+    };
+  }
+
+  private @Nullable InetAddress await(String host, Future<InetAddress> future, long deadline) {
+    try {
+      return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      LOG.warn("Timed out resolving Cassandra host: {}", host);
+    } catch (ExecutionException e) {
+      LOG.warn("Unable to resolve Cassandra host: " + host, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  private static class Resolution {
+    private final @Nullable InetAddress address;
+    private final long expiresNanos;
+
+    Resolution(@Nullable InetAddress address, long expiresNanos) {
+      this.address = address;
+      this.expiresNanos = expiresNanos;
+    }
+
+    boolean isExpired(long nowNanos) {
+      return nowNanos - expiresNanos >= 0;
+    }
+  }
+
+}
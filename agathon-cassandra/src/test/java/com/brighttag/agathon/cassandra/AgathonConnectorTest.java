@@ -16,6 +16,20 @@
 
 package com.brighttag.agathon.cassandra;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 
 import org.easymock.EasyMockSupport;
@@ -25,6 +39,7 @@ import org.junit.Test;
 
 import static org.easymock.EasyMock.expect;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * @author codyaray
@@ -56,4 +71,136 @@ public class AgathonConnectorTest extends EasyMockSupport {
     assertEquals(ImmutableList.of("host1", "host2", "host3"), connector.getSeeds("myring"));
   }
 
+  @Test
+  public void getSeeds_endpointPorts() throws Exception {
+    AgathonConnector connector = connector("host1:9000, host2", -1);
+    expect(connector.getDataFromUrl(url("host1", 9000))).andReturn("host1,host2");
+    replayAll();
+
+    assertEquals(ImmutableList.of("host1", "host2"), connector.getSeeds("myring"));
+  }
+
+  @Test
+  public void getSeeds_failsOver() throws Exception {
+    AgathonConnector connector = connector("host1,host2", -1);
+    expect(connector.getDataFromUrl(url("host1", 8094))).andThrow(new ConfigurationException("down"));
+    expect(connector.getDataFromUrl(url("host2", 8094))).andReturn("host1,host2");
+    replayAll();
+
+    assertEquals(ImmutableList.of("host1", "host2"), connector.getSeeds("myring"));
+  }
+
+  @Test
+  public void getSeeds_prefersHealthyEndpoints() throws Exception {
+    AgathonConnector connector = connector("host1,host2", -1);
+    expect(connector.getDataFromUrl(url("host1", 8094))).andThrow(new ConfigurationException("down"));
+    expect(connector.getDataFromUrl(url("host2", 8094))).andReturn("host1,host2").times(2);
+    replayAll();
+
+    connector.getSeeds("myring");
+    // host1 failed last time, so host2 is tried first
+    assertEquals(ImmutableList.of("host1", "host2"), connector.getSeeds("myring"));
+  }
+
+  @Test
+  public void getSeeds_allEndpointsFail() throws Exception {
+    ConfigurationException exception = new ConfigurationException("down");
+    AgathonConnector connector = connector("host1,host2", -1);
+    expect(connector.getDataFromUrl(url("host1", 8094))).andThrow(new ConfigurationException("down"));
+    expect(connector.getDataFromUrl(url("host2", 8094))).andThrow(exception);
+    replayAll();
+
+    try {
+      connector.getSeeds("myring");
+      fail("Expected a ConfigurationException");
+    } catch (ConfigurationException e) {
+      assertEquals(exception, e);
+    }
+  }
+
+  @Test
+  public void getSeeds_hedgesSlowEndpoint() throws Exception {
+    replayAll();
+    final CountDownLatch release = new CountDownLatch(1);
+    AgathonConnector connector = new AgathonConnector("host1,host2", 8094, null, null, 10) {
+      @Override
+      String getDataFromUrl(String url) {
+        if (url.equals(url("host1", 8094))) {
+          await(release);
+          return "slow";
+        }
+        return "host1,host2";
+      }
+    };
+
+    try {
+      assertEquals(ImmutableList.of("host1", "host2"), connector.getSeeds("myring"));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void readFrom() throws Exception {
+    replayAll();
+    URLConnection connection = connection("host1,host2".getBytes(Charsets.UTF_8), null);
+    assertEquals("host1,host2", AgathonConnector.readFrom(connection));
+  }
+
+  @Test
+  public void readFrom_gzip() throws Exception {
+    replayAll();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GZIPOutputStream gzip = new GZIPOutputStream(bytes);
+    gzip.write("host1,host2".getBytes(Charsets.UTF_8));
+    gzip.close();
+    assertEquals("host1,host2", AgathonConnector.readFrom(connection(bytes.toByteArray(), "gzip")));
+  }
+
+  @Test(expected = IOException.class)
+  public void readFrom_tooLarge() throws Exception {
+    replayAll();
+    String data = Strings.repeat("x", AgathonConnector.MAX_RESPONSE_BYTES + 1);
+    AgathonConnector.readFrom(connection(data.getBytes(Charsets.UTF_8), null));
+  }
+
+  private static URLConnection connection(final byte[] body, @Nullable final String contentEncoding)
+      throws IOException {
+    return new URLConnection(new URL("http://localhost:8094/")) {
+      @Override
+      public void connect() {
+      }
+
+      @Override
+      public InputStream getInputStream() {
+        return new ByteArrayInputStream(body);
+      }
+
+      @Override
+      public String getHeaderField(String name) {
+        return "content-encoding".equalsIgnoreCase(name) ? contentEncoding : null;
+      }
+    };
+  }
+
+  private AgathonConnector connector(String hosts, int hedgeDelayMillis) {
+    return createMockBuilder(AgathonConnector.class)
+        .withConstructor(String.class, Integer.class, Integer.class, Integer.class, Integer.class)
+        .withArgs(hosts, null, null, null, hedgeDelayMillis)
+        .addMockedMethod("getDataFromUrl", String.class)
+        .createMock();
+  }
+
+  private static String url(String host, int port) {
+    return String.format(AgathonConnector.SEED_URL, host, port, "myring");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      // Cancelled once the hedged request wins
+    }
+  }
+
 }
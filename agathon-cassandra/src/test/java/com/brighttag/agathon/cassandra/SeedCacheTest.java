@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.cassandra;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/18/2026
+ */
+public class SeedCacheTest extends EasyMockSupport {
+
+  private static final String RING_NAME = "ring";
+  private static final List<String> SEEDS = ImmutableList.of("host1", "host2");
+  private static final List<String> NEW_SEEDS = ImmutableList.of("host3");
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private AgathonConnector connector;
+  private File file;
+
+  @Before
+  public void setUp() {
+    connector = createMock(AgathonConnector.class);
+    file = new File(folder.getRoot(), "seeds");
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void get_cachedUntilExpired() throws Exception {
+    expect(connector.getSeeds(RING_NAME)).andReturn(SEEDS).once();
+    replayAll();
+
+    SeedCache cache = cache(1, TimeUnit.HOURS);
+    assertEquals(SEEDS, cache.get());
+    assertEquals(SEEDS, cache.get());
+  }
+
+  @Test
+  public void get_expiredRefreshesInBackground() throws Exception {
+    expect(connector.getSeeds(RING_NAME)).andReturn(SEEDS);
+    expect(connector.getSeeds(RING_NAME)).andReturn(NEW_SEEDS).times(2);
+    replayAll();
+
+    SeedCache cache = cache(0, TimeUnit.SECONDS);
+    assertEquals(SEEDS, cache.get());
+    // Expired seeds are returned while the refresh runs
+    assertEquals(SEEDS, cache.get());
+    assertEquals(NEW_SEEDS, cache.get());
+  }
+
+  @Test
+  public void get_refreshFailureKeepsSeeds() throws Exception {
+    expect(connector.getSeeds(RING_NAME)).andReturn(SEEDS);
+    expect(connector.getSeeds(RING_NAME)).andThrow(new ConfigurationException("down")).times(2);
+    replayAll();
+
+    SeedCache cache = cache(0, TimeUnit.SECONDS);
+    assertEquals(SEEDS, cache.get());
+    assertEquals(SEEDS, cache.get());
+    assertEquals(SEEDS, cache.get());
+  }
+
+  @Test
+  public void get_initialLoadFailure() throws Exception {
+    ConfigurationException exception = new ConfigurationException("down");
+    expect(connector.getSeeds(RING_NAME)).andThrow(exception);
+    replayAll();
+
+    try {
+      cache(1, TimeUnit.HOURS).get();
+      fail("Expected a ConfigurationException");
+    } catch (ConfigurationException e) {
+      assertEquals(exception, e);
+    }
+  }
+
+  @Test
+  public void get_persistsSeeds() throws Exception {
+    expect(connector.getSeeds(RING_NAME)).andReturn(SEEDS);
+    replayAll();
+
+    cache(1, TimeUnit.HOURS).get();
+    assertEquals(SEEDS, Files.readLines(file, Charsets.UTF_8));
+  }
+
+  @Test
+  public void get_emptySeedsNotPersisted() throws Exception {
+    expect(connector.getSeeds(RING_NAME)).andReturn(ImmutableList.<String>of());
+    replayAll();
+
+    cache(1, TimeUnit.HOURS).get();
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void get_persistedThroughNewTempFile() throws Exception {
+    File planted = new File(file.getPath() + ".tmp");
+    Files.write("planted\n", planted, Charsets.UTF_8);
+    expect(connector.getSeeds(RING_NAME)).andReturn(SEEDS);
+    replayAll();
+
+    cache(1, TimeUnit.HOURS).get();
+    assertEquals(SEEDS, Files.readLines(file, Charsets.UTF_8));
+    assertEquals(ImmutableList.of("planted"), Files.readLines(planted, Charsets.UTF_8));
+    assertEquals(2, folder.getRoot().list().length);
+  }
+
+  @Test
+  public void get_startsFromPersistedSeeds() throws Exception {
+    Files.write("host1\nhost2\n\n", file, Charsets.UTF_8);
+    expect(connector.getSeeds(RING_NAME)).andThrow(new ConfigurationException("down"));
+    replayAll();
+
+    // Persisted seeds are expired, so the first request tries to refresh them
+    assertEquals(SEEDS, cache(1, TimeUnit.HOURS).get());
+  }
+
+  @Test
+  public void get_persistedSeedsReplacedOnRefresh() throws Exception {
+    Files.write("host1\nhost2\n", file, Charsets.UTF_8);
+    expect(connector.getSeeds(RING_NAME)).andReturn(NEW_SEEDS);
+    replayAll();
+
+    SeedCache cache = cache(1, TimeUnit.HOURS);
+    assertEquals(SEEDS, cache.get());
+    assertEquals(NEW_SEEDS, cache.get());
+    assertEquals(NEW_SEEDS, Files.readLines(file, Charsets.UTF_8));
+  }
+
+  private SeedCache cache(long ttl, TimeUnit unit) {
+    return new SeedCache(connector, RING_NAME, ttl, unit, file, MoreExecutors.sameThreadExecutor());
+  }
+
+}
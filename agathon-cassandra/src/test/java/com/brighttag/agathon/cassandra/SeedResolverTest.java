@@ -0,0 +1,217 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.cassandra;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 10/18/2026
+ */
+public class SeedResolverTest {
+
+  private static final InetAddress ADDR1 = address(1);
+  private static final InetAddress ADDR2 = address(2);
+
+  private final List<String> lookups = Lists.newArrayList();
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void resolve() {
+    SeedResolver resolver = resolver(ImmutableMap.of("host1", ADDR1, "host2", ADDR2), 1, 1);
+    assertEquals(ImmutableList.of(ADDR1, ADDR2), resolver.resolve(ImmutableList.of("host1", "host2")));
+  }
+
+  @Test
+  public void resolve_unknownHost() {
+    SeedResolver resolver = resolver(ImmutableMap.of("host1", ADDR1), 1, 1);
+    assertEquals(ImmutableList.of(ADDR1), resolver.resolve(ImmutableList.of("host1", "host2")));
+  }
+
+  @Test
+  public void resolve_ipAddressesNotLookedUp() throws Exception {
+    SeedResolver resolver = resolver(ImmutableMap.of("host1", ADDR1), 1, 1);
+    assertEquals(ImmutableList.of(ADDR1, InetAddress.getByName("10.0.0.2")),
+        resolver.resolve(ImmutableList.of("host1", "10.0.0.2")));
+    assertEquals(ImmutableList.of("host1"), lookups);
+  }
+
+  @Test
+  public void resolve_cached() {
+    SeedResolver resolver = resolver(ImmutableMap.of("host1", ADDR1), 1, 1);
+    resolver.resolve(ImmutableList.of("host1", "host2"));
+    assertEquals(ImmutableList.of(ADDR1), resolver.resolve(ImmutableList.of("host1", "host2")));
+    assertEquals(ImmutableList.of("host1", "host2"), lookups);
+  }
+
+  @Test
+  public void resolve_negativeCacheExpires() {
+    SeedResolver resolver = resolver(ImmutableMap.of("host1", ADDR1), 1, 0);
+    resolver.resolve(ImmutableList.of("host1", "host2"));
+    resolver.resolve(ImmutableList.of("host1", "host2"));
+    assertEquals(ImmutableList.of("host1", "host2", "host2"), lookups);
+  }
+
+  @Test
+  public void resolve_concurrently() {
+    // Each lookup waits for the other to start, so they only finish if they run concurrently
+    final CountDownLatch started = new CountDownLatch(2);
+    SeedResolver resolver = new SeedResolver(new Function<String, InetAddress>() {
+      @Override
+      public InetAddress apply(String host) {
+        started.countDown();
+        return await(started) ? ADDR1 : null;
+      }
+    }, executor, 10, 1, 1, TimeUnit.SECONDS);
+    assertEquals(ImmutableList.of(ADDR1, ADDR1), resolver.resolve(ImmutableList.of("host1", "host2")));
+  }
+
+  @Test
+  public void resolve_skipsSlowHosts() {
+    final CountDownLatch release = new CountDownLatch(1);
+    SeedResolver resolver = new SeedResolver(new Function<String, InetAddress>() {
+      @Override
+      public InetAddress apply(String host) {
+        if (host.equals("slow")) {
+          await(release);
+        }
+        return ADDR1;
+      }
+    }, executor, 50, 1000, 1000, TimeUnit.MILLISECONDS);
+    try {
+      assertEquals(ImmutableList.of(ADDR1), resolver.resolve(ImmutableList.of("host1", "slow")));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void resolve_hungLookupNotResubmitted() {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger slowLookups = new AtomicInteger();
+    SeedResolver resolver = new SeedResolver(new Function<String, InetAddress>() {
+      @Override
+      public InetAddress apply(String host) {
+        if (host.equals("slow")) {
+          slowLookups.incrementAndGet();
+          await(release);
+        }
+        return ADDR1;
+      }
+    }, executor, 50, 1000, 1000, TimeUnit.MILLISECONDS);
+    try {
+      assertEquals(ImmutableList.of(ADDR1), resolver.resolve(ImmutableList.of("host1", "slow")));
+      assertEquals(ImmutableList.of(ADDR1), resolver.resolve(ImmutableList.of("host1", "slow")));
+      assertEquals(1, slowLookups.get());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void resolve_staleAddressWhileLookupHangs() {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger lookupCount = new AtomicInteger();
+    SeedResolver resolver = new SeedResolver(new Function<String, InetAddress>() {
+      @Override
+      public InetAddress apply(String host) {
+        // The first lookup succeeds, and later ones hang
+        if (lookupCount.incrementAndGet() > 1) {
+          await(release);
+        }
+        return ADDR1;
+      }
+    }, executor, 50, 0, 0, TimeUnit.MILLISECONDS);
+    try {
+      assertEquals(ImmutableList.of(ADDR1), resolver.resolve(ImmutableList.of("host1")));
+      // The refresh times out, and then the stale address is used while it's still running
+      assertEquals(ImmutableList.of(), resolver.resolve(ImmutableList.of("host1")));
+      assertEquals(ImmutableList.of(ADDR1), resolver.resolve(ImmutableList.of("host1")));
+      assertEquals(2, lookupCount.get());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void resolve_rejectedLookupSkipped() {
+    SeedResolver resolver = new SeedResolver(new Function<String, InetAddress>() {
+      @Override
+      public InetAddress apply(String host) {
+        return ADDR1;
+      }
+    }, executor, 1, 1, 1, TimeUnit.SECONDS);
+    executor.shutdown();
+    assertEquals(ImmutableList.of(), resolver.resolve(ImmutableList.of("host1")));
+  }
+
+  private SeedResolver resolver(final Map<String, InetAddress> addresses, long ttl, long negativeTtl) {
+    return new SeedResolver(new Function<String, InetAddress>() {
+      @Override
+      public InetAddress apply(String host) {
+        lookups.add(host);
+        return addresses.get(host);
+      }
+    }, MoreExecutors.sameThreadExecutor(), 1, ttl, negativeTtl, TimeUnit.HOURS);
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      return false;
+    }
+  }
+
+  private static InetAddress address(int last) {
+    try {
+      return InetAddress.getByAddress(new byte[] { 10, 0, 0, (byte) last });
+    } catch (UnknownHostException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+}
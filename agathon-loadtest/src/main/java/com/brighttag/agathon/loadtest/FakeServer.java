@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.mortbay.jetty.Connector;
+import org.mortbay.jetty.Server;
+import org.mortbay.jetty.nio.SelectChannelConnector;
+
+/**
+ * Base class for the local stand-ins for Agathon's remote backing stores.
+ * Each server listens on an ephemeral loopback port, so no network access is needed.
+ *
+ * @since 10/18/2026
+ */
+public abstract class FakeServer {
+
+  private final Server server = new Server();
+  private final Connector connector = new SelectChannelConnector();
+  private final long latencyMillis;
+
+  /**
+   * @param latencyMillis the simulated round-trip latency added to each request
+   */
+  protected FakeServer(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  /**
+   * Installs the handlers that implement the fake.
+   */
+  protected abstract void configure(Server server);
+
+  /**
+   * Start the fake server on an ephemeral port.
+   * @throws IOException if a problem occurs starting the server.
+   */
+  public void start() throws IOException {
+    connector.setHost("127.0.0.1");
+    connector.setPort(0);
+    server.addConnector(connector);
+    configure(server);
+    try {
+      server.start();
+    } catch (Exception e) {
+      // Ok to catch Exception here
+      throw new IOException("Unable to start " + getClass().getSimpleName(), e);
+    }
+  }
+
+  /**
+   * Stop the fake server.
+   * @throws IOException if a problem occurs stopping the server.
+   */
+  public void stop() throws IOException {
+    try {
+      server.stop();
+    } catch (Exception e) {
+      // Ok to catch Exception here
+      throw new IOException("Unable to stop " + getClass().getSimpleName(), e);
+    }
+  }
+
+  /**
+   * Sleeps for the simulated round-trip latency, if any.
+   */
+  protected void simulateLatency() {
+    if (latencyMillis > 0) {
+      try {
+        TimeUnit.MILLISECONDS.sleep(latencyMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Returns the base url of the running server, such as "http://127.0.0.1:1234".
+   */
+  public String getUrl() {
+    return "http://127.0.0.1:" + connector.getLocalPort();
+  }
+
+}
@@ -0,0 +1,513 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+
+import org.mortbay.jetty.Request;
+import org.mortbay.jetty.Server;
+import org.mortbay.jetty.handler.AbstractHandler;
+
+/**
+ * A stand-in for Amazon SimpleDB that keeps its domains in memory.
+ *
+ * Implements the subset of the SimpleDB query API used by Agathon: domain management, single and
+ * batch attribute puts and deletes, and selects with simple comparisons joined by {@code and},
+ * attribute projections, {@code LIMIT} and paging. Signatures aren't checked.
+ *
+ * @since 10/18/2026
+ */
+public class FakeSimpleDbServer extends FakeServer {
+
+  private static final String NAMESPACE = "http://sdb.amazonaws.com/doc/2009-04-15/";
+  private static final int DEFAULT_LIMIT = 100;
+  private static final int MAX_LIMIT = 2500;
+
+  private static final Pattern SELECT_PATTERN = Pattern.compile(
+      "select\\s+(.+?)\\s+from\\s+`?([^`\\s]+)`?(?:\\s+where\\s+(.+?))?(?:\\s+limit\\s+(\\d+))?\\s*",
+      Pattern.CASE_INSENSITIVE);
+  private static final Pattern COMPARISON_PATTERN = Pattern.compile(
+      "`?([\\w.]+|itemName\\(\\))`?\\s*(=|!=|>=|<=|>|<)\\s*'((?:[^']|'')*)'", Pattern.CASE_INSENSITIVE);
+  private static final Pattern NULL_PATTERN = Pattern.compile(
+      "`?([\\w.]+)`?\\s+is\\s+(not\\s+)?null", Pattern.CASE_INSENSITIVE);
+  private static final Splitter AND_SPLITTER = Splitter.on(Pattern.compile("\\s+and\\s+",
+      Pattern.CASE_INSENSITIVE)).trimResults();
+  private static final Splitter COMMA_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+  // domain -> item name -> attribute name -> values
+  private final Map<String, Map<String, SetMultimap<String, String>>> domains = Maps.newHashMap();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * @param latencyMillis the simulated round-trip latency added to each request
+   */
+  public FakeSimpleDbServer(long latencyMillis) {
+    super(latencyMillis);
+  }
+
+  @Override
+  protected void configure(Server server) {
+    server.setHandler(new AbstractHandler() {
+      @Override
+      public void handle(String target, HttpServletRequest request, HttpServletResponse response,
+          int dispatch) throws IOException {
+        simulateLatency();
+        String action = request.getParameter("Action");
+        Xml xml;
+        try {
+          xml = dispatch(action, request);
+          response.setStatus(HttpServletResponse.SC_OK);
+        } catch (SimpleDbError e) {
+          xml = e.toXml();
+          response.setStatus(e.status);
+        }
+        byte[] body = xml.toString().getBytes(Charsets.UTF_8);
+        response.setContentType("text/xml");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        ((Request) request).setHandled(true);
+      }
+    });
+  }
+
+  // Checkstyle ignore: CyclomaticComplexity
+  private Xml dispatch(@Nullable String action, HttpServletRequest request) throws SimpleDbError {
+    if ("Select".equals(action)) {
+      return select(request.getParameter("SelectExpression"), request.getParameter("NextToken"));
+    } else if ("GetAttributes".equals(action)) {
+      return getAttributes(request.getParameter("DomainName"), request.getParameter("ItemName"),
+          indexedParameters(request, "AttributeName."));
+    } else if ("PutAttributes".equals(action)) {
+      return putAttributes(request.getParameter("DomainName"),
+          request.getParameter("ItemName"), request, "");
+    } else if ("BatchPutAttributes".equals(action)) {
+      return batchPutAttributes(request.getParameter("DomainName"), request);
+    } else if ("DeleteAttributes".equals(action)) {
+      return deleteAttributes(request.getParameter("DomainName"),
+          request.getParameter("ItemName"), request, "");
+    } else if ("BatchDeleteAttributes".equals(action)) {
+      return batchDeleteAttributes(request.getParameter("DomainName"), request);
+    } else if ("ListDomains".equals(action)) {
+      return listDomains();
+    } else if ("CreateDomain".equals(action)) {
+      return createDomain(request.getParameter("DomainName"));
+    } else if ("DeleteDomain".equals(action)) {
+      return deleteDomain(request.getParameter("DomainName"));
+    }
+    throw new SimpleDbError(HttpServletResponse.SC_BAD_REQUEST, "InvalidAction",
+        "The action " + action + " is not valid for this web service.");
+  }
+
+  private Xml listDomains() {
+    Xml xml = new Xml("ListDomains");
+    lock.readLock().lock();
+    try {
+      for (String domain : domains.keySet()) {
+        xml.element("DomainName", domain);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return xml.end();
+  }
+
+  private Xml createDomain(String domain) {
+    lock.writeLock().lock();
+    try {
+      if (!domains.containsKey(domain)) {
+        domains.put(domain, Maps.<String, SetMultimap<String, String>>newLinkedHashMap());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return new Xml("CreateDomain").end();
+  }
+
+  private Xml deleteDomain(String domain) {
+    lock.writeLock().lock();
+    try {
+      domains.remove(domain);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return new Xml("DeleteDomain").end();
+  }
+
+  private Xml getAttributes(String domain, String itemName, List<String> names) throws SimpleDbError {
+    Xml xml = new Xml("GetAttributes");
+    lock.readLock().lock();
+    try {
+      SetMultimap<String, String> item = domain(domain).get(itemName);
+      if (item != null) {
+        xml.attributes(item, names.isEmpty() ? null : names);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return xml.end();
+  }
+
+  private Xml putAttributes(String domain, String itemName, HttpServletRequest request, String prefix)
+      throws SimpleDbError {
+    lock.writeLock().lock();
+    try {
+      put(domain(domain), itemName, request, prefix);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return new Xml("PutAttributes").end();
+  }
+
+  private Xml batchPutAttributes(String domain, HttpServletRequest request) throws SimpleDbError {
+    lock.writeLock().lock();
+    try {
+      Map<String, SetMultimap<String, String>> items = domain(domain);
+      for (int i = 1; request.getParameter("Item." + i + ".ItemName") != null; i++) {
+        put(items, request.getParameter("Item." + i + ".ItemName"), request, "Item." + i + ".");
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return new Xml("BatchPutAttributes").end();
+  }
+
+  private Xml deleteAttributes(String domain, String itemName, HttpServletRequest request, String prefix)
+      throws SimpleDbError {
+    lock.writeLock().lock();
+    try {
+      delete(domain(domain), itemName, request, prefix);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return new Xml("DeleteAttributes").end();
+  }
+
+  private Xml batchDeleteAttributes(String domain, HttpServletRequest request) throws SimpleDbError {
+    lock.writeLock().lock();
+    try {
+      Map<String, SetMultimap<String, String>> items = domain(domain);
+      for (int i = 1; request.getParameter("Item." + i + ".ItemName") != null; i++) {
+        delete(items, request.getParameter("Item." + i + ".ItemName"), request, "Item." + i + ".");
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return new Xml("BatchDeleteAttributes").end();
+  }
+
+  private Xml select(String expression, @Nullable String nextToken) throws SimpleDbError {
+    Matcher m = SELECT_PATTERN.matcher(expression);
+    if (!m.matches()) {
+      throw invalidQuery(expression);
+    }
+    List<String> projection = projection(m.group(1));
+    List<Predicate> predicates = predicates(m.group(3), expression);
+    int limit = m.group(4) == null ? DEFAULT_LIMIT : Math.min(Integer.parseInt(m.group(4)), MAX_LIMIT);
+    int offset = nextToken == null ? 0 : Integer.parseInt(nextToken);
+
+    Xml xml = new Xml("Select");
+    lock.readLock().lock();
+    try {
+      int matched = 0;
+      for (Map.Entry<String, SetMultimap<String, String>> item : domain(m.group(2)).entrySet()) {
+        if (!matches(item.getKey(), item.getValue(), predicates)) {
+          continue;
+        }
+        if (matched >= offset + limit) {
+          xml.element("NextToken", String.valueOf(matched));
+          break;
+        }
+        if (matched++ >= offset) {
+          xml.start("Item").element("Name", item.getKey());
+          if (!projection.contains("itemName()")) {
+            xml.attributes(item.getValue(), projection.contains("*") ? null : projection);
+          }
+          xml.end("Item");
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return xml.end();
+  }
+
+  private Map<String, SetMultimap<String, String>> domain(String domain) throws SimpleDbError {
+    Map<String, SetMultimap<String, String>> items = domains.get(domain);
+    if (items == null) {
+      throw new SimpleDbError(HttpServletResponse.SC_BAD_REQUEST, "NoSuchDomain",
+          "The specified domain does not exist.");
+    }
+    return items;
+  }
+
+  private static void put(Map<String, SetMultimap<String, String>> items, String itemName,
+      HttpServletRequest request, String prefix) {
+    SetMultimap<String, String> item = items.get(itemName);
+    if (item == null) {
+      item = LinkedHashMultimap.create();
+      items.put(itemName, item);
+    }
+    // Replace all values before adding any, so multiple values may replace an attribute
+    for (int i = 1; request.getParameter(prefix + "Attribute." + i + ".Name") != null; i++) {
+      if (Boolean.parseBoolean(request.getParameter(prefix + "Attribute." + i + ".Replace"))) {
+        item.removeAll(request.getParameter(prefix + "Attribute." + i + ".Name"));
+      }
+    }
+    for (int i = 1; request.getParameter(prefix + "Attribute." + i + ".Name") != null; i++) {
+      item.put(request.getParameter(prefix + "Attribute." + i + ".Name"),
+          request.getParameter(prefix + "Attribute." + i + ".Value"));
+    }
+  }
+
+  private static void delete(Map<String, SetMultimap<String, String>> items, String itemName,
+      HttpServletRequest request, String prefix) {
+    SetMultimap<String, String> item = items.get(itemName);
+    if (item == null) {
+      return;
+    }
+    if (request.getParameter(prefix + "Attribute.1.Name") == null) {
+      items.remove(itemName);
+      return;
+    }
+    for (int i = 1; request.getParameter(prefix + "Attribute." + i + ".Name") != null; i++) {
+      String name = request.getParameter(prefix + "Attribute." + i + ".Name");
+      String value = request.getParameter(prefix + "Attribute." + i + ".Value");
+      if (value == null) {
+        item.removeAll(name);
+      } else {
+        item.remove(name, value);
+      }
+    }
+    if (item.isEmpty()) {
+      items.remove(itemName);
+    }
+  }
+
+  private static List<String> indexedParameters(HttpServletRequest request, String prefix) {
+    List<String> values = Lists.newArrayList();
+    for (int i = 1; request.getParameter(prefix + i) != null; i++) {
+      values.add(request.getParameter(prefix + i));
+    }
+    return values;
+  }
+
+  private static List<String> projection(String output) {
+    ImmutableList.Builder<String> names = ImmutableList.builder();
+    for (String name : COMMA_SPLITTER.split(output)) {
+      names.add(name.replace("`", ""));
+    }
+    return names.build();
+  }
+
+  private static List<Predicate> predicates(@Nullable String where, String expression)
+      throws SimpleDbError {
+    List<Predicate> predicates = Lists.newArrayList();
+    if (where == null) {
+      return predicates;
+    }
+    for (String clause : AND_SPLITTER.split(where)) {
+      Matcher comparison = COMPARISON_PATTERN.matcher(clause);
+      Matcher isNull = NULL_PATTERN.matcher(clause);
+      if (comparison.matches()) {
+        predicates.add(new Predicate(comparison.group(1), comparison.group(2),
+            comparison.group(3).replace("''", "'")));
+      } else if (isNull.matches()) {
+        predicates.add(new Predicate(isNull.group(1), isNull.group(2) == null ? "is null" : "is not null",
+            null));
+      } else {
+        throw invalidQuery(expression);
+      }
+    }
+    return predicates;
+  }
+
+  private static boolean matches(String itemName, SetMultimap<String, String> item,
+      List<Predicate> predicates) {
+    for (Predicate predicate : predicates) {
+      if (!predicate.apply(itemName, item)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static SimpleDbError invalidQuery(String expression) {
+    return new SimpleDbError(HttpServletResponse.SC_BAD_REQUEST, "InvalidQueryExpression",
+        "The specified query expression syntax is not valid: " + expression);
+  }
+
+  /**
+   * A single comparison in a select's where clause. SimpleDB compares all values as strings,
+   * and a multi-valued attribute matches if any of its values do.
+   */
+  private static class Predicate {
+
+    private final String attribute;
+    private final String operator;
+    private final @Nullable String operand;
+
+    Predicate(String attribute, String operator, @Nullable String operand) {
+      this.attribute = attribute;
+      this.operator = operator;
+      this.operand = operand;
+    }
+
+    boolean apply(String itemName, SetMultimap<String, String> item) {
+      if ("is null".equals(operator)) {
+        return !item.containsKey(attribute);
+      } else if ("is not null".equals(operator)) {
+        return item.containsKey(attribute);
+      }
+      Iterable<String> values = "itemName()".equalsIgnoreCase(attribute)
+          ? ImmutableList.of(itemName) : item.get(attribute);
+      for (String value : values) {
+        if (compare(value.compareTo(operand))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean compare(int cmp) {
+      if ("=".equals(operator)) {
+        return cmp == 0;
+      } else if ("!=".equals(operator)) {
+        return cmp != 0;
+      } else if (">".equals(operator)) {
+        return cmp > 0;
+      } else if (">=".equals(operator)) {
+        return cmp >= 0;
+      } else if ("<".equals(operator)) {
+        return cmp < 0;
+      }
+      return cmp <= 0;
+    }
+  }
+
+  /**
+   * An error response from SimpleDB.
+   */
+  private static class SimpleDbError extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+    private final String code;
+
+    SimpleDbError(int status, String code, String message) {
+      super(message);
+      this.status = status;
+      this.code = code;
+    }
+
+    Xml toXml() {
+      StringBuilder xml = new StringBuilder("<?xml version=\"1.0\"?>\n<Response><Errors><Error>");
+      xml.append("<Code>").append(code).append("</Code>");
+      xml.append("<Message>").append(Xml.escape(getMessage())).append("</Message>");
+      xml.append("<BoxUsage>0.0000219907</BoxUsage></Error></Errors>");
+      xml.append("<RequestID>").append(UUID.randomUUID()).append("</RequestID></Response>");
+      return new Xml(xml);
+    }
+  }
+
+  /**
+   * Builds a SimpleDB response document, such as {@code <SelectResponse><SelectResult>...}.
+   */
+  private static class Xml {
+
+    private final StringBuilder xml;
+    private final @Nullable String action;
+
+    Xml(String action) {
+      this.xml = new StringBuilder("<?xml version=\"1.0\"?>\n");
+      this.action = action;
+      xml.append('<').append(action).append("Response xmlns=\"").append(NAMESPACE).append("\">");
+      xml.append('<').append(action).append("Result>");
+    }
+
+    private Xml(StringBuilder xml) {
+      this.xml = xml;
+      this.action = null;
+    }
+
+    Xml start(String name) {
+      xml.append('<').append(name).append('>');
+      return this;
+    }
+
+    Xml end(String name) {
+      xml.append("</").append(name).append('>');
+      return this;
+    }
+
+    Xml element(String name, String value) {
+      return start(name).text(value).end(name);
+    }
+
+    Xml attributes(SetMultimap<String, String> item, @Nullable List<String> names) {
+      for (Map.Entry<String, String> attribute : item.entries()) {
+        if (names == null || names.contains(attribute.getKey())) {
+          start("Attribute").element("Name", attribute.getKey()).element("Value", attribute.getValue())
+              .end("Attribute");
+        }
+      }
+      return this;
+    }
+
+    Xml end() {
+      end(action + "Result");
+      xml.append("<ResponseMetadata><RequestId>").append(UUID.randomUUID()).append("</RequestId>");
+      xml.append("<BoxUsage>0.0000219907</BoxUsage></ResponseMetadata>");
+      return end(action + "Response");
+    }
+
+    private Xml text(String value) {
+      xml.append(escape(value));
+      return this;
+    }
+
+    static String escape(String value) {
+      return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+          .replace("\"", "&quot;");
+    }
+
+    @Override
+    public String toString() {
+      return xml.toString();
+    }
+  }
+
+}
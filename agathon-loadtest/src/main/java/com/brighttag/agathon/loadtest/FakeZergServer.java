@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.mortbay.jetty.Request;
+import org.mortbay.jetty.Server;
+import org.mortbay.jetty.handler.AbstractHandler;
+
+/**
+ * A stand-in for Zerg that serves a fixed manifest on every path.
+ *
+ * @since 10/18/2026
+ */
+public class FakeZergServer extends FakeServer {
+
+  private final byte[] manifest;
+
+  /**
+   * @param manifest the JSON manifest to serve
+   * @param latencyMillis the simulated round-trip latency added to each request
+   */
+  public FakeZergServer(byte[] manifest, long latencyMillis) {
+    super(latencyMillis);
+    this.manifest = manifest.clone();
+  }
+
+  /**
+   * Returns the manifest url for the manager, such as "http://localhost:1234/manifest/environment/prod/".
+   */
+  public String getManifestUrl() {
+    return getUrl() + "/manifest/environment/prod/";
+  }
+
+  @Override
+  protected void configure(Server server) {
+    server.setHandler(new AbstractHandler() {
+      @Override
+      public void handle(String target, HttpServletRequest request, HttpServletResponse response,
+          int dispatch) throws IOException {
+        simulateLatency();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/json");
+        response.setContentLength(manifest.length);
+        response.getOutputStream().write(manifest);
+        ((Request) request).setHandled(true);
+      }
+    });
+  }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Drives a weighted mix of requests at the manager from a fixed number of concurrent clients.
+ *
+ * By default each client issues its next request as soon as the previous one completes (a closed
+ * loop). A stalled request then also stalls the requests that would have been sent meanwhile, and
+ * their waiting is never measured (coordinated omission), so closed-loop percentiles understate
+ * tail latency. Closed loops are useful for finding peak throughput.
+ *
+ * Given a rate, the clients instead send requests on a fixed schedule (an open loop), and each
+ * latency is measured from when the request was scheduled to be sent. Time spent waiting behind a
+ * stalled request is then included, as it would be for real callers arriving at that rate.
+ *
+ * @since 10/18/2026
+ */
+public class LoadGenerator {
+
+  private final String baseUrl;
+  private final ImmutableMap<String, List<Integer>> instanceIds;
+  private final List<String> rings;
+  private final Operation[] operations;
+  private final int[] cumulativeWeights;
+  private final int concurrency;
+  private final long intervalNanos;
+
+  /**
+   * @param baseUrl the manager's base url, such as "http://127.0.0.1:1234"
+   * @param instanceIds the instance IDs in each ring
+   * @param mix the relative weight of each operation
+   * @param concurrency the number of concurrent clients
+   * @param rate the total requests per second to schedule, or 0 to send them back-to-back
+   */
+  public LoadGenerator(String baseUrl, Map<String, List<Integer>> instanceIds,
+      Map<Operation, Integer> mix, int concurrency, int rate) {
+    this.baseUrl = baseUrl;
+    this.instanceIds = ImmutableMap.copyOf(instanceIds);
+    this.rings = this.instanceIds.keySet().asList();
+    this.operations = mix.keySet().toArray(new Operation[mix.size()]);
+    this.cumulativeWeights = new int[operations.length];
+    int total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += mix.get(operations[i]);
+      cumulativeWeights[i] = total;
+    }
+    this.concurrency = concurrency;
+    this.intervalNanos = rate > 0 ? TimeUnit.SECONDS.toNanos(concurrency) / rate : 0;
+  }
+
+  /**
+   * Runs the load for the given duration and returns the combined results of all clients.
+   */
+  public LoadTestResults run(long duration, TimeUnit unit) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+        new ThreadFactoryBuilder().setNameFormat("loadtest-client-%d").setDaemon(true).build());
+    long deadline = System.nanoTime() + unit.toNanos(duration);
+    List<Future<LoadTestResults>> clients = Lists.newArrayList();
+    long start = System.nanoTime();
+    for (int i = 0; i < concurrency; i++) {
+      // Stagger the clients' schedules so the requests are evenly spaced
+      long first = start + intervalNanos * i / concurrency;
+      clients.add(executor.submit(new Client(new Random(i), first, deadline)));
+    }
+    LoadTestResults results = new LoadTestResults();
+    try {
+      for (Future<LoadTestResults> client : clients) {
+        results.add(client.get());
+      }
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Load test client failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    results.setElapsedNanos(System.nanoTime() - start);
+    return results;
+  }
+
+  private Operation nextOperation(Random random) {
+    int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (r < cumulativeWeights[i]) {
+        return operations[i];
+      }
+    }
+    throw new AssertionError("Unreachable");
+  }
+
+  /**
+   * A single client issuing requests until the deadline, either back-to-back or every
+   * {@code intervalNanos}.
+   */
+  private class Client implements Callable<LoadTestResults> {
+
+    private final Random random;
+    private final long deadline;
+    private final byte[] buffer = new byte[8192];
+    private long scheduled;
+
+    Client(Random random, long first, long deadline) {
+      this.random = random;
+      this.scheduled = first;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public LoadTestResults call() throws IOException, InterruptedException {
+      LoadTestResults results = new LoadTestResults();
+      while (System.nanoTime() < deadline) {
+        long start = System.nanoTime();
+        if (intervalNanos > 0) {
+          if (scheduled >= deadline) {
+            break;
+          }
+          if (scheduled > start) {
+            TimeUnit.NANOSECONDS.sleep(scheduled - start);
+          }
+          // Measure from the scheduled time, even if we're running behind
+          start = scheduled;
+          scheduled += intervalNanos;
+        }
+        Operation operation = nextOperation(random);
+        String ring = rings.get(random.nextInt(rings.size()));
+        List<Integer> ids = instanceIds.get(ring);
+        int id = ids.get(random.nextInt(ids.size()));
+
+        int status = execute(operation.path(ring, id), operation == Operation.SEEDS);
+        results.record(operation, status, System.nanoTime() - start);
+      }
+      return results;
+    }
+
+    private int execute(String path, boolean plainText) throws IOException {
+      HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+      connection.setRequestProperty("Accept", plainText ? "text/plain" : "application/json");
+      int status;
+      try {
+        status = connection.getResponseCode();
+      } catch (IOException e) {
+        return 0;
+      }
+      InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+      if (in != null) {
+        // Drain the body so the connection can be reused
+        try {
+          while (in.read(buffer) >= 0) {
+            // Discard
+          }
+        } finally {
+          in.close();
+        }
+      }
+      return status;
+    }
+  }
+
+}
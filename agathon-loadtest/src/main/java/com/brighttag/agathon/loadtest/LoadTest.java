@@ -0,0 +1,228 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import com.brighttag.agathon.app.EmbeddedWebServer;
+import com.brighttag.agathon.aws.AwsModule;
+import com.brighttag.agathon.dao.DaoModule;
+import com.brighttag.agathon.model.CassandraInstance;
+
+/**
+ * Runs Agathon on an embedded web server against a local backing store, seeds it with synthetic
+ * rings, and reports throughput and latency percentiles for a mixed request load.
+ * <br/>
+ * Configured through system properties; see the README for details.
+ *
+ * @since 10/18/2026
+ */
+public class LoadTest {
+
+  // Manager configuration options
+  private static final String ZERG_REGION_PROPERTY = "com.brighttag.agathon.dao.zerg.region";
+  private static final String ZERG_RING_CONFIG_PROPERTY = "com.brighttag.agathon.dao.zerg.ring_scope_file";
+  private static final String ZERG_MANIFEST_URL_PROPERTY = "com.brighttag.agathon.dao.zerg.manifest_url";
+  private static final String SDB_DOMAIN_NAMESPACE_PROPERTY =
+      "com.brighttag.agathon.dao.sdb.domain_namespace";
+  private static final String SDB_ENDPOINT_PROPERTY = "com.brighttag.agathon.dao.sdb.endpoint";
+
+  private final LoadTestConfig config;
+  private final SyntheticRings rings;
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  public LoadTest(LoadTestConfig config) {
+    this.config = config;
+    this.rings = new SyntheticRings(config.getRings(), config.getInstancesPerRing());
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * @param args unused command-line args
+   * @throws Exception if a problem occurs running the load test
+   */
+  public static void main(String[] args) throws Exception {
+    new LoadTest(LoadTestConfig.fromSystemProperties()).run();
+    // The manager's background services and HTTP clients don't all use daemon threads
+    System.exit(0);
+  }
+
+  /**
+   * Starts the backing store and the manager, seeds the rings, runs the load and prints the results.
+   * @throws Exception if a problem occurs running the load test
+   */
+  public void run() throws Exception {
+    System.out.println(config);
+    FakeServer backend = startBackend();
+    int port = freePort();
+    EmbeddedWebServer server = new EmbeddedWebServer(port);
+    server.start();
+    try {
+      String baseUrl = "http://127.0.0.1:" + port;
+      seed(baseUrl);
+      LoadGenerator generator = new LoadGenerator(baseUrl, instanceIds(baseUrl),
+          config.getMix(), config.getConcurrency(), config.getRate());
+
+      if (config.getWarmupSeconds() > 0) {
+        System.out.printf("Warming up for %ds%n", config.getWarmupSeconds());
+        generator.run(config.getWarmupSeconds(), TimeUnit.SECONDS);
+      }
+      System.out.printf("Measuring for %ds%n", config.getDurationSeconds());
+      generator.run(config.getDurationSeconds(), TimeUnit.SECONDS).report(System.out);
+    } finally {
+      server.stop();
+      if (backend != null) {
+        backend.stop();
+      }
+    }
+  }
+
+  /**
+   * Starts the fake backing store, if any, and points the manager at it.
+   */
+  private FakeServer startBackend() throws IOException {
+    String backend = config.getBackend();
+    System.setProperty(DaoModule.DATABASE_PROPERTY, backend);
+    if ("memory".equals(backend)) {
+      return null;
+    } else if ("zerg".equals(backend)) {
+      FakeZergServer zerg = new FakeZergServer(
+          mapper.writeValueAsBytes(rings.zergManifest()), config.getBackendLatencyMillis());
+      zerg.start();
+      System.setProperty(ZERG_REGION_PROPERTY, SyntheticRings.REGIONS.get(0));
+      System.setProperty(ZERG_RING_CONFIG_PROPERTY, writeRingScopeFile().getAbsolutePath());
+      System.setProperty(ZERG_MANIFEST_URL_PROPERTY, zerg.getManifestUrl());
+      return zerg;
+    } else if ("sdb".equals(backend)) {
+      FakeSimpleDbServer sdb = new FakeSimpleDbServer(config.getBackendLatencyMillis());
+      sdb.start();
+      System.setProperty(AwsModule.ACCESS_KEY_PROPERTY, "loadtest");
+      System.setProperty(AwsModule.SECRET_KEY_PROPERTY, "loadtest");
+      System.setProperty(SDB_DOMAIN_NAMESPACE_PROPERTY, "loadtest");
+      System.setProperty(SDB_ENDPOINT_PROPERTY, sdb.getUrl());
+      return sdb;
+    }
+    throw new IllegalArgumentException("Unknown backend: " + backend);
+  }
+
+  private File writeRingScopeFile() throws IOException {
+    Map<String, Map<String, String>> scopes = Maps.newLinkedHashMap();
+    for (String ring : rings.names()) {
+      scopes.put(ring, ImmutableMap.of("scope", "environment"));
+    }
+    File file = File.createTempFile("agathon-loadtest-rings", ".json");
+    file.deleteOnExit();
+    mapper.writeValue(file, scopes);
+    return file;
+  }
+
+  /**
+   * Creates the rings through the manager's API. Zerg is read-only, so its manifest is pre-seeded.
+   */
+  private void seed(String baseUrl) throws IOException {
+    if ("zerg".equals(config.getBackend())) {
+      return;
+    }
+    System.out.printf("Seeding %d rings of %d instances%n", config.getRings(), config.getInstancesPerRing());
+    for (int r = 0; r < config.getRings(); r++) {
+      post(baseUrl + "/rings", rings.ringEntity(r));
+      // The in-memory ring and instance stores are independent
+      if ("memory".equals(config.getBackend())) {
+        String ring = rings.names().get(r);
+        for (CassandraInstance instance : rings.instances(r)) {
+          post(baseUrl + "/rings/" + ring + "/instances", SyntheticRings.instanceEntity(instance));
+        }
+      }
+    }
+  }
+
+  /**
+   * Fetches the instance IDs in each ring, which also verifies the backing store was seeded.
+   */
+  private Map<String, List<Integer>> instanceIds(String baseUrl) throws IOException {
+    Map<String, List<Integer>> ids = Maps.newLinkedHashMap();
+    for (String ring : rings.names()) {
+      HttpURLConnection connection = open(baseUrl + "/rings/" + ring + "/instances");
+      ImmutableList.Builder<Integer> ringIds = ImmutableList.builder();
+      InputStream in = connection.getInputStream();
+      try {
+        for (JsonNode instance : mapper.readTree(in)) {
+          ringIds.add(instance.get("id").asInt());
+        }
+      } finally {
+        in.close();
+      }
+      List<Integer> built = ringIds.build();
+      if (built.size() != config.getInstancesPerRing()) {
+        throw new IllegalStateException(String.format("Expected %d instances in %s but found %d",
+            config.getInstancesPerRing(), ring, built.size()));
+      }
+      ids.put(ring, built);
+    }
+    return ids;
+  }
+
+  private void post(String url, Object entity) throws IOException {
+    HttpURLConnection connection = open(url);
+    connection.setRequestMethod("POST");
+    connection.setRequestProperty("Content-Type", "application/json");
+    connection.setDoOutput(true);
+    OutputStream out = connection.getOutputStream();
+    try {
+      mapper.writeValue(out, entity);
+    } finally {
+      out.close();
+    }
+    int status = connection.getResponseCode();
+    if (status != HttpURLConnection.HTTP_CREATED) {
+      throw new IOException("Unexpected status " + status + " from POST " + url);
+    }
+    connection.getInputStream().close();
+  }
+
+  private static HttpURLConnection open(String url) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    connection.setRequestProperty("Accept", "application/json");
+    return connection;
+  }
+
+  private static int freePort() throws IOException {
+    ServerSocket socket = new ServerSocket(0);
+    try {
+      return socket.getLocalPort();
+    } finally {
+      socket.close();
+    }
+  }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.util.Map;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Load test settings, read from system properties.
+ *
+ * @since 10/18/2026
+ */
+public class LoadTestConfig {
+
+  // Configuration options
+  static final String LOADTEST_PREFIX = "com.brighttag.agathon.loadtest.";
+  static final String BACKEND_PROPERTY = LOADTEST_PREFIX + "backend";
+  static final String RINGS_PROPERTY = LOADTEST_PREFIX + "rings";
+  static final String INSTANCES_PROPERTY = LOADTEST_PREFIX + "instances_per_ring";
+  static final String CONCURRENCY_PROPERTY = LOADTEST_PREFIX + "concurrency";
+  static final String RATE_PROPERTY = LOADTEST_PREFIX + "rate";
+  static final String WARMUP_PROPERTY = LOADTEST_PREFIX + "warmup_seconds";
+  static final String DURATION_PROPERTY = LOADTEST_PREFIX + "duration_seconds";
+  static final String MIX_PROPERTY = LOADTEST_PREFIX + "mix";
+  static final String BACKEND_LATENCY_PROPERTY = LOADTEST_PREFIX + "backend_latency_ms";
+
+  // Default values
+  static final String BACKEND_DEFAULT = "memory";
+  static final String MIX_DEFAULT = "seeds:70,ring:15,instances:10,instance:5";
+
+  private final String backend;
+  private final int rings;
+  private final int instancesPerRing;
+  private final int concurrency;
+  private final int rate;
+  private final int warmupSeconds;
+  private final int durationSeconds;
+  private final ImmutableMap<Operation, Integer> mix;
+  private final long backendLatencyMillis;
+
+  LoadTestConfig(String backend, int rings, int instancesPerRing, int concurrency, int rate,
+      int warmupSeconds, int durationSeconds, Map<Operation, Integer> mix, long backendLatencyMillis) {
+    checkArgument(rings > 0, "At least one ring is required");
+    checkArgument(instancesPerRing > 0, "At least one instance per ring is required");
+    checkArgument(concurrency > 0, "Concurrency must be positive");
+    checkArgument(rate >= 0, "Rate must not be negative");
+    checkArgument(durationSeconds > 0, "Duration must be positive");
+    this.backend = backend;
+    this.rings = rings;
+    this.instancesPerRing = instancesPerRing;
+    this.concurrency = concurrency;
+    this.rate = rate;
+    this.warmupSeconds = warmupSeconds;
+    this.durationSeconds = durationSeconds;
+    this.mix = ImmutableMap.copyOf(mix);
+    this.backendLatencyMillis = backendLatencyMillis;
+  }
+
+  /**
+   * Returns the load test settings from the system properties, using defaults for any not set.
+   */
+  public static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+        System.getProperty(BACKEND_PROPERTY, BACKEND_DEFAULT),
+        Integer.getInteger(RINGS_PROPERTY, 10),
+        Integer.getInteger(INSTANCES_PROPERTY, 100),
+        Integer.getInteger(CONCURRENCY_PROPERTY, 16),
+        Integer.getInteger(RATE_PROPERTY, 0),
+        Integer.getInteger(WARMUP_PROPERTY, 10),
+        Integer.getInteger(DURATION_PROPERTY, 30),
+        parseMix(System.getProperty(MIX_PROPERTY, MIX_DEFAULT)),
+        Long.getLong(BACKEND_LATENCY_PROPERTY, 0));
+  }
+
+  /**
+   * Parses a traffic mix such as "seeds:70,ring:30" into operation weights.
+   */
+  static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = Maps.newEnumMap(Operation.class);
+    Map<String, String> entries = Splitter.on(',').trimResults().omitEmptyStrings()
+        .withKeyValueSeparator(Splitter.on(':').trimResults()).split(mix);
+    for (Map.Entry<String, String> entry : entries.entrySet()) {
+      int weight = Integer.parseInt(entry.getValue());
+      checkArgument(weight >= 0, "Weight for %s must not be negative", entry.getKey());
+      weights.put(Operation.fromName(entry.getKey()), weight);
+    }
+    checkArgument(!weights.isEmpty(), "Traffic mix must contain at least one operation");
+    return weights;
+  }
+
+  /**
+   * Returns the backing store for the manager: one of "memory", "sdb" or "zerg".
+   */
+  public String getBackend() {
+    return backend;
+  }
+
+  public int getRings() {
+    return rings;
+  }
+
+  public int getInstancesPerRing() {
+    return instancesPerRing;
+  }
+
+  /**
+   * Returns the number of concurrent clients issuing requests.
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Returns the total requests per second to schedule (an open loop), or 0 to have each client
+   * send its next request as soon as the last one completes (a closed loop).
+   */
+  public int getRate() {
+    return rate;
+  }
+
+  public int getWarmupSeconds() {
+    return warmupSeconds;
+  }
+
+  public int getDurationSeconds() {
+    return durationSeconds;
+  }
+
+  /**
+   * Returns the relative weight of each operation in the traffic mix.
+   */
+  public ImmutableMap<Operation, Integer> getMix() {
+    return mix;
+  }
+
+  /**
+   * Returns the simulated round-trip latency of the fake Zerg and SimpleDB servers.
+   */
+  public long getBackendLatencyMillis() {
+    return backendLatencyMillis;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("backend=%s (+%dms) rings=%d instances_per_ring=%d concurrency=%d rate=%s "
+        + "warmup=%ds duration=%ds mix=%s", backend, backendLatencyMillis, rings, instancesPerRing,
+        concurrency, rate > 0 ? rate + "/s" : "closed-loop", warmupSeconds, durationSeconds, mix);
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Maps;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and error counts per operation.
+ *
+ * Not thread-safe; each client records its own results, which are then combined with {@link #add}.
+ *
+ * @since 10/18/2026
+ */
+public class LoadTestResults {
+
+  // Track latencies from 1 microsecond to 1 minute with 3 significant digits
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+  private final Map<Operation, Histogram> latencies = Maps.newEnumMap(Operation.class);
+  private final Map<Operation, Long> errors = Maps.newEnumMap(Operation.class);
+  private long elapsedNanos;
+
+  /**
+   * Records a completed request. Statuses outside 2xx, including connection failures (status 0),
+   * count as errors but their latencies are still recorded.
+   */
+  public void record(Operation operation, int status, long latencyNanos) {
+    histogram(operation).recordValue(
+        Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    if (status < 200 || status >= 300) {
+      errors.put(operation, errors(operation) + 1);
+    }
+  }
+
+  /**
+   * Adds the results of another client into these results.
+   */
+  public void add(LoadTestResults other) {
+    for (Map.Entry<Operation, Histogram> entry : other.latencies.entrySet()) {
+      histogram(entry.getKey()).add(entry.getValue());
+    }
+    for (Map.Entry<Operation, Long> entry : other.errors.entrySet()) {
+      errors.put(entry.getKey(), errors(entry.getKey()) + entry.getValue());
+    }
+  }
+
+  void setElapsedNanos(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns the total number of requests issued.
+   */
+  public long getRequests() {
+    return total().getTotalCount();
+  }
+
+  /**
+   * Returns the total number of failed requests.
+   */
+  public long getErrors() {
+    long total = 0;
+    for (long count : errors.values()) {
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * Prints throughput and latency percentiles (in milliseconds) for each operation and overall.
+   */
+  public void report(PrintStream out) {
+    double seconds = elapsedNanos / 1e9;
+    out.printf("%-10s %10s %8s %10s", "operation", "requests", "errors", "req/s");
+    for (double percentile : PERCENTILES) {
+      out.printf(" %9s", "p" + (percentile == Math.rint(percentile)
+          ? String.valueOf((int) percentile) : String.valueOf(percentile)));
+    }
+    out.printf(" %9s%n", "max");
+    for (Map.Entry<Operation, Histogram> entry : latencies.entrySet()) {
+      report(out, entry.getKey().toString(), entry.getValue(), errors(entry.getKey()), seconds);
+    }
+    report(out, "total", total(), getErrors(), seconds);
+  }
+
+  private static void report(PrintStream out, String name, Histogram histogram, long errors,
+      double seconds) {
+    out.printf("%-10s %10d %8d %10.1f", name, histogram.getTotalCount(), errors,
+        histogram.getTotalCount() / seconds);
+    for (double percentile : PERCENTILES) {
+      out.printf(" %9.3f", histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+    out.printf(" %9.3f%n", histogram.getMaxValue() / 1000.0);
+  }
+
+  private Histogram total() {
+    Histogram total = newHistogram();
+    for (Histogram histogram : latencies.values()) {
+      total.add(histogram);
+    }
+    return total;
+  }
+
+  private Histogram histogram(Operation operation) {
+    Histogram histogram = latencies.get(operation);
+    if (histogram == null) {
+      histogram = newHistogram();
+      latencies.put(operation, histogram);
+    }
+    return histogram;
+  }
+
+  private long errors(Operation operation) {
+    Long count = errors.get(operation);
+    return count == null ? 0 : count;
+  }
+
+  private static Histogram newHistogram() {
+    return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The requests issued by the load generator.
+ *
+ * @since 10/18/2026
+ */
+public enum Operation {
+
+  /** The seed list requested by every Cassandra node on startup. */
+  SEEDS {
+    @Override
+    String path(String ring, int instanceId) {
+      return "/rings/" + ring + "/seeds";
+    }
+  },
+
+  RINGS {
+    @Override
+    String path(String ring, int instanceId) {
+      return "/rings";
+    }
+  },
+
+  RING {
+    @Override
+    String path(String ring, int instanceId) {
+      return "/rings/" + ring;
+    }
+  },
+
+  INSTANCES {
+    @Override
+    String path(String ring, int instanceId) {
+      return "/rings/" + ring + "/instances";
+    }
+  },
+
+  INSTANCE {
+    @Override
+    String path(String ring, int instanceId) {
+      return "/rings/" + ring + "/instances/" + instanceId;
+    }
+  };
+
+  /**
+   * Returns the request path for this operation against the given ring and instance.
+   */
+  abstract String path(String ring, int instanceId);
+
+  /**
+   * Returns the operation with the given (case-insensitive) name, such as "seeds".
+   */
+  static Operation fromName(String name) {
+    return valueOf(name.toUpperCase(Locale.ENGLISH));
+  }
+
+  @Override
+  public String toString() {
+    return name().toLowerCase(Locale.ENGLISH);
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import com.brighttag.agathon.model.CassandraInstance;
+
+/**
+ * Generates a deterministic set of rings to seed the backing store with.
+ *
+ * Instances are spread round-robin over three regions and three availability zones per region,
+ * mirroring the shape of our production manifests. Each instance belongs to exactly one ring.
+ *
+ * @since 10/18/2026
+ */
+public class SyntheticRings {
+
+  static final List<String> REGIONS = ImmutableList.of("us-east-1", "us-west-2", "eu-west-1");
+  static final List<String> ZONES = ImmutableList.of("a", "b", "c");
+
+  private final int rings;
+  private final int instancesPerRing;
+
+  public SyntheticRings(int rings, int instancesPerRing) {
+    this.rings = rings;
+    this.instancesPerRing = instancesPerRing;
+  }
+
+  /**
+   * Returns the names of all rings.
+   */
+  public List<String> names() {
+    ImmutableList.Builder<String> names = ImmutableList.builder();
+    for (int r = 0; r < rings; r++) {
+      names.add(name(r));
+    }
+    return names.build();
+  }
+
+  /**
+   * Returns the instances in the {@code r}th ring.
+   */
+  public List<CassandraInstance> instances(int r) {
+    ImmutableList.Builder<CassandraInstance> instances = ImmutableList.builder();
+    for (int i = 0; i < instancesPerRing; i++) {
+      instances.add(instance(r * instancesPerRing + i));
+    }
+    return instances.build();
+  }
+
+  /**
+   * Returns the JSON request entity for creating the {@code r}th ring, in the documented format.
+   */
+  public Map<String, Object> ringEntity(int r) {
+    ImmutableList.Builder<Map<String, Object>> instances = ImmutableList.builder();
+    for (CassandraInstance instance : instances(r)) {
+      instances.add(instanceEntity(instance));
+    }
+    return ImmutableMap.<String, Object>of("name", name(r), "instances", instances.build());
+  }
+
+  /**
+   * Returns the JSON request entity for creating the {@code instance}, in the documented format.
+   */
+  public static Map<String, Object> instanceEntity(CassandraInstance instance) {
+    return ImmutableMap.<String, Object>builder()
+        .put("id", instance.getId())
+        .put("datacenter", instance.getDataCenter())
+        .put("rack", instance.getRack())
+        .put("hostname", instance.getHostName())
+        .put("publicIpAddress", instance.getPublicIpAddress())
+        .put("fullyQualifiedDomainName", instance.getFullyQualifiedDomainName())
+        .build();
+  }
+
+  /**
+   * Returns the Zerg manifest containing every ring: region -> hostname -> host.
+   */
+  public Map<String, Map<String, Map<String, Object>>> zergManifest() {
+    Map<String, Map<String, Map<String, Object>>> manifest = Maps.newLinkedHashMap();
+    for (String region : REGIONS) {
+      manifest.put(region, Maps.<String, Map<String, Object>>newLinkedHashMap());
+    }
+    for (int r = 0; r < rings; r++) {
+      for (int i = r * instancesPerRing; i < (r + 1) * instancesPerRing; i++) {
+        manifest.get(region(i)).put(hostName(i), ImmutableMap.<String, Object>of(
+            "roles", ImmutableList.of("cassandra_" + name(r)),
+            "zone", zone(i),
+            "public ip", publicIpAddress(i),
+            "fqdn", fullyQualifiedDomainName(i)));
+      }
+    }
+    return manifest;
+  }
+
+  private static String name(int r) {
+    return String.format("ring%02d", r);
+  }
+
+  private static String region(int i) {
+    return REGIONS.get(i % REGIONS.size());
+  }
+
+  private static String zone(int i) {
+    return region(i) + ZONES.get((i / REGIONS.size()) % ZONES.size());
+  }
+
+  private static String hostName(int i) {
+    return String.format("cass%05d", i);
+  }
+
+  private static String publicIpAddress(int i) {
+    return String.format("10.%d.%d.%d", (i >> 16) & 0xff, (i >> 8) & 0xff, i & 0xff);
+  }
+
+  private static String fullyQualifiedDomainName(int i) {
+    return hostName(i) + "." + region(i) + ".example.com";
+  }
+
+  /**
+   * Returns the {@code i}th instance, using the Ec2Snitch naming conventions.
+   */
+  private static CassandraInstance instance(int i) {
+    String region = region(i);
+    int split = region.lastIndexOf('-');
+    return new CassandraInstance.Builder()
+        .id(i + 1)
+        .dataCenter(region.substring(0, split))
+        .rack(zone(i).substring(split + 1))
+        .hostName(hostName(i))
+        .publicIpAddress(publicIpAddress(i))
+        .fullyQualifiedDomainName(fullyQualifiedDomainName(i))
+        .build();
+  }
+
+}
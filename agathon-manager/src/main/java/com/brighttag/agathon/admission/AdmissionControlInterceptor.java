@@ -0,0 +1,185 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.admission;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Ticker;
+import com.google.common.collect.Maps;
+import com.google.inject.Provider;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.matcher.Matcher;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import com.brighttag.agathon.metrics.Metrics;
+import com.brighttag.agathon.service.ServiceUnavailableException;
+
+/**
+ * Sheds requests with a fast 503 "Service Unavailable" and a {@code Retry-After} header when the
+ * server or an endpoint is saturated, rather than letting them queue until they time out.
+ * <br/>
+ * Each request must be admitted twice. First, by a fixed server-wide limit of which each
+ * {@link Priority} may only use its share, so that writes are shed before reads and reads before
+ * seed lookups. Second, by an {@link AimdLimiter} for its endpoint, which backs off when the
+ * endpoint slows down or its downstream service is unavailable. Each endpoint's limit is
+ * published as a gauge, such as {@code admission.SeedsResource.getSeeds.limit}. Sub-resource
+ * locators are admitted as endpoints of their own, before the sub-resource's request method.
+ *
+ * @since 10/18/2026
+ */
+public class AdmissionControlInterceptor implements MethodInterceptor {
+
+  /**
+   * Matches request methods (such as {@code @GET}) and sub-resource locators, since locators
+   * may read from the backing store before the sub-resource's request method is admitted.
+   */
+  public static final Matcher<Method> REQUEST_METHODS = new AbstractMatcher<Method>() {
+    @Override
+    public boolean matches(Method method) {
+      return !method.isSynthetic() && (httpMethod(method) != null || method.isAnnotationPresent(Path.class));
+    }
+  };
+
+  static final String METRICS = "admission";
+
+  private final AimdLimiter serverLimiter;
+  private final int initialLimit;
+  private final int minLimit;
+  private final long targetLatencyMillis;
+  private final int retryAfterSeconds;
+  private final Ticker ticker;
+  private final Provider<MetricRegistry> registry;
+  private final ConcurrentMap<Method, Endpoint> endpoints = Maps.newConcurrentMap();
+
+  /**
+   * @param maxConcurrency the most requests the server handles at once
+   * @param initialLimit the starting concurrency limit of each endpoint
+   * @param minLimit the lowest each endpoint's limit may be cut to
+   * @param targetLatencyMillis requests slower than this cut their endpoint's limit
+   * @param retryAfterSeconds how long shed clients are asked to wait before retrying
+   * @param ticker the source of time
+   * @param registry the registry in which to publish the endpoint limits
+   */
+  public AdmissionControlInterceptor(int maxConcurrency, int initialLimit, int minLimit,
+      long targetLatencyMillis, int retryAfterSeconds, Ticker ticker, Provider<MetricRegistry> registry) {
+    this.serverLimiter = AimdLimiter.fixed(maxConcurrency);
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.targetLatencyMillis = targetLatencyMillis;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.ticker = ticker;
+    this.registry = registry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Endpoint endpoint = endpoint(invocation.getMethod());
+    if (!serverLimiter.tryAcquire(endpoint.priority.getShare())) {
+      throw reject("Server");
+    }
+    long startNanos = ticker.read();
+    boolean overloaded = false;
+    try {
+      if (!endpoint.limiter.tryAcquire(1.0)) {
+        throw reject("Endpoint");
+      }
+      try {
+        return invocation.proceed();
+      } catch (ServiceUnavailableException e) {
+        overloaded = true;
+        throw e;
+      } finally {
+        endpoint.limiter.release(startNanos, overloaded);
+      }
+    } finally {
+      serverLimiter.release(startNanos, false);
+    }
+  }
+
+  private WebApplicationException reject(String saturated) {
+    return new WebApplicationException(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+        .header("Retry-After", retryAfterSeconds)
+        .header("X-Error", saturated + " is saturated")
+        .build());
+  }
+
+  private Endpoint endpoint(Method method) {
+    Endpoint endpoint = endpoints.get(method);
+    if (endpoint == null) {
+      final AimdLimiter limiter = new AimdLimiter(initialLimit, minLimit, serverLimiter.getLimit(),
+          targetLatencyMillis, 0.9, ticker);
+      String route = MetricRegistry.name(method.getDeclaringClass().getSimpleName(), method.getName());
+      Endpoint created = new Endpoint(priority(method), limiter);
+      endpoint = endpoints.putIfAbsent(method, created);
+      if (endpoint == null) {
+        endpoint = created;
+        Metrics.register(registry.get(), MetricRegistry.name(METRICS, route, "limit"), new Gauge<Integer>() {
+          @Override
+          public Integer getValue() {
+            return limiter.getLimit();
+          }
+        });
+      }
+    }
+    return endpoint;
+  }
+
+  private static Priority priority(Method method) {
+    Admission admission = method.getAnnotation(Admission.class);
+    if (admission == null) {
+      admission = method.getDeclaringClass().getAnnotation(Admission.class);
+    }
+    if (admission != null) {
+      return admission.value();
+    }
+    Class<? extends Annotation> httpMethod = httpMethod(method);
+    // Sub-resource locators only look up the sub-resource, so they're reads
+    return httpMethod == null || GET.class.equals(httpMethod) ? Priority.READ : Priority.WRITE;
+  }
+
+  private static Class<? extends Annotation> httpMethod(Method method) {
+    for (Annotation annotation : method.getAnnotations()) {
+      if (annotation.annotationType().isAnnotationPresent(HttpMethod.class)) {
+        return annotation.annotationType();
+      }
+    }
+    return null;
+  }
+
+  private static class Endpoint {
+    private final Priority priority;
+    private final AimdLimiter limiter;
+
+    Endpoint(Priority priority, AimdLimiter limiter) {
+      this.priority = priority;
+      this.limiter = limiter;
+    }
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.admission;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A concurrency limit that adapts to latency by additive increase and multiplicative decrease.
+ * <br/>
+ * While requests complete within the target latency and the limit is in use, the limit grows by
+ * one. When a request is slower than the target or fails because a downstream service is
+ * overloaded, the limit is cut by the backoff ratio, at most once per round trip: requests that
+ * started before the last cut don't cut it again. A limiter whose minimum and maximum are equal
+ * is a fixed limit.
+ *
+ * @since 10/18/2026
+ */
+public class AimdLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetLatencyNanos;
+  private final double backoffRatio;
+  private final Ticker ticker;
+
+  private double limit;
+  private int inFlight;
+  private long lastDecreaseNanos;
+
+  /**
+   * @param initialLimit the starting limit
+   * @param minLimit the lowest the limit may be cut to
+   * @param maxLimit the highest the limit may grow to
+   * @param targetLatencyMillis requests slower than this cut the limit
+   * @param backoffRatio the ratio by which the limit is cut, between 0 and 1
+   * @param ticker the source of time
+   */
+  public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyMillis,
+      double backoffRatio, Ticker ticker) {
+    checkArgument(minLimit >= 1 && minLimit <= maxLimit, "Invalid limits [%s, %s]", minLimit, maxLimit);
+    checkArgument(backoffRatio > 0 && backoffRatio < 1, "Invalid backoff ratio %s", backoffRatio);
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+    this.backoffRatio = backoffRatio;
+    this.ticker = ticker;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.lastDecreaseNanos = ticker.read();
+  }
+
+  /**
+   * Creates a fixed limit.
+   */
+  public static AimdLimiter fixed(int limit) {
+    return new AimdLimiter(limit, limit, limit, Long.MAX_VALUE / 1000000L, 0.5, Ticker.systemTicker());
+  }
+
+  /**
+   * Admits a request if fewer than the given {@code share} of the limit are in flight.
+   * Every admitted request must be {@link #release released}.
+   *
+   * @param share the share of the limit the request may use, between 0 and 1
+   * @return {@code true} if the request was admitted
+   */
+  public synchronized boolean tryAcquire(double share) {
+    if (inFlight >= Math.max(1, (int) (limit * share))) {
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  /**
+   * Releases an admitted request and adjusts the limit.
+   *
+   * @param startNanos when the request started, according to the ticker
+   * @param overloaded whether the request failed because a downstream service is overloaded
+   */
+  public synchronized void release(long startNanos, boolean overloaded) {
+    long nowNanos = ticker.read();
+    boolean utilized = inFlight * 2 >= limit;
+    inFlight--;
+    if (overloaded || nowNanos - startNanos > targetLatencyNanos) {
+      if (startNanos - lastDecreaseNanos > 0) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreaseNanos = nowNanos;
+      }
+    } else if (utilized) {
+      limit = Math.min(maxLimit, limit + 1);
+    }
+  }
+
+  /**
+   * Returns the current limit.
+   * @return the current limit
+   */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Returns the number of requests in flight.
+   * @return the number of requests in flight
+   */
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+}
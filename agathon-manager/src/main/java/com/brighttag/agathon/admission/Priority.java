@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.admission;
+
+/**
+ * The priority with which a request is admitted when the server is busy.
+ * <br/>
+ * Each priority may use a share of the server's request capacity, so that lower priority
+ * requests are shed first and the remaining capacity is left for higher priority ones.
+ *
+ * @since 10/18/2026
+ */
+public enum Priority {
+
+  /** Requests that Cassandra nodes depend on, such as seed lookups. */
+  CRITICAL(1.0),
+
+  /** Reads, which are admitted unless the server is mostly busy. */
+  READ(0.75),
+
+  /** Administrative writes, which are the first to be shed. */
+  WRITE(0.5);
+
+  private final double share;
+
+  private Priority(double share) {
+    this.share = share;
+  }
+
+  /**
+   * Returns the share of the server's request capacity that requests of this priority may use.
+   * @return the share, between 0 and 1
+   */
+  public double getShare() {
+    return share;
+  }
+
+}
@@ -18,20 +18,35 @@ package com.brighttag.agathon.app;
 
 import java.io.IOException;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.servlet.GuiceFilter;
 
+import org.mortbay.jetty.AbstractConnector;
 import org.mortbay.jetty.Server;
+import org.mortbay.jetty.bio.SocketConnector;
+import org.mortbay.jetty.nio.SelectChannelConnector;
 import org.mortbay.jetty.servlet.Context;
 import org.mortbay.jetty.servlet.DefaultServlet;
+import org.mortbay.thread.QueuedThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.brighttag.agathon.metrics.Metrics;
+import com.brighttag.agathon.metrics.MetricsModule;
 import com.brighttag.agathon.servlet.GuiceServletConfig;
 import com.brighttag.agathon.servlet.ServiceRegistryServletContextListener;
 
 /**
  * An embedded web server for running Agathon.
+ * <br/>
+ * The connector and thread pool are configured from system properties. The defaults were chosen
+ * with the load test to absorb the connection storm when a whole data center restarts: a deep
+ * accept queue holds the burst, a bounded thread pool keeps it from exhausting memory, and idle
+ * connections are closed sooner while the server is short on threads or connections.
+ * The thread pool and connector publish their size as gauges under {@code jetty}.
  *
  * @author codyaray
  * @since 6/14/12
@@ -40,10 +55,26 @@ public class EmbeddedWebServer {
 
   private static final Logger LOG = LoggerFactory.getLogger(EmbeddedWebServer.class);
 
+  public static final String CONNECTOR_PROPERTY = "com.brighttag.agathon.jetty.connector";
+  public static final String ACCEPTORS_PROPERTY = "com.brighttag.agathon.jetty.acceptors";
+  public static final String ACCEPT_QUEUE_SIZE_PROPERTY = "com.brighttag.agathon.jetty.accept_queue_size";
+  public static final String MIN_THREADS_PROPERTY = "com.brighttag.agathon.jetty.min_threads";
+  public static final String MAX_THREADS_PROPERTY = "com.brighttag.agathon.jetty.max_threads";
+  public static final String LOW_THREADS_PROPERTY = "com.brighttag.agathon.jetty.low_threads";
+  public static final String THREAD_IDLE_TIMEOUT_MS_PROPERTY =
+      "com.brighttag.agathon.jetty.thread_idle_timeout_ms";
+  public static final String IDLE_TIMEOUT_MS_PROPERTY = "com.brighttag.agathon.jetty.idle_timeout_ms";
+  public static final String LOW_RESOURCES_CONNECTIONS_PROPERTY =
+      "com.brighttag.agathon.jetty.low_resources_connections";
+  public static final String LOW_RESOURCES_IDLE_TIMEOUT_MS_PROPERTY =
+      "com.brighttag.agathon.jetty.low_resources_idle_timeout_ms";
+
+  @VisibleForTesting static final String METRICS = "jetty";
+
   private final Server server;
 
   public EmbeddedWebServer(int port) {
-    this(new Server(port));
+    this(newServer(port, SharedMetricRegistries.getOrCreate(MetricsModule.REGISTRY_NAME)));
   }
 
   private EmbeddedWebServer(Server server) {
@@ -59,6 +90,80 @@ public class EmbeddedWebServer {
     context.addEventListener(new ServiceRegistryServletContextListener());
   }
 
+  /**
+   * Creates a server listening on {@code port} with the configured connector and thread pool.
+   *
+   * @param port the port to listen on
+   * @param registry the registry in which to publish the connector and thread pool gauges
+   * @return the server
+   * @throws IllegalArgumentException if the connector type is unknown
+   */
+  @VisibleForTesting
+  static Server newServer(int port, MetricRegistry registry) {
+    QueuedThreadPool threadPool = new QueuedThreadPool();
+    threadPool.setName("agathon-http");
+    threadPool.setMinThreads(Integer.getInteger(MIN_THREADS_PROPERTY, 16));
+    threadPool.setMaxThreads(Integer.getInteger(MAX_THREADS_PROPERTY, 128));
+    threadPool.setLowThreads(Integer.getInteger(LOW_THREADS_PROPERTY, 8));
+    threadPool.setMaxIdleTimeMs(Integer.getInteger(THREAD_IDLE_TIMEOUT_MS_PROPERTY, 60000));
+
+    AbstractConnector connector = newConnector(System.getProperty(CONNECTOR_PROPERTY, "nio"));
+    connector.setPort(port);
+    connector.setAcceptors(Integer.getInteger(ACCEPTORS_PROPERTY, 2));
+    connector.setAcceptQueueSize(Integer.getInteger(ACCEPT_QUEUE_SIZE_PROPERTY, 1024));
+    connector.setMaxIdleTime(Integer.getInteger(IDLE_TIMEOUT_MS_PROPERTY, 30000));
+    connector.setLowResourceMaxIdleTime(Integer.getInteger(LOW_RESOURCES_IDLE_TIMEOUT_MS_PROPERTY, 2000));
+    connector.setStatsOn(true);
+
+    Server server = new Server();
+    server.setThreadPool(threadPool);
+    server.addConnector(connector);
+    registerGauges(registry, threadPool, connector);
+    LOG.info("Configured {} on port {} with {} acceptors and {}-{} threads", new Object[] {
+        connector.getClass().getSimpleName(), port, connector.getAcceptors(),
+        threadPool.getMinThreads(), threadPool.getMaxThreads()});
+    return server;
+  }
+
+  private static AbstractConnector newConnector(String type) {
+    if ("nio".equals(type)) {
+      SelectChannelConnector connector = new SelectChannelConnector();
+      connector.setLowResourcesConnections(Integer.getInteger(LOW_RESOURCES_CONNECTIONS_PROPERTY, 2048));
+      return connector;
+    } else if ("bio".equals(type)) {
+      return new SocketConnector();
+    }
+    throw new IllegalArgumentException("Unknown connector type: " + type);
+  }
+
+  private static void registerGauges(MetricRegistry registry, final QueuedThreadPool threadPool,
+      final AbstractConnector connector) {
+    Metrics.register(registry, MetricRegistry.name(METRICS, "threads", "active"), new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return threadPool.getThreads() - threadPool.getIdleThreads();
+      }
+    });
+    Metrics.register(registry, MetricRegistry.name(METRICS, "threads", "total"), new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return threadPool.getThreads();
+      }
+    });
+    Metrics.register(registry, MetricRegistry.name(METRICS, "queue", "size"), new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return threadPool.getQueueSize();
+      }
+    });
+    Metrics.register(registry, MetricRegistry.name(METRICS, "connections", "open"), new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return connector.getConnectionsOpen();
+      }
+    });
+  }
+
   /**
    * Start the embedded web server.
    * @throws IOException if a problem occurs starting the server.
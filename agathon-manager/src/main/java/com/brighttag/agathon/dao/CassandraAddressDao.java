@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.brighttag.agathon.dao;
+
+import com.google.common.collect.ImmutableSet;
+
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * DAO for the addresses of the instances in Cassandra rings, for callers that only need to know
+ * where the instances are, such as the security group updater.
+ *
+ * @since 10/19/2026
+ */
+public interface CassandraAddressDao {
+
+  /**
+   * Returns the set of Cassandra rings with at least the ID, data center, rack and public IP
+   * address of each instance. Other instance properties may be {@code null}.
+   *
+   * @return set of Cassandra rings
+   * @throws BackingStoreException if there was a problem communicating with the backing store.
+   */
+  ImmutableSet<CassandraRing> findAllAddresses() throws BackingStoreException;
+
+}
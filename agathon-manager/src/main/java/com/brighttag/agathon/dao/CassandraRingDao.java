@@ -16,6 +16,8 @@
 
 package com.brighttag.agathon.dao;
 
+import java.util.Set;
+
 import javax.annotation.Nullable;
 
 import com.google.common.collect.ImmutableSet;
@@ -47,6 +49,16 @@ public interface CassandraRingDao {
    */
   @Nullable CassandraRing findByName(String name) throws BackingStoreException;
 
+  /**
+   * Returns the Cassandra rings with the given {@code names}, as of a single read of the
+   * backing store's ring list. Names of rings which aren't found are ignored.
+   *
+   * @param names the Cassandra ring names
+   * @return the Cassandra rings found
+   * @throws BackingStoreException if there was a problem communicating with the backing store.
+   */
+  ImmutableSet<CassandraRing> findByNames(Set<String> names) throws BackingStoreException;
+
   /**
    * Saves the Cassandra {@code ring}.
    *
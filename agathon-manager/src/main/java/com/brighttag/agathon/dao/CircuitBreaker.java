@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.brighttag.agathon.jmx.CircuitBreakerMBean;
+
+/**
+ * A circuit breaker for calls to a backing store.
+ * <br/>
+ * The circuit opens after a number of consecutive calls fail or are slower than the slow call
+ * threshold. While it's open, calls are not allowed. After the open duration, the circuit is
+ * half-open and allows a single probe call: if it succeeds, the circuit closes; otherwise it
+ * opens again.
+ *
+ * @since 10/18/2026
+ */
+public class CircuitBreaker implements CircuitBreakerMBean {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  /** The states of the circuit. */
+  public enum State { CLOSED, OPEN, HALF_OPEN }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long slowCallNanos;
+  private final long openNanos;
+  private final Ticker ticker;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedNanos;
+  private long timesOpened;
+  private boolean probing;
+
+  /**
+   * @param name the name of the circuit, such as {@code CassandraRingDao.sdb}
+   * @param failureThreshold the number of consecutive failures that opens the circuit
+   * @param slowCallMillis calls slower than this count as failures
+   * @param openMillis how long the circuit stays open before allowing a probe call
+   * @param ticker the source of time
+   */
+  public CircuitBreaker(String name, int failureThreshold, long slowCallMillis, long openMillis,
+      Ticker ticker) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    this.ticker = ticker;
+  }
+
+  /**
+   * Returns whether a call may be made now. Every allowed call must be followed by either
+   * {@link #onSuccess} or {@link #onFailure}.
+   *
+   * @return {@code true} if the call is allowed
+   */
+  public synchronized boolean allowRequest() {
+    switch (state) {
+      case OPEN:
+        if (ticker.read() - openedNanos < openNanos) {
+          return false;
+        }
+        LOG.info("Circuit {} is half-open; probing", name);
+        state = State.HALF_OPEN;
+        probing = true;
+        return true;
+      case HALF_OPEN:
+        if (probing) {
+          return false;
+        }
+        probing = true;
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * Records a call that completed, which still counts as a failure if it was slow.
+   *
+   * @param startNanos when the call started, according to the ticker
+   */
+  public synchronized void onSuccess(long startNanos) {
+    if (ticker.read() - startNanos > slowCallNanos) {
+      onFailure();
+      return;
+    }
+    probing = false;
+    consecutiveFailures = 0;
+    if (state != State.CLOSED) {
+      LOG.info("Circuit {} is closed", name);
+      state = State.CLOSED;
+    }
+  }
+
+  /**
+   * Records a call that failed.
+   */
+  public synchronized void onFailure() {
+    probing = false;
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+      open();
+    }
+  }
+
+  /**
+   * Returns the name of the circuit.
+   * @return the name of the circuit
+   */
+  public String getName() {
+    return name;
+  }
+
+  @VisibleForTesting
+  synchronized State state() {
+    return state;
+  }
+
+  @Override
+  public synchronized String getState() {
+    return state.name();
+  }
+
+  @Override
+  public synchronized int getConsecutiveFailures() {
+    return consecutiveFailures;
+  }
+
+  @Override
+  public synchronized long getTimesOpened() {
+    return timesOpened;
+  }
+
+  @Override
+  public synchronized void reset() {
+    LOG.info("Circuit {} is reset", name);
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    probing = false;
+  }
+
+  @Override
+  public synchronized void trip() {
+    open();
+  }
+
+  private void open() {
+    LOG.warn("Circuit {} is open after {} consecutive failures", name, consecutiveFailures);
+    state = State.OPEN;
+    openedNanos = ticker.read();
+    timesOpened++;
+    probing = false;
+  }
+
+}
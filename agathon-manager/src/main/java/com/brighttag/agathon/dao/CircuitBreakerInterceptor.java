@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.matcher.Matcher;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Guards calls to a backing store with a {@link CircuitBreaker}.
+ * <br/>
+ * While the circuit is open, a call returns the last result of the same call, if any, or
+ * otherwise fails fast with a {@link BackingStoreException}, rather than waiting on a sick
+ * backing store.
+ *
+ * @since 10/18/2026
+ */
+public class CircuitBreakerInterceptor implements MethodInterceptor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CircuitBreakerInterceptor.class);
+
+  /**
+   * Matches methods that read from the backing store, which are those that may fail with it.
+   * The exception may be declared by the interface method rather than the implementation.
+   */
+  public static final Matcher<Method> BACKING_STORE_READS = new AbstractMatcher<Method>() {
+    @Override
+    public boolean matches(Method method) {
+      return !method.isSynthetic() && throwsBackingStoreException(method.getDeclaringClass(), method);
+    }
+  };
+
+  private final CircuitBreaker breaker;
+  private final Ticker ticker;
+  private final Cache<List<Object>, Optional<Object>> lastResults;
+
+  /**
+   * @param breaker the circuit breaker
+   * @param maxLastResults the most call results to keep for serving while the circuit is open
+   * @param ticker the source of time
+   */
+  public CircuitBreakerInterceptor(CircuitBreaker breaker, int maxLastResults, Ticker ticker) {
+    this.breaker = breaker;
+    this.ticker = ticker;
+    this.lastResults = CacheBuilder.newBuilder().maximumSize(maxLastResults).build();
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    List<Object> call = Lists.asList(invocation.getMethod(), invocation.getArguments());
+    if (!breaker.allowRequest()) {
+      Optional<Object> lastResult = lastResults.getIfPresent(call);
+      if (lastResult != null) {
+        LOG.debug("Circuit {} is open; serving last result of {}", breaker.getName(), call);
+        return lastResult.orNull();
+      }
+      throw new BackingStoreException("Circuit " + breaker.getName() + " is open");
+    }
+    long startNanos = ticker.read();
+    Object result;
+    try {
+      result = invocation.proceed();
+    } catch (Exception e) {
+      // Ok to catch Exception here; it's always rethrown
+      breaker.onFailure();
+      throw e;
+    }
+    breaker.onSuccess(startNanos);
+    lastResults.put(call, Optional.fromNullable(result));
+    return result;
+  }
+
+  private static boolean throwsBackingStoreException(@Nullable Class<?> type, Method method) {
+    if (type == null) {
+      return false;
+    }
+    try {
+      Method declared = type.getDeclaredMethod(method.getName(), method.getParameterTypes());
+      if (Arrays.asList(declared.getExceptionTypes()).contains(BackingStoreException.class)) {
+        return true;
+      }
+    } catch (NoSuchMethodException e) {
+      // Not declared by this type
+    }
+    for (Class<?> supertype : type.getInterfaces()) {
+      if (throwsBackingStoreException(supertype, method)) {
+        return true;
+      }
+    }
+    return throwsBackingStoreException(type.getSuperclass(), method);
+  }
+
+}
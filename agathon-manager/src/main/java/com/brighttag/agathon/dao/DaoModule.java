@@ -16,18 +16,41 @@
 
 package com.brighttag.agathon.dao;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.Service;
 import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.matcher.Matcher;
+import com.google.inject.matcher.Matchers;
+import com.google.inject.multibindings.Multibinder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.brighttag.agathon.dao.memory.MemoryDaoModule;
 import com.brighttag.agathon.dao.sdb.SdbDaoModule;
+import com.brighttag.agathon.dao.sdb.SdbTombstonePurger;
+import com.brighttag.agathon.dao.tiered.RingReplicator;
+import com.brighttag.agathon.dao.tiered.TieredDaoModule;
 import com.brighttag.agathon.dao.zerg.ZergDaoModule;
+import com.brighttag.agathon.jmx.CircuitBreakerMBean;
+import com.brighttag.agathon.jmx.MBeans;
+import com.brighttag.agathon.metrics.DaoMetricsInterceptor;
 
 /**
  * Guice module to install the appropriate DAO implementation.
+ * <br/>
+ * The {@code tiered} database serves reads from memory over another database, the source, which
+ * is replicated by the {@link RingReplicator} service. See {@link TieredDaoModule}.
+ * <br/>
+ * SimpleDB tombstones are purged by the {@link SdbTombstonePurger} service. SimpleDB also reads
+ * just the instance addresses for the {@link CassandraAddressDao}; other backends read whole rings.
+ * <br/>
+ * Each DAO's reads are guarded by a {@link CircuitBreaker}, published via JMX as
+ * {@code com.brighttag.agathon:type=CircuitBreaker,name="CassandraRingDao.sdb"} and so on.
+ * Calls are timed outside the circuit breaker, so calls it fails fast are counted as failures.
  *
  * @author codyaray
  * @since 5/15/12
@@ -37,20 +60,69 @@ public class DaoModule extends AbstractModule {
   private static final Logger LOG = LoggerFactory.getLogger(DaoModule.class);
 
   @VisibleForTesting public static final String DATABASE_PROPERTY = "com.brighttag.agathon.database";
+  public static final String CIRCUIT_FAILURE_THRESHOLD_PROPERTY =
+      "com.brighttag.agathon.dao.circuit.failure_threshold";
+  public static final String CIRCUIT_SLOW_CALL_MS_PROPERTY = "com.brighttag.agathon.dao.circuit.slow_call_ms";
+  public static final String CIRCUIT_OPEN_SECONDS_PROPERTY = "com.brighttag.agathon.dao.circuit.open_seconds";
+  public static final String CIRCUIT_LAST_RESULTS_PROPERTY = "com.brighttag.agathon.dao.circuit.last_results";
+
+  private static final Matcher<Class> TIERED_CLASSES =
+      Matchers.inSubpackage(TieredDaoModule.class.getPackage().getName());
 
   @Override
   protected void configure() {
     String database = System.getProperty(DATABASE_PROPERTY, "sdb");
+    String backend = database;
+    Module backendModule;
+    if ("tiered".equals(database)) {
+      backend = System.getProperty(TieredDaoModule.SOURCE_PROPERTY, "zerg");
+      LOG.info("Using tiered instance database over {}", backend);
+      backendModule = backend(backend);
+      install(new TieredDaoModule(backendModule));
+      Multibinder.newSetBinder(binder(), Service.class).addBinding().to(RingReplicator.class);
+      bindInterceptor(DaoMetricsInterceptor.DAO_CLASSES.and(TIERED_CLASSES),
+          DaoMetricsInterceptor.DAO_METHODS,
+          new DaoMetricsInterceptor(database, getProvider(MetricRegistry.class)));
+    } else {
+      backendModule = backend(backend);
+      install(backendModule);
+    }
+    if (backendModule instanceof SdbDaoModule) {
+      Multibinder.newSetBinder(binder(), Service.class).addBinding().to(SdbTombstonePurger.class);
+    } else {
+      bind(CassandraAddressDao.class).to(RingCassandraAddressDao.class);
+    }
+    // Only the backend itself is remote, so only it is guarded by circuit breakers
+    bindInterceptor(DaoMetricsInterceptor.DAO_CLASSES.and(Matchers.not(TIERED_CLASSES)),
+        DaoMetricsInterceptor.DAO_METHODS,
+        new DaoMetricsInterceptor(backend, getProvider(MetricRegistry.class)));
+    bindCircuitBreaker(CassandraRingDao.class, backend);
+    bindCircuitBreaker(CassandraInstanceDao.class, backend);
+  }
+
+  private static Module backend(String database) {
     if ("memory".equals(database)) {
       LOG.info("Using in-memory instance database");
-      install(new MemoryDaoModule());
+      return new MemoryDaoModule();
     } else if ("zerg".equals(database)) {
       LOG.info("Using Zerg as instance database");
-      install(new ZergDaoModule());
-    } else {
-      LOG.info("Using SimpleDB as instance database");
-      install(new SdbDaoModule());
+      return new ZergDaoModule();
     }
+    LOG.info("Using SimpleDB as instance database");
+    return new SdbDaoModule();
+  }
+
+  private void bindCircuitBreaker(Class<?> dao, String database) {
+    CircuitBreaker breaker = new CircuitBreaker(dao.getSimpleName() + "." + database,
+        Integer.getInteger(CIRCUIT_FAILURE_THRESHOLD_PROPERTY, 5),
+        Integer.getInteger(CIRCUIT_SLOW_CALL_MS_PROPERTY, 5000),
+        Integer.getInteger(CIRCUIT_OPEN_SECONDS_PROPERTY, 10) * 1000L,
+        Ticker.systemTicker());
+    MBeans.register("CircuitBreaker", breaker.getName(), breaker, CircuitBreakerMBean.class);
+    bindInterceptor(Matchers.subclassesOf(dao).and(Matchers.not(TIERED_CLASSES)),
+        DaoMetricsInterceptor.DAO_METHODS.and(CircuitBreakerInterceptor.BACKING_STORE_READS),
+        new CircuitBreakerInterceptor(breaker, Integer.getInteger(CIRCUIT_LAST_RESULTS_PROPERTY, 1000),
+            Ticker.systemTicker()));
   }
 
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.brighttag.agathon.dao;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Inject;
+
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * {@link CassandraAddressDao} that reads whole rings from the {@link CassandraRingDao}, for
+ * backends that can't read just the addresses.
+ *
+ * @since 10/19/2026
+ */
+public class RingCassandraAddressDao implements CassandraAddressDao {
+
+  private final CassandraRingDao ringDao;
+
+  @Inject
+  public RingCassandraAddressDao(CassandraRingDao ringDao) {
+    this.ringDao = ringDao;
+  }
+
+  @Override
+  public ImmutableSet<CassandraRing> findAllAddresses() throws BackingStoreException {
+    return ringDao.findAll();
+  }
+
+}
@@ -17,6 +17,7 @@
 package com.brighttag.agathon.dao.memory;
 
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -62,6 +63,20 @@ class MemoryCassandraRingDao implements CassandraRingDao {
     return rings.get(name);
   }
 
+  @Override
+  public ImmutableSet<CassandraRing> findByNames(Set<String> names) {
+    ImmutableSet.Builder<CassandraRing> ringBuilder = ImmutableSet.builder();
+    for (String name : names) {
+      CassandraRing ring = rings.get(name);
+      if (ring != null) {
+        ringBuilder.add(ring);
+      }
+    }
+    ImmutableSet<CassandraRing> found = ringBuilder.build();
+    LOG.info("Returning rings: {}", found);
+    return found;
+  }
+
   @Override
   public void save(CassandraRing ring) {
     LOG.info("Saving ring: {}", ring);
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.sdb;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableSet;
+
+import com.brighttag.agathon.model.CassandraInstance;
+
+/**
+ * The instances of a ring saved and deleted since a {@code modified} stamp, as read by
+ * {@link SdbCassandraInstanceDao#findModifiedSince(String, String)}.
+ *
+ * @since 10/18/2026
+ */
+class InstanceChanges {
+
+  private final ImmutableSet<CassandraInstance> saved;
+  private final ImmutableSet<Integer> deleted;
+  private final @Nullable String lastModified;
+
+  InstanceChanges(ImmutableSet<CassandraInstance> saved, ImmutableSet<Integer> deleted,
+      @Nullable String lastModified) {
+    this.saved = saved;
+    this.deleted = deleted;
+    this.lastModified = lastModified;
+  }
+
+  /**
+   * Returns the instances saved since the stamp.
+   * @return the saved instances
+   */
+  ImmutableSet<CassandraInstance> getSaved() {
+    return saved;
+  }
+
+  /**
+   * Returns the IDs of the instances deleted since the stamp.
+   * @return the deleted instance IDs
+   */
+  ImmutableSet<Integer> getDeleted() {
+    return deleted;
+  }
+
+  /**
+   * Returns the latest {@code modified} stamp among the changes, or {@code null} if none is stamped.
+   * @return the latest stamp
+   */
+  @Nullable String getLastModified() {
+    return lastModified;
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.brighttag.agathon.dao.sdb;
+
+import java.util.Set;
+
+import com.amazonaws.AmazonClientException;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraAddressDao;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * SimpleDB implementation of {@link CassandraAddressDao}.
+ * <br/>
+ * Selects only the attributes that locate an instance, with eventually consistent reads, rather
+ * than going through the {@link SdbRingRefresher}'s snapshots of whole instances.
+ *
+ * @since 10/19/2026
+ */
+public class SdbCassandraAddressDao implements CassandraAddressDao {
+
+  static final ImmutableSet<String> ADDRESS_KEYS = ImmutableSet.of(SdbCassandraInstanceDao.ID_KEY,
+      SdbCassandraInstanceDao.DATACENTER_KEY, SdbCassandraInstanceDao.RACK_KEY,
+      SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY);
+
+  private final SdbCassandraInstanceDao instanceDao;
+  private final Provider<Set<String>> ringsProvider;
+
+  @Inject
+  public SdbCassandraAddressDao(SdbCassandraInstanceDao instanceDao,
+      @Named(SdbDaoModule.RINGS_PROPERTY) Provider<Set<String>> ringsProvider) {
+    this.instanceDao = instanceDao;
+    this.ringsProvider = ringsProvider;
+  }
+
+  @Override
+  public ImmutableSet<CassandraRing> findAllAddresses() throws BackingStoreException {
+    ImmutableSet.Builder<CassandraRing> ringBuilder = ImmutableSet.builder();
+    try {
+      for (String ring : SdbCassandraRingDao.rings(ringsProvider)) {
+        ringBuilder.add(new CassandraRing.Builder().name(ring)
+            .instances(instanceDao.findAll(ring, ADDRESS_KEYS, ReadConsistency.EVENTUAL)).build());
+      }
+    } catch (AmazonClientException e) {
+      throw new BackingStoreException(e);
+    }
+    return ringBuilder.build();
+  }
+
+}
@@ -16,10 +16,14 @@
 
 package com.brighttag.agathon.dao.sdb;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nullable;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
 import com.amazonaws.services.simpledb.model.Attribute;
 import com.amazonaws.services.simpledb.model.DeleteAttributesRequest;
@@ -29,38 +33,77 @@ import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
 import com.amazonaws.services.simpledb.model.SelectRequest;
 import com.amazonaws.services.simpledb.model.SelectResult;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
 import com.google.inject.Inject;
 
+import com.brighttag.agathon.dao.BackingStoreException;
 import com.brighttag.agathon.dao.CassandraInstanceDao;
 import com.brighttag.agathon.model.CassandraInstance;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * SimpleDB implementation of {@link CassandraInstanceDao}.
  * <br/>
- * All methods throw AmazonClientException and AmazonServiceExceptions at runtime.
- * TODO: catch, wrap, and rethrow these as less Amazon-y exceptions.
+ * Saves and deletes stamp each item with a sortable {@code modified} time, and deletes leave a
+ * tombstone (the item's ID and stamp) so that {@link #findModifiedSince(String, String)} can read
+ * only what changed. Tombstones are removed by {@link #purgeTombstones(String, long)}.
+ * <br/>
+ * Selects only read the attributes they need. Callers can pass a smaller projection, as the
+ * {@link SdbCassandraAddressDao} does, and the other properties of the returned instances are
+ * then {@code null}. Lookups by ID are consistent, so reading an instance right after writing it
+ * works; scans are eventually consistent unless asked otherwise.
+ * <br/>
+ * Pages of items are transformed with one reused builder and a single lookup per attribute,
+ * and each ring's domain name is computed once.
+ * <br/>
+ * Reads wrap AmazonClientExceptions (including AmazonServiceExceptions) in
+ * {@link BackingStoreException}s; writes still throw them at runtime.
  *
  * @author codyaray
  * @since 5/15/12
  */
 public class SdbCassandraInstanceDao implements CassandraInstanceDao {
 
-  @VisibleForTesting static final String ID_KEY = "id";
-  @VisibleForTesting static final String DATACENTER_KEY = "datacenter";
-  @VisibleForTesting static final String RACK_KEY = "rack";
-  @VisibleForTesting static final String HOSTNAME_KEY = "hostname";
-  @VisibleForTesting static final String PUBLIC_IP_ADDRESS_KEY = "publicIpAddress";
-  @VisibleForTesting static final String FULLY_QUALIFIED_DOMAIN_NAME_KEY = "fullyQualifiedDomainName";
+  public static final String ID_KEY = "id";
+  public static final String DATACENTER_KEY = "datacenter";
+  public static final String RACK_KEY = "rack";
+  public static final String HOSTNAME_KEY = "hostname";
+  public static final String PUBLIC_IP_ADDRESS_KEY = "publicIpAddress";
+  public static final String FULLY_QUALIFIED_DOMAIN_NAME_KEY = "fullyQualifiedDomainName";
+  @VisibleForTesting static final String MODIFIED_KEY = "modified";
 
+  /** All of the attributes of an instance. */
+  public static final ImmutableSet<String> INSTANCE_KEYS = ImmutableSet.of(ID_KEY, DATACENTER_KEY, RACK_KEY,
+      HOSTNAME_KEY, PUBLIC_IP_ADDRESS_KEY, FULLY_QUALIFIED_DOMAIN_NAME_KEY);
+
+  // Tombstones have no hostname
   @VisibleForTesting static final String ALL_QUERY =
-      "SELECT * FROM `%s`";
+      "SELECT %s FROM `%s` WHERE " + HOSTNAME_KEY + " is not null";
   @VisibleForTesting static final String INSTANCE_QUERY =
-      "SELECT * FROM `%s` WHERE " + ID_KEY + " = '%s' LIMIT 1";
+      "SELECT %s FROM `%s` WHERE " + ID_KEY + " = '%s' AND " + HOSTNAME_KEY + " is not null LIMIT 1";
+  @VisibleForTesting static final String MODIFIED_QUERY =
+      "SELECT %s FROM `%s` WHERE " + MODIFIED_KEY + " > '%s'";
+  @VisibleForTesting static final String TOMBSTONES_QUERY =
+      "SELECT " + ID_KEY + " FROM `%s` WHERE " + HOSTNAME_KEY + " is null AND " + MODIFIED_KEY + " < '%s'";
+
+  private static final String[] DATA_KEYS = {
+    DATACENTER_KEY, RACK_KEY, HOSTNAME_KEY, PUBLIC_IP_ADDRESS_KEY, FULLY_QUALIFIED_DOMAIN_NAME_KEY,
+  };
+  private static final ImmutableSet<String> CHANGE_KEYS =
+      ImmutableSet.<String>builder().addAll(INSTANCE_KEYS).add(MODIFIED_KEY).build();
+  private static final int STAMP_LENGTH = 13;
+  private static final Joiner PROJECTION_JOINER = Joiner.on("`, `");
+  private static final InstanceAttribute[] SAVE_ATTRIBUTES = InstanceAttribute.values();
 
   private final AmazonSimpleDBClient client;
   private final CassandraDomainFactory domainFactory;
+  private final ConcurrentMap<String, String> domains = Maps.newConcurrentMap();
 
   @Inject
   public SdbCassandraInstanceDao(AmazonSimpleDBClient client, CassandraDomainFactory domainFactory) {
@@ -69,29 +112,103 @@ public class SdbCassandraInstanceDao implements CassandraInstanceDao {
   }
 
   @Override
-  public ImmutableSet<CassandraInstance> findAll(String ring) {
-    List<CassandraInstance> instances = Lists.newArrayList();
-    String nextToken = null;
+  public ImmutableSet<CassandraInstance> findAll(String ring) throws BackingStoreException {
+    return findAll(ring, INSTANCE_KEYS, ReadConsistency.EVENTUAL);
+  }
 
-    do {
-      SelectRequest request = new SelectRequest(String.format(ALL_QUERY, domain(ring)))
-          .withNextToken(nextToken);
-      SelectResult result = client.select(request);
+  /**
+   * Returns the instances of a ring with only the given attributes read.
+   *
+   * @param ring the ring name
+   * @param attributes the attribute keys to read, such as {@link #PUBLIC_IP_ADDRESS_KEY}
+   * @param consistency the read consistency
+   * @return the instances
+   * @throws BackingStoreException if there was a problem communicating with SimpleDB
+   */
+  public ImmutableSet<CassandraInstance> findAll(String ring, Set<String> attributes,
+      ReadConsistency consistency) throws BackingStoreException {
+    String query = String.format(ALL_QUERY, projection(attributes), domain(ring));
+    try {
+      return transform(selectAll(query, consistency));
+    } catch (AmazonClientException e) {
+      throw new BackingStoreException(e);
+    }
+  }
 
-      for (Item item : result.getItems()) {
-        instances.add(transform(item));
+  /**
+   * Reads the instances of a ring saved or deleted after the given {@code modified} stamp.
+   *
+   * @param ring the ring name
+   * @param since the stamp, or {@code null} to read every (live) instance
+   * @return the changes
+   */
+  InstanceChanges findModifiedSince(String ring, @Nullable String since) {
+    String query = since == null
+        ? String.format(ALL_QUERY, projection(CHANGE_KEYS), domain(ring))
+        : String.format(MODIFIED_QUERY, projection(CHANGE_KEYS), domain(ring), since);
+    ImmutableSet.Builder<CassandraInstance> saved = ImmutableSet.builder();
+    ImmutableSet.Builder<Integer> deleted = ImmutableSet.builder();
+    String lastModified = null;
+    List<Item> items = selectAll(query, ReadConsistency.EVENTUAL);
+    CassandraInstance.Builder builder = new CassandraInstance.Builder();
+    for (int i = 0; i < items.size(); i++) {
+      Item item = items.get(i);
+      String modified = value(item, MODIFIED_KEY);
+      if (value(item, HOSTNAME_KEY) == null) {
+        deleted.add(Integer.parseInt(item.getName()));
+      } else {
+        saved.add(transform(item, builder));
       }
+      if (modified != null) {
+        lastModified = lastModified == null ? modified : Ordering.natural().max(lastModified, modified);
+      }
+    }
+    return new InstanceChanges(saved.build(), deleted.build(), lastModified);
+  }
 
-      nextToken = result.getNextToken();
-    } while (nextToken != null);
-
-    return ImmutableSet.copyOf(instances);
+  /**
+   * Removes the tombstones of instances deleted more than {@code retentionMillis} ago.
+   *
+   * @param ring the ring name
+   * @param retentionMillis how long to keep tombstones
+   * @return the number of tombstones removed
+   */
+  int purgeTombstones(String ring, long retentionMillis) {
+    String domain = domain(ring);
+    String before = stamp(System.currentTimeMillis() - retentionMillis);
+    int purged = 0;
+    for (Item item : selectAll(String.format(TOMBSTONES_QUERY, domain, before), ReadConsistency.EVENTUAL)) {
+      client.deleteAttributes(new DeleteAttributesRequest(domain, item.getName()));
+      purged++;
+    }
+    return purged;
   }
 
   @Override
-  public @Nullable CassandraInstance findById(String ring, int id) {
-    SelectRequest request = new SelectRequest(String.format(INSTANCE_QUERY, domain(ring), id));
-    SelectResult result = client.select(request);
+  public @Nullable CassandraInstance findById(String ring, int id) throws BackingStoreException {
+    return findById(ring, id, INSTANCE_KEYS, ReadConsistency.CONSISTENT);
+  }
+
+  /**
+   * Returns an instance by ID with only the given attributes read.
+   *
+   * @param ring the ring name
+   * @param id the instance ID
+   * @param attributes the attribute keys to read, such as {@link #PUBLIC_IP_ADDRESS_KEY}
+   * @param consistency the read consistency
+   * @return the instance, or {@code null} if not found
+   * @throws BackingStoreException if there was a problem communicating with SimpleDB
+   */
+  public @Nullable CassandraInstance findById(String ring, int id, Set<String> attributes,
+      ReadConsistency consistency) throws BackingStoreException {
+    SelectRequest request = new SelectRequest(
+        String.format(INSTANCE_QUERY, projection(attributes), domain(ring), id), consistency.isConsistent());
+    SelectResult result;
+    try {
+      result = client.select(request);
+    } catch (AmazonClientException e) {
+      throw new BackingStoreException(e);
+    }
 
     if (result.getItems().size() == 0) {
       return null;
@@ -102,67 +219,111 @@ public class SdbCassandraInstanceDao implements CassandraInstanceDao {
 
   @Override
   public void save(String ring, CassandraInstance instance) {
-    PutAttributesRequest request = new PutAttributesRequest(
-        domain(ring), String.valueOf(instance.getId()), buildSaveAttributes(instance));
+    PutAttributesRequest request = new PutAttributesRequest(domain(ring), String.valueOf(instance.getId()),
+        buildSaveAttributes(instance, System.currentTimeMillis()));
     client.putAttributes(request);
   }
 
   @Override
   public void delete(String ring, CassandraInstance instance) {
-    DeleteAttributesRequest request = new DeleteAttributesRequest(
-        domain(ring), String.valueOf(instance.getId()), buildDeleteAttributes(instance));
-    client.deleteAttributes(request);
+    String domain = domain(ring);
+    String itemName = String.valueOf(instance.getId());
+    client.deleteAttributes(new DeleteAttributesRequest(domain, itemName, buildDeleteAttributes()));
+    client.putAttributes(new PutAttributesRequest(domain, itemName,
+        Lists.newArrayList(attribute(MODIFIED_KEY, stamp(System.currentTimeMillis()), true))));
+  }
+
+  private List<Item> selectAll(String query, ReadConsistency consistency) {
+    List<Item> items = Lists.newArrayList();
+    String nextToken = null;
+
+    do {
+      SelectRequest request = new SelectRequest(query, consistency.isConsistent()).withNextToken(nextToken);
+      SelectResult result = client.select(request);
+      items.addAll(result.getItems());
+      nextToken = result.getNextToken();
+    } while (nextToken != null);
+
+    return items;
+  }
+
+  private static String projection(Set<String> attributes) {
+    checkArgument(!attributes.isEmpty(), "At least one attribute must be selected");
+    return "`" + PROJECTION_JOINER.join(attributes) + "`";
   }
 
   private String domain(String ringName) {
-    return domainFactory.createFromRing(ringName).toString();
+    String domain = domains.get(ringName);
+    if (domain == null) {
+      domain = domainFactory.createFromRing(ringName).toString();
+      domains.putIfAbsent(ringName, domain);
+    }
+    return domain;
+  }
+
+  /**
+   * Formats a time as a {@code modified} stamp. SimpleDB compares values as strings,
+   * so stamps are zero-padded to sort in time order.
+   */
+  @VisibleForTesting static String stamp(long millis) {
+    return Strings.padStart(String.valueOf(Math.max(millis, 0)), STAMP_LENGTH, '0');
+  }
+
+  @VisibleForTesting static ImmutableSet<CassandraInstance> transform(List<Item> items) {
+    CassandraInstance.Builder builder = new CassandraInstance.Builder();
+    ImmutableSet.Builder<CassandraInstance> instances = ImmutableSet.builder();
+    for (int i = 0; i < items.size(); i++) {
+      instances.add(transform(items.get(i), builder));
+    }
+    return instances.build();
   }
 
-  // Checkstyle ignore: CyclomaticComplexity
   @VisibleForTesting static CassandraInstance transform(Item item) {
-    CassandraInstance.Builder instanceBuilder = new CassandraInstance.Builder();
-    for (Attribute attr : item.getAttributes()) {
-      if (attr.getName().equals(ID_KEY)) {
-        instanceBuilder.id(Integer.parseInt(attr.getValue()));
-      } else if (attr.getName().equals(DATACENTER_KEY)) {
-        instanceBuilder.dataCenter(attr.getValue());
-      } else if (attr.getName().equals(RACK_KEY)) {
-        instanceBuilder.rack(attr.getValue());
-      } else if (attr.getName().equals(HOSTNAME_KEY)) {
-        instanceBuilder.hostName(attr.getValue());
-      } else if (attr.getName().equals(PUBLIC_IP_ADDRESS_KEY)) {
-        instanceBuilder.publicIpAddress(attr.getValue());
-      } else if (attr.getName().equals(FULLY_QUALIFIED_DOMAIN_NAME_KEY)) {
-        instanceBuilder.fullyQualifiedDomainName(attr.getValue());
+    return transform(item, new CassandraInstance.Builder());
+  }
+
+  // Reuses the builder across a page of items; it's cleared first so no attribute carries over
+  private static CassandraInstance transform(Item item, CassandraInstance.Builder builder) {
+    InstanceAttribute.clear(builder);
+    List<Attribute> attrs = item.getAttributes();
+    for (int i = 0; i < attrs.size(); i++) {
+      Attribute attr = attrs.get(i);
+      InstanceAttribute attribute = InstanceAttribute.forKey(attr.getName());
+      if (attribute != null) {
+        attribute.set(builder, attr.getValue());
       }
     }
-    return instanceBuilder.build();
+    return builder.build();
   }
 
-  private static List<ReplaceableAttribute> buildSaveAttributes(CassandraInstance instance) {
-    List<ReplaceableAttribute> attrs = Lists.newArrayList();
-    attrs.add(attribute(ID_KEY, String.valueOf(instance.getId()), false));
-    attrs.add(attribute(DATACENTER_KEY, instance.getDataCenter(), true));
-    attrs.add(attribute(RACK_KEY, instance.getRack(), true));
-    attrs.add(attribute(HOSTNAME_KEY, instance.getHostName(), true));
-    attrs.add(attribute(PUBLIC_IP_ADDRESS_KEY, instance.getPublicIpAddress(), true));
-    attrs.add(attribute(FULLY_QUALIFIED_DOMAIN_NAME_KEY, instance.getFullyQualifiedDomainName(), true));
-    return attrs;
+  private static @Nullable String value(Item item, String key) {
+    List<Attribute> attrs = item.getAttributes();
+    for (int i = 0; i < attrs.size(); i++) {
+      if (attrs.get(i).getName().equals(key)) {
+        return attrs.get(i).getValue();
+      }
+    }
+    return null;
   }
 
-  private static List<Attribute> buildDeleteAttributes(CassandraInstance instance) {
-    List<Attribute> attrs = Lists.newArrayList();
-    attrs.add(attribute(ID_KEY, String.valueOf(instance.getId())));
-    attrs.add(attribute(DATACENTER_KEY, instance.getDataCenter()));
-    attrs.add(attribute(RACK_KEY, instance.getRack()));
-    attrs.add(attribute(HOSTNAME_KEY, instance.getHostName()));
-    attrs.add(attribute(PUBLIC_IP_ADDRESS_KEY, instance.getPublicIpAddress()));
-    attrs.add(attribute(FULLY_QUALIFIED_DOMAIN_NAME_KEY, instance.getFullyQualifiedDomainName()));
-    return attrs;
+  @VisibleForTesting static List<ReplaceableAttribute> buildSaveAttributes(CassandraInstance instance,
+      long millis) {
+    ReplaceableAttribute[] attrs = new ReplaceableAttribute[SAVE_ATTRIBUTES.length + 1];
+    for (int i = 0; i < SAVE_ATTRIBUTES.length; i++) {
+      InstanceAttribute attribute = SAVE_ATTRIBUTES[i];
+      attrs[i] = attribute(attribute.getKey(), attribute.get(instance), attribute.isReplaceable());
+    }
+    attrs[SAVE_ATTRIBUTES.length] = attribute(MODIFIED_KEY, stamp(millis), true);
+    return Arrays.asList(attrs);
   }
 
-  private static Attribute attribute(String key, String value) {
-    return new Attribute(key, value);
+  // Deletes every value of the data attributes, leaving the ID as a tombstone
+  private static List<Attribute> buildDeleteAttributes() {
+    List<Attribute> attrs = Lists.newArrayList();
+    for (String key : DATA_KEYS) {
+      attrs.add(new Attribute().withName(key));
+    }
+    return attrs;
   }
 
   private static ReplaceableAttribute attribute(String key, String value, boolean replaceable) {
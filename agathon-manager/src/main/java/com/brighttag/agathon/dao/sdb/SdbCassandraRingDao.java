@@ -20,14 +20,18 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
 import com.amazonaws.services.simpledb.model.CreateDomainRequest;
 import com.amazonaws.services.simpledb.model.DeleteDomainRequest;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.ProvisionException;
 import com.google.inject.name.Named;
 
+import com.brighttag.agathon.dao.BackingStoreException;
 import com.brighttag.agathon.dao.CassandraRingDao;
 import com.brighttag.agathon.model.CassandraInstance;
 import com.brighttag.agathon.model.CassandraRing;
@@ -35,8 +39,11 @@ import com.brighttag.agathon.model.CassandraRing;
 /**
  * SimpleDB implementation of {@link CassandraRingDao}.
  * <br/>
- * All methods throw AmazonClientException and AmazonServiceExceptions at runtime.
- * TODO: catch, wrap, and rethrow these as less Amazon-y exceptions.
+ * Rings are read through a {@link SdbRingRefresher}, so reading a ring costs in proportion to
+ * its recent changes rather than its size.
+ * <br/>
+ * Reads wrap AmazonClientExceptions (including AmazonServiceExceptions) in
+ * {@link BackingStoreException}s; writes still throw them at runtime.
  *
  * @author codyaray
  * @since 9/16/2013
@@ -45,40 +52,63 @@ public class SdbCassandraRingDao implements CassandraRingDao {
 
   private final AmazonSimpleDBClient client;
   private final SdbCassandraInstanceDao instanceDao;
+  private final SdbRingRefresher refresher;
   private final CassandraDomainFactory domainFactory;
   private final Provider<Set<String>> ringsProvider;
 
   @Inject
   public SdbCassandraRingDao(AmazonSimpleDBClient client, SdbCassandraInstanceDao instanceDao,
-      CassandraDomainFactory domainFactory,
+      SdbRingRefresher refresher, CassandraDomainFactory domainFactory,
       @Named(SdbDaoModule.RINGS_PROPERTY) Provider<Set<String>> ringsProvider) {
     this.client = client;
     this.instanceDao = instanceDao;
+    this.refresher = refresher;
     this.domainFactory = domainFactory;
     this.ringsProvider = ringsProvider;
   }
 
   @Override
-  public ImmutableSet<CassandraRing> findAll() {
-    ImmutableSet.Builder<CassandraRing> ringBuilder = ImmutableSet.builder();
-    for (String ring : ringsProvider.get()) {
-      ringBuilder.add(getByName(ring));
+  public ImmutableSet<CassandraRing> findAll() throws BackingStoreException {
+    try {
+      ImmutableSet.Builder<CassandraRing> ringBuilder = ImmutableSet.builder();
+      for (String ring : rings()) {
+        ringBuilder.add(getByName(ring));
+      }
+      return ringBuilder.build();
+    } catch (AmazonClientException e) {
+      throw new BackingStoreException(e);
+    }
+  }
+
+  @Override
+  public @Nullable CassandraRing findByName(String name) throws BackingStoreException {
+    try {
+      if (!rings().contains(name)) {
+        return null;
+      }
+      return getByName(name);
+    } catch (AmazonClientException e) {
+      throw new BackingStoreException(e);
     }
-    return ringBuilder.build();
   }
 
   @Override
-  public @Nullable CassandraRing findByName(String name) {
-    if (!ringsProvider.get().contains(name)) {
-      return null;
+  public ImmutableSet<CassandraRing> findByNames(Set<String> names) throws BackingStoreException {
+    try {
+      ImmutableSet.Builder<CassandraRing> ringBuilder = ImmutableSet.builder();
+      for (String ring : Sets.intersection(ImmutableSet.copyOf(rings()), names)) {
+        ringBuilder.add(getByName(ring));
+      }
+      return ringBuilder.build();
+    } catch (AmazonClientException e) {
+      throw new BackingStoreException(e);
     }
-    return getByName(name);
   }
 
   @Override
   public void save(CassandraRing ring) {
     String domain = domain(ring);
-    if (!ringsProvider.get().contains(domain)) {
+    if (!rings().contains(domain)) {
       client.createDomain(new CreateDomainRequest().withDomainName(domain));
     }
     for (CassandraInstance instance : ring.getInstances()) {
@@ -89,9 +119,26 @@ public class SdbCassandraRingDao implements CassandraRingDao {
   @Override
   public void delete(CassandraRing ring) {
     String domain = domain(ring);
-    if (ringsProvider.get().contains(domain)) {
+    if (rings().contains(domain)) {
       client.deleteDomain(new DeleteDomainRequest().withDomainName(domain));
     }
+    refresher.invalidate(ring.getName());
+  }
+
+  private Set<String> rings() {
+    return rings(ringsProvider);
+  }
+
+  // The ring names are listed from SimpleDB by a provider, which wraps any failure
+  static Set<String> rings(Provider<Set<String>> ringsProvider) {
+    try {
+      return ringsProvider.get();
+    } catch (ProvisionException e) {
+      if (e.getCause() instanceof AmazonClientException) {
+        throw (AmazonClientException) e.getCause();
+      }
+      throw e;
+    }
   }
 
   private String domain(CassandraRing ring) {
@@ -99,7 +146,7 @@ public class SdbCassandraRingDao implements CassandraRingDao {
   }
 
   private CassandraRing getByName(String ring) {
-    return new CassandraRing.Builder().name(ring).instances(instanceDao.findAll(ring)).build();
+    return new CassandraRing.Builder().name(ring).instances(refresher.refresh(ring)).build();
   }
 
 }
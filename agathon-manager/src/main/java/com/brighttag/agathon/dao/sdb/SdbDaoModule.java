@@ -23,15 +23,18 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
 import com.amazonaws.services.simpledb.model.ListDomainsRequest;
 import com.amazonaws.services.simpledb.model.ListDomainsResult;
+import com.google.common.base.Ticker;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.inject.PrivateModule;
+import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 
 import com.brighttag.agathon.aws.AwsModule;
+import com.brighttag.agathon.dao.CassandraAddressDao;
 import com.brighttag.agathon.dao.CassandraInstanceDao;
 import com.brighttag.agathon.dao.CassandraRingDao;
 
@@ -42,6 +45,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * <br/>
  * Use of this module requires the {@code ACCESS_KEY_PROPERTY}
  * and {@code SECRET_KEY_PROPERTY} system properties to be set.
+ * <br/>
+ * The {@link SdbTombstonePurger} is exposed so that it can be registered as a service, and the
+ * {@link CassandraAddressDao} so that addresses are read without the other instance attributes.
  *
  * @author codyaray
  * @since 5/15/12
@@ -51,6 +57,13 @@ public class SdbDaoModule extends PrivateModule {
   // Configuration options
   static final String DOMAIN_NAMESPACE_PROPERTY =
       "com.brighttag.agathon.dao.sdb.domain_namespace";
+  static final String ENDPOINT_PROPERTY = "com.brighttag.agathon.dao.sdb.endpoint";
+  static final String SYNC_OVERLAP_SECONDS_PROPERTY = "com.brighttag.agathon.dao.sdb.sync_overlap_seconds";
+  static final String FULL_SYNC_SECONDS_PROPERTY = "com.brighttag.agathon.dao.sdb.full_sync_seconds";
+  static final String TOMBSTONE_RETENTION_SECONDS_PROPERTY =
+      "com.brighttag.agathon.dao.sdb.tombstone_retention_seconds";
+  static final String TOMBSTONE_PURGE_SECONDS_PROPERTY =
+      "com.brighttag.agathon.dao.sdb.tombstone_purge_seconds";
 
   // Internal bindings and constants
   static final String RINGS_PROPERTY = "com.brighttag.agathon.cassandra.rings";
@@ -64,13 +77,37 @@ public class SdbDaoModule extends PrivateModule {
         checkNotNull(System.getProperty(DOMAIN_NAMESPACE_PROPERTY), "SimpleDB domain namespace must be set"));
     bind(CassandraInstanceDao.class).to(SdbCassandraInstanceDao.class);
     bind(CassandraRingDao.class).to(SdbCassandraRingDao.class);
+    bind(CassandraAddressDao.class).to(SdbCassandraAddressDao.class);
     expose(CassandraInstanceDao.class);
     expose(CassandraRingDao.class);
+    expose(CassandraAddressDao.class);
+    expose(SdbTombstonePurger.class);
   }
 
   @Provides
   AmazonSimpleDBClient provideAmazonSimpleDBClient(AWSCredentials credentials) {
-    return new AmazonSimpleDBClient(credentials);
+    AmazonSimpleDBClient client = new AmazonSimpleDBClient(credentials);
+    String endpoint = System.getProperty(ENDPOINT_PROPERTY);
+    if (endpoint != null) {
+      client.setEndpoint(endpoint);
+    }
+    return client;
+  }
+
+  @Provides @Singleton
+  SdbRingRefresher provideSdbRingRefresher(SdbCassandraInstanceDao instanceDao) {
+    return new SdbRingRefresher(instanceDao,
+        Integer.getInteger(SYNC_OVERLAP_SECONDS_PROPERTY, 30),
+        Integer.getInteger(FULL_SYNC_SECONDS_PROPERTY, 300),
+        Ticker.systemTicker());
+  }
+
+  @Provides @Singleton
+  SdbTombstonePurger provideSdbTombstonePurger(SdbCassandraInstanceDao instanceDao,
+      @Named(RINGS_PROPERTY) Provider<Set<String>> rings) {
+    return new SdbTombstonePurger(instanceDao, rings,
+        Integer.getInteger(TOMBSTONE_RETENTION_SECONDS_PROPERTY, 86400),
+        Integer.getInteger(TOMBSTONE_PURGE_SECONDS_PROPERTY, 3600));
   }
 
   @Provides @Named(RINGS_PROPERTY)
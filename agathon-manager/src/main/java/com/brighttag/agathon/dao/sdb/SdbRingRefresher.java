@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.sdb;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import com.brighttag.agathon.model.CassandraInstance;
+
+/**
+ * Keeps a snapshot of each ring's instances and refreshes it incrementally from SimpleDB,
+ * reading only the items {@code modified} since the last refresh and merging them in.
+ * <br/>
+ * Stamps come from the writers' clocks and SimpleDB reads are eventually consistent, so each
+ * refresh re-reads an overlap window before the latest stamp seen. To catch anything missed
+ * anyway (such as items written without a stamp), the whole ring is re-read periodically.
+ * Refreshes only read; old tombstones are purged in the background by a {@link SdbTombstonePurger}.
+ *
+ * @since 10/18/2026
+ */
+public class SdbRingRefresher {
+
+  private final SdbCassandraInstanceDao instanceDao;
+  private final long overlapMillis;
+  private final long fullSyncNanos;
+  private final Ticker ticker;
+  private final ConcurrentMap<String, Snapshot> snapshots = Maps.newConcurrentMap();
+
+  /**
+   * @param instanceDao the instance DAO
+   * @param overlapSeconds how far before the latest stamp seen to re-read
+   * @param fullSyncSeconds how often to re-read the whole ring
+   * @param ticker the ticker for scheduling full syncs
+   */
+  public SdbRingRefresher(SdbCassandraInstanceDao instanceDao, int overlapSeconds, int fullSyncSeconds,
+      Ticker ticker) {
+    this.instanceDao = instanceDao;
+    this.overlapMillis = TimeUnit.SECONDS.toMillis(overlapSeconds);
+    this.fullSyncNanos = TimeUnit.SECONDS.toNanos(fullSyncSeconds);
+    this.ticker = ticker;
+  }
+
+  /**
+   * Refreshes and returns the instances of a ring.
+   *
+   * @param ring the ring name
+   * @return the ring's instances
+   */
+  public ImmutableSet<CassandraInstance> refresh(String ring) {
+    Snapshot snapshot = snapshots.get(ring);
+    long now = ticker.read();
+    if (snapshot == null || now - snapshot.fullSyncNanos >= fullSyncNanos) {
+      snapshot = fullSync(ring, now);
+    } else {
+      snapshot = snapshot.merge(instanceDao.findModifiedSince(ring, since(snapshot.lastModified)));
+    }
+    snapshots.put(ring, snapshot);
+    return ImmutableSet.copyOf(snapshot.instances.values());
+  }
+
+  /**
+   * Drops the snapshot of a ring, so that the next refresh re-reads it completely.
+   * @param ring the ring name
+   */
+  public void invalidate(String ring) {
+    snapshots.remove(ring);
+  }
+
+  private Snapshot fullSync(String ring, long now) {
+    InstanceChanges changes = instanceDao.findModifiedSince(ring, null);
+    return new Snapshot(ImmutableMap.<Integer, CassandraInstance>of(), null, now).merge(changes);
+  }
+
+  private String since(@Nullable String lastModified) {
+    long last = lastModified == null ? 0 : Long.parseLong(lastModified);
+    return SdbCassandraInstanceDao.stamp(last - overlapMillis);
+  }
+
+  private static class Snapshot {
+    private final ImmutableMap<Integer, CassandraInstance> instances;
+    private final @Nullable String lastModified;
+    private final long fullSyncNanos;
+
+    Snapshot(ImmutableMap<Integer, CassandraInstance> instances, @Nullable String lastModified,
+        long fullSyncNanos) {
+      this.instances = instances;
+      this.lastModified = lastModified;
+      this.fullSyncNanos = fullSyncNanos;
+    }
+
+    Snapshot merge(InstanceChanges changes) {
+      Map<Integer, CassandraInstance> merged = Maps.newHashMap(instances);
+      for (CassandraInstance instance : changes.getSaved()) {
+        merged.put(instance.getId(), instance);
+      }
+      merged.keySet().removeAll(changes.getDeleted());
+      String modified = changes.getLastModified();
+      if (lastModified != null && (modified == null || lastModified.compareTo(modified) > 0)) {
+        modified = lastModified;
+      }
+      return new Snapshot(ImmutableMap.copyOf(merged), modified, fullSyncNanos);
+    }
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.sdb;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.google.common.util.concurrent.AbstractScheduledService;
+import com.google.inject.Provider;
+import com.google.inject.ProvisionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.brighttag.agathon.jmx.ScheduledServiceMBean;
+
+/**
+ * Periodically deletes the tombstones of instances deleted longer ago than the retention period,
+ * so that ring reads never write to SimpleDB.
+ * <br/>
+ * Tombstones must outlive a full sync of the {@link SdbRingRefresher}, or incremental refreshes
+ * could miss deletions until then.
+ *
+ * @since 10/19/2026
+ */
+public class SdbTombstonePurger extends AbstractScheduledService implements ScheduledServiceMBean {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SdbTombstonePurger.class);
+
+  private final SdbCassandraInstanceDao instanceDao;
+  private final Provider<Set<String>> rings;
+  private final long retentionMillis;
+  private final int periodSeconds;
+
+  /**
+   * @param instanceDao the instance DAO
+   * @param rings the names of the rings to purge, looked up on each run
+   * @param retentionSeconds how long to keep tombstones
+   * @param periodSeconds how often to purge
+   */
+  public SdbTombstonePurger(SdbCassandraInstanceDao instanceDao, Provider<Set<String>> rings,
+      int retentionSeconds, int periodSeconds) {
+    this.instanceDao = instanceDao;
+    this.rings = rings;
+    this.retentionMillis = TimeUnit.SECONDS.toMillis(retentionSeconds);
+    this.periodSeconds = periodSeconds;
+  }
+
+  @Override
+  public void runOneIteration() {
+    Set<String> names;
+    try {
+      names = rings.get();
+    } catch (ProvisionException e) {
+      LOG.warn("Unable to list the rings to purge tombstones from", e);
+      return;
+    }
+    for (String ring : names) {
+      try {
+        int purged = instanceDao.purgeTombstones(ring, retentionMillis);
+        if (purged > 0) {
+          LOG.info("Purged {} tombstones from ring {}", purged, ring);
+        }
+      } catch (AmazonClientException e) {
+        LOG.warn("Unable to purge tombstones from ring " + ring, e);
+      }
+    }
+  }
+
+  @Override
+  protected Scheduler scheduler() {
+    return Scheduler.newFixedDelaySchedule(periodSeconds, periodSeconds, TimeUnit.SECONDS);
+  }
+
+}
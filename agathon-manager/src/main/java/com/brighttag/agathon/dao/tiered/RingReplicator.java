@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.AbstractScheduledService;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.jmx.ScheduledServiceMBean;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * Keeps the tiers in sync by periodically copying the rings from the source into the in-memory
+ * {@link RingSnapshot} and, when they change, into the durable {@link RingSnapshotFile}.
+ * <br/>
+ * On startup, the snapshot is loaded from the file, so that the tiered rings are served even if
+ * the source is unreachable, and then replicated from the source once before other services start.
+ * <br/>
+ * A source that suddenly has no rings is more likely broken than emptied, so a non-empty snapshot
+ * (and its file) is only cleared once the source has had no rings for several replications in a row.
+ *
+ * @since 10/18/2026
+ */
+public class RingReplicator extends AbstractScheduledService implements ScheduledServiceMBean {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RingReplicator.class);
+
+  private final CassandraRingDao source;
+  private final RingSnapshot snapshot;
+  private final RingSnapshotFile file;
+  private final int periodSeconds;
+  private final int emptyConfirmations;
+  private @Nullable ImmutableMap<String, CassandraRing> written;
+  private int emptyReplications;
+
+  @Inject
+  public RingReplicator(@Named(TieredDaoModule.SOURCE) CassandraRingDao source, RingSnapshot snapshot,
+      RingSnapshotFile file, @Named(TieredDaoModule.REPLICATE_SECONDS_PROPERTY) int periodSeconds,
+      @Named(TieredDaoModule.EMPTY_CONFIRMATIONS_PROPERTY) int emptyConfirmations) {
+    this.source = source;
+    this.snapshot = snapshot;
+    this.file = file;
+    this.periodSeconds = periodSeconds;
+    this.emptyConfirmations = emptyConfirmations;
+  }
+
+  @Override
+  protected void startUp() {
+    try {
+      ImmutableSet<CassandraRing> rings = file.read();
+      if (rings != null) {
+        snapshot.replace(rings);
+        written = snapshot.get();
+        LOG.info("Loaded {} rings from the ring snapshot file", rings.size());
+      }
+    } catch (BackingStoreException e) {
+      LOG.warn("Unable to load the ring snapshot file; waiting for the source", e);
+    }
+    runOneIteration();
+  }
+
+  @Override
+  public void runOneIteration() {
+    try {
+      replicate();
+    } catch (BackingStoreException e) {
+      LOG.warn("Unable to replicate rings from the source", e);
+    }
+  }
+
+  @VisibleForTesting
+  void replicate() throws BackingStoreException {
+    ImmutableSet<CassandraRing> rings = source.findAll();
+    ImmutableMap<String, CassandraRing> previous = snapshot.get();
+    if (rings.isEmpty() && previous != null && !previous.isEmpty()) {
+      if (++emptyReplications < emptyConfirmations) {
+        LOG.warn("Source has no rings; keeping the {} replicated rings until that's seen {} times in a row",
+            previous.size(), emptyConfirmations);
+        return;
+      }
+      LOG.warn("Source has had no rings {} times in a row; dropping the replicated rings", emptyReplications);
+    }
+    emptyReplications = 0;
+    if (snapshot.replace(rings)) {
+      LOG.info("Replicated {} rings from the source", snapshot.get().size());
+    }
+    // Also catches writes that patched the snapshot since it was last written
+    ImmutableMap<String, CassandraRing> current = snapshot.get();
+    if (!current.equals(written)) {
+      file.write(ImmutableSet.copyOf(current.values()));
+      written = current;
+    }
+  }
+
+  @Override
+  protected Scheduler scheduler() {
+    return Scheduler.newFixedDelaySchedule(periodSeconds, periodSeconds, TimeUnit.SECONDS);
+  }
+
+}
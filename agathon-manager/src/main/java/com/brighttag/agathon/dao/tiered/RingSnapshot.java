@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Function;
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * The in-memory tier: an immutable snapshot of the tiered rings, replaced as a whole by the
+ * {@link RingReplicator} and patched by writes in between.
+ * <br/>
+ * Until the first snapshot is loaded, {@link #isLoaded()} is {@code false} and reads of the
+ * tiered rings must go to the source instead.
+ *
+ * @since 10/18/2026
+ */
+public class RingSnapshot {
+
+  private static final Function<CassandraRing, String> RING_NAME = new Function<CassandraRing, String>() {
+    @Override
+    public String apply(CassandraRing ring) {
+      return ring.getName();
+    }
+  };
+
+  private final Predicate<String> tieredRings;
+  private final boolean allTiered;
+  private volatile @Nullable ImmutableMap<String, CassandraRing> rings;
+
+  /**
+   * @param tieredRings the names of the rings to keep in the snapshot, or empty for all rings
+   */
+  public RingSnapshot(Set<String> tieredRings) {
+    this.allTiered = tieredRings.isEmpty();
+    this.tieredRings = allTiered
+        ? Predicates.<String>alwaysTrue()
+        : Predicates.in(ImmutableSet.copyOf(tieredRings));
+  }
+
+  /**
+   * Returns whether every ring is kept in the snapshot.
+   * @return {@code true} if all rings are tiered
+   */
+  public boolean isAllTiered() {
+    return allTiered;
+  }
+
+  /**
+   * Returns whether the given ring is kept in the snapshot.
+   * @param name the ring name
+   * @return {@code true} if the ring is tiered
+   */
+  public boolean isTiered(String name) {
+    return tieredRings.apply(name);
+  }
+
+  /**
+   * Returns whether a snapshot has been loaded.
+   * @return {@code true} if a snapshot has been loaded
+   */
+  public boolean isLoaded() {
+    return rings != null;
+  }
+
+  /**
+   * Returns the rings in the snapshot, or {@code null} if none has been loaded.
+   * @return the rings by name
+   */
+  public @Nullable ImmutableMap<String, CassandraRing> get() {
+    return rings;
+  }
+
+  /**
+   * Replaces the snapshot with the tiered rings among the given {@code rings}.
+   *
+   * @param rings the rings
+   * @return whether the snapshot changed
+   */
+  public synchronized boolean replace(Set<CassandraRing> rings) {
+    ImmutableMap<String, CassandraRing> replacement = ImmutableMap.copyOf(
+        Maps.filterKeys(Maps.uniqueIndex(rings, RING_NAME), tieredRings));
+    boolean changed = !replacement.equals(this.rings);
+    this.rings = replacement;
+    return changed;
+  }
+
+  /**
+   * Adds or replaces a ring in a loaded snapshot.
+   * @param ring the ring
+   */
+  public synchronized void put(CassandraRing ring) {
+    if (rings != null && isTiered(ring.getName())) {
+      Map<String, CassandraRing> updated = Maps.newHashMap(rings);
+      updated.put(ring.getName(), ring);
+      rings = ImmutableMap.copyOf(updated);
+    }
+  }
+
+  /**
+   * Removes a ring from a loaded snapshot.
+   * @param name the ring name
+   */
+  public synchronized void remove(String name) {
+    if (rings != null && rings.containsKey(name)) {
+      Map<String, CassandraRing> updated = Maps.newHashMap(rings);
+      updated.remove(name);
+      rings = ImmutableMap.copyOf(updated);
+    }
+  }
+
+  /**
+   * Adds or replaces an instance of a ring in a loaded snapshot.
+   * @param name the ring name
+   * @param instance the instance
+   */
+  public synchronized void putInstance(String name, CassandraInstance instance) {
+    CassandraRing ring = rings == null ? null : rings.get(name);
+    ImmutableSet.Builder<CassandraInstance> instances = ImmutableSet.builder();
+    if (ring != null) {
+      for (CassandraInstance existing : ring.getInstances()) {
+        if (existing.getId() != instance.getId()) {
+          instances.add(existing);
+        }
+      }
+    }
+    put(new CassandraRing.Builder().name(name).instances(instances.add(instance).build()).build());
+  }
+
+  /**
+   * Removes an instance of a ring from a loaded snapshot.
+   * @param name the ring name
+   * @param instance the instance
+   */
+  public synchronized void removeInstance(String name, CassandraInstance instance) {
+    CassandraRing ring = rings == null ? null : rings.get(name);
+    if (ring != null) {
+      ImmutableSet.Builder<CassandraInstance> instances = ImmutableSet.builder();
+      for (CassandraInstance existing : ring.getInstances()) {
+        if (existing.getId() != instance.getId()) {
+          instances.add(existing);
+        }
+      }
+      put(new CassandraRing.Builder().name(name).instances(instances.build()).build());
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.Files;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.model.JacksonModelModule;
+
+/**
+ * The durable tier: a local JSON file holding the last snapshot of the tiered rings, so that
+ * they can be served after a restart even if the source is unreachable.
+ * <br/>
+ * Rings are written and read with the {@link JacksonModelModule}. The file is replaced by renaming
+ * a new temporary file in the same directory over it, which is atomic on POSIX file systems
+ * (such as Linux's, which Agathon runs on) but not necessarily elsewhere.
+ *
+ * @since 10/18/2026
+ */
+public class RingSnapshotFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RingSnapshotFile.class);
+
+  private static final String RINGS_FIELD = "rings";
+  private static final TypeReference<Set<CassandraRing>> RINGS = new TypeReference<Set<CassandraRing>>() { };
+
+  private final File file;
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new JacksonModelModule(true));
+
+  /**
+   * @param file the snapshot file
+   */
+  public RingSnapshotFile(File file) {
+    this.file = file;
+  }
+
+  /**
+   * Reads the rings from the snapshot file.
+   *
+   * @return the rings, or {@code null} if there is no snapshot file
+   * @throws BackingStoreException if the snapshot file can't be read
+   */
+  public @Nullable ImmutableSet<CassandraRing> read() throws BackingStoreException {
+    if (!file.exists()) {
+      return null;
+    }
+    try {
+      JsonNode rings = mapper.readTree(file).get(RINGS_FIELD);
+      if (rings == null || rings.isNull()) {
+        return ImmutableSet.of();
+      }
+      return ImmutableSet.copyOf(mapper.<Set<CassandraRing>>readValue(mapper.treeAsTokens(rings), RINGS));
+    } catch (IOException e) {
+      throw new BackingStoreException("Unable to read ring snapshot " + file, e);
+    } catch (RuntimeException e) {
+      throw new BackingStoreException("Invalid ring snapshot " + file, e);
+    }
+  }
+
+  /**
+   * Writes the rings to the snapshot file.
+   *
+   * @param rings the rings
+   * @throws BackingStoreException if the snapshot file can't be written
+   */
+  public void write(Iterable<CassandraRing> rings) throws BackingStoreException {
+    File temp = null;
+    try {
+      Files.createParentDirs(file);
+      temp = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+      mapper.writeValue(temp, ImmutableMap.of(RINGS_FIELD, rings));
+      if (!temp.renameTo(file)) {
+        throw new IOException("Unable to rename " + temp + " to " + file);
+      }
+      LOG.debug("Wrote ring snapshot {}", file);
+    } catch (IOException e) {
+      if (temp != null && temp.exists() && !temp.delete()) {
+        LOG.warn("Unable to delete {}", temp);
+      }
+      throw new BackingStoreException("Unable to write ring snapshot " + file, e);
+    }
+  }
+
+}
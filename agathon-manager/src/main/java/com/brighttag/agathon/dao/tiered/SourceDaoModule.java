@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.inject.AbstractModule;
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.PrivateBinder;
+import com.google.inject.Scope;
+import com.google.inject.binder.ScopedBindingBuilder;
+import com.google.inject.name.Names;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.PrivateElements;
+
+import com.brighttag.agathon.dao.CassandraInstanceDao;
+import com.brighttag.agathon.dao.CassandraRingDao;
+
+/**
+ * Installs a DAO module with its {@link CassandraRingDao} and {@link CassandraInstanceDao}
+ * bindings moved to {@code @Named("source")} keys.
+ * <br/>
+ * Guice doesn't allow a private module to rebind a key that's bound by an enclosing module, so
+ * the source's own bindings have to be renamed before the tiered DAOs can take their place.
+ * The DAO bindings must be linked bindings, as they are in all of our DAO modules.
+ *
+ * @since 10/18/2026
+ */
+class SourceDaoModule extends AbstractModule {
+
+  private static final Set<Key<?>> DAO_KEYS = ImmutableSet.<Key<?>>of(
+      Key.get(CassandraRingDao.class), Key.get(CassandraInstanceDao.class));
+
+  private final List<Element> elements;
+
+  SourceDaoModule(Module source) {
+    this.elements = Elements.getElements(source);
+  }
+
+  @Override
+  protected void configure() {
+    for (Element element : elements) {
+      rewrite(binder(), element);
+    }
+  }
+
+  /**
+   * Returns the keys the source exposes besides its DAOs, such as its services.
+   */
+  Set<Key<?>> getOtherExposedKeys() {
+    ImmutableSet.Builder<Key<?>> keys = ImmutableSet.builder();
+    for (Element element : elements) {
+      if (element instanceof PrivateElements) {
+        keys.addAll(Sets.difference(((PrivateElements) element).getExposedKeys(), DAO_KEYS));
+      }
+    }
+    return keys.build();
+  }
+
+  private static void rewrite(Binder binder, Element element) {
+    if (element instanceof PrivateElements) {
+      PrivateElements privateElements = (PrivateElements) element;
+      PrivateBinder privateBinder = binder.withSource(privateElements.getSource()).newPrivateBinder();
+      for (Element child : privateElements.getElements()) {
+        rewrite(privateBinder, child);
+      }
+      for (Key<?> key : privateElements.getExposedKeys()) {
+        privateBinder.withSource(privateElements.getExposedSource(key)).expose(sourceKey(key));
+      }
+    } else if (element instanceof Binding && DAO_KEYS.contains(((Binding<?>) element).getKey())) {
+      rebind(binder, (Binding<?>) element);
+    } else {
+      element.applyTo(binder);
+    }
+  }
+
+  private static <T> void rebind(Binder binder, Binding<T> binding) {
+    if (!(binding instanceof LinkedKeyBinding)) {
+      binder.withSource(binding.getSource()).addError("Unsupported source DAO binding %s", binding);
+      return;
+    }
+    final ScopedBindingBuilder builder = binder.withSource(binding.getSource())
+        .bind(sourceKey(binding.getKey()))
+        .to(((LinkedKeyBinding<T>) binding).getLinkedKey());
+    binding.acceptScopingVisitor(new DefaultBindingScopingVisitor<Void>() {
+      @Override
+      public Void visitEagerSingleton() {
+        builder.asEagerSingleton();
+        return null;
+      }
+
+      @Override
+      public Void visitScope(Scope scope) {
+        builder.in(scope);
+        return null;
+      }
+
+      @Override
+      public Void visitScopeAnnotation(Class<? extends Annotation> scopeAnnotation) {
+        builder.in(scopeAnnotation);
+        return null;
+      }
+    });
+  }
+
+  private static <T> Key<T> sourceKey(Key<T> key) {
+    return DAO_KEYS.contains(key) ? Key.get(key.getTypeLiteral(), Names.named(TieredDaoModule.SOURCE)) : key;
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraInstanceDao;
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * A {@link CassandraInstanceDao} that serves the instances of the tiered rings from the in-memory
+ * {@link RingSnapshot} and reads the others through to the source. Writes go to the source first
+ * and then patch the snapshot, until the {@link RingReplicator} next replaces it.
+ *
+ * @since 10/18/2026
+ */
+public class TieredCassandraInstanceDao implements CassandraInstanceDao {
+
+  private final CassandraInstanceDao source;
+  private final RingSnapshot snapshot;
+
+  @Inject
+  public TieredCassandraInstanceDao(@Named(TieredDaoModule.SOURCE) CassandraInstanceDao source,
+      RingSnapshot snapshot) {
+    this.source = source;
+    this.snapshot = snapshot;
+  }
+
+  @Override
+  public ImmutableSet<CassandraInstance> findAll(String ring) throws BackingStoreException {
+    ImmutableMap<String, CassandraRing> rings = snapshot.get();
+    if (rings == null || !snapshot.isTiered(ring)) {
+      return source.findAll(ring);
+    }
+    return rings.containsKey(ring) ? rings.get(ring).getInstances() : ImmutableSet.<CassandraInstance>of();
+  }
+
+  @Override
+  public @Nullable CassandraInstance findById(String ring, int id) throws BackingStoreException {
+    ImmutableMap<String, CassandraRing> rings = snapshot.get();
+    if (rings == null || !snapshot.isTiered(ring)) {
+      return source.findById(ring, id);
+    } else if (rings.containsKey(ring)) {
+      for (CassandraInstance instance : rings.get(ring).getInstances()) {
+        if (instance.getId() == id) {
+          return instance;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void save(String ring, CassandraInstance instance) {
+    source.save(ring, instance);
+    snapshot.putInstance(ring, instance);
+  }
+
+  @Override
+  public void delete(String ring, CassandraInstance instance) {
+    source.delete(ring, instance);
+    snapshot.removeInstance(ring, instance);
+  }
+
+}
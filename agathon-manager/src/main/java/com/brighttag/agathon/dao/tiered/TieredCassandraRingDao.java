@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.model.CassandraRing;
+
+/**
+ * A {@link CassandraRingDao} that serves the tiered rings from the in-memory {@link RingSnapshot}
+ * and reads the others through to the source. Writes go to the source first and then patch the
+ * snapshot, until the {@link RingReplicator} next replaces it.
+ *
+ * @since 10/18/2026
+ */
+public class TieredCassandraRingDao implements CassandraRingDao {
+
+  private final CassandraRingDao source;
+  private final RingSnapshot snapshot;
+
+  @Inject
+  public TieredCassandraRingDao(@Named(TieredDaoModule.SOURCE) CassandraRingDao source,
+      RingSnapshot snapshot) {
+    this.source = source;
+    this.snapshot = snapshot;
+  }
+
+  @Override
+  public ImmutableSet<CassandraRing> findAll() throws BackingStoreException {
+    ImmutableMap<String, CassandraRing> rings = snapshot.get();
+    if (rings == null) {
+      return source.findAll();
+    } else if (snapshot.isAllTiered()) {
+      return ImmutableSet.copyOf(rings.values());
+    }
+    return ImmutableSet.<CassandraRing>builder()
+        .addAll(rings.values())
+        .addAll(Sets.filter(source.findAll(), new Predicate<CassandraRing>() {
+          @Override
+          public boolean apply(CassandraRing ring) {
+            return !snapshot.isTiered(ring.getName());
+          }
+        }))
+        .build();
+  }
+
+  @Override
+  public @Nullable CassandraRing findByName(String name) throws BackingStoreException {
+    ImmutableMap<String, CassandraRing> rings = snapshot.get();
+    if (rings == null || !snapshot.isTiered(name)) {
+      return source.findByName(name);
+    }
+    return rings.get(name);
+  }
+
+  @Override
+  public ImmutableSet<CassandraRing> findByNames(Set<String> names) throws BackingStoreException {
+    ImmutableMap<String, CassandraRing> rings = snapshot.get();
+    if (rings == null) {
+      return source.findByNames(names);
+    }
+    ImmutableSet.Builder<CassandraRing> found = ImmutableSet.builder();
+    Set<String> untiered = Sets.newHashSet();
+    for (String name : names) {
+      if (!snapshot.isTiered(name)) {
+        untiered.add(name);
+      } else if (rings.containsKey(name)) {
+        found.add(rings.get(name));
+      }
+    }
+    if (!untiered.isEmpty()) {
+      found.addAll(source.findByNames(untiered));
+    }
+    return found.build();
+  }
+
+  @Override
+  public void save(CassandraRing ring) {
+    source.save(ring);
+    snapshot.put(ring);
+  }
+
+  @Override
+  public void delete(CassandraRing ring) {
+    source.delete(ring);
+    snapshot.remove(ring.getName());
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import java.io.File;
+import java.util.Set;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.PrivateModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import com.brighttag.agathon.dao.CassandraInstanceDao;
+import com.brighttag.agathon.dao.CassandraRingDao;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Guice module to wire up tiered DAOs over the DAOs of a {@code source} module: an in-memory
+ * snapshot over a durable snapshot file over the source, kept in sync by a {@link RingReplicator}.
+ * <br/>
+ * The {@link RingReplicator} is exposed so that it can be registered as a service, and so is
+ * anything else the source exposes besides its DAOs.
+ *
+ * @since 10/18/2026
+ */
+public class TieredDaoModule extends PrivateModule {
+
+  static final String SOURCE = "source";
+
+  public static final String SOURCE_PROPERTY = "com.brighttag.agathon.dao.tiered.source";
+  public static final String TIERED_RINGS_PROPERTY = "com.brighttag.agathon.dao.tiered.rings";
+  public static final String SNAPSHOT_FILE_PROPERTY = "com.brighttag.agathon.dao.tiered.snapshot_file";
+  public static final String REPLICATE_SECONDS_PROPERTY =
+      "com.brighttag.agathon.dao.tiered.replicate_seconds";
+  public static final String EMPTY_CONFIRMATIONS_PROPERTY =
+      "com.brighttag.agathon.dao.tiered.empty_confirmations";
+
+  private final Module source;
+
+  /**
+   * @param source the module exposing the source {@link CassandraRingDao} and {@link CassandraInstanceDao}
+   */
+  public TieredDaoModule(Module source) {
+    this.source = source;
+  }
+
+  @Override
+  protected void configure() {
+    SourceDaoModule sourceModule = new SourceDaoModule(source);
+    install(sourceModule);
+    bind(RingReplicator.class).in(Singleton.class);
+    bind(CassandraRingDao.class).to(TieredCassandraRingDao.class).in(Singleton.class);
+    bind(CassandraInstanceDao.class).to(TieredCassandraInstanceDao.class).in(Singleton.class);
+    expose(CassandraRingDao.class);
+    expose(CassandraInstanceDao.class);
+    expose(RingReplicator.class);
+    for (Key<?> key : sourceModule.getOtherExposedKeys()) {
+      expose(key);
+    }
+  }
+
+  @Provides @Singleton
+  RingSnapshot provideRingSnapshot() {
+    Set<String> tieredRings = ImmutableSet.copyOf(Splitter.on(',').trimResults().omitEmptyStrings()
+        .split(System.getProperty(TIERED_RINGS_PROPERTY, "")));
+    return new RingSnapshot(tieredRings);
+  }
+
+  // No default, since a shared directory like java.io.tmpdir would let others plant the rings
+  @Provides @Singleton
+  RingSnapshotFile provideRingSnapshotFile() {
+    return new RingSnapshotFile(new File(checkNotNull(System.getProperty(SNAPSHOT_FILE_PROPERTY),
+        "Tiered ring snapshot file must be set")));
+  }
+
+  @Provides @Singleton @Named(REPLICATE_SECONDS_PROPERTY)
+  int provideReplicateSeconds() {
+    return Integer.getInteger(REPLICATE_SECONDS_PROPERTY, 30);
+  }
+
+  @Provides @Singleton @Named(EMPTY_CONFIRMATIONS_PROPERTY)
+  int provideEmptyConfirmations() {
+    return Integer.getInteger(EMPTY_CONFIRMATIONS_PROPERTY, 3);
+  }
+
+}
@@ -17,11 +17,13 @@
 package com.brighttag.agathon.dao.zerg;
 
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 
@@ -68,6 +70,16 @@ public class ZergCassandraRingDao implements CassandraRingDao {
     return buildRingFromHosts(name, hosts);
   }
 
+  @Override
+  public ImmutableSet<CassandraRing> findByNames(Set<String> names) throws BackingStoreException {
+    ImmutableSet.Builder<CassandraRing> ringBuilder = ImmutableSet.builder();
+    ZergHosts hosts = ZergHosts.from(zergConnector.getHosts());
+    for (String ring : Sets.intersection(hosts.rings(), names)) {
+      ringBuilder.add(buildRingFromHosts(ring, hosts));
+    }
+    return ringBuilder.build();
+  }
+
   @Override
   public void save(CassandraRing ring) {
     throw new UnsupportedOperationException("Save is not supported for " + getClass().getSimpleName());
@@ -21,20 +21,31 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
 import com.google.common.base.Function;
 import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ForwardingFuture;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Inject;
@@ -47,6 +58,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.metrics.Metrics;
 
 /**
  * @author codyaray
@@ -56,15 +68,24 @@ class ZergConnectorImpl implements ZergConnector {
 
   private static final Logger LOG = LoggerFactory.getLogger(ZergConnectorImpl.class);
 
+  // Metric names
+  static final String METRICS = ZergConnector.class.getSimpleName();
+  static final String CACHE_METRICS = MetricRegistry.name(METRICS, "cache");
+  static final String MANIFEST_METRICS = MetricRegistry.name(METRICS, "manifest");
+  static final String HTTP_METRICS = MetricRegistry.name(METRICS, "http");
+  static final String POOL_METRICS = MetricRegistry.name(METRICS, "pool");
+
   private final String manifestUrl;
   // HACK: manifestUrl is top-level to load all regions at once. manifestUrl -> region -> hostname -> host.
   private final LoadingCache<String, Map<String, Map<String, ZergHost>>> regionsCache;
 
   @Inject
   public ZergConnectorImpl(@Named(ZergDaoModule.ZERG_MANIFEST_URL_PROPERTY) String manifestUrl,
-      CacheBuilder<Object, Object> regionsCache, ZergConnectorImpl.ZergLoader loader) {
+      CacheBuilder<Object, Object> regionsCache, ZergConnectorImpl.ZergLoader loader,
+      MetricRegistry registry) {
     this.manifestUrl = manifestUrl;
     this.regionsCache = regionsCache.build(loader);
+    registerCacheGauges(registry);
   }
 
   @Override
@@ -91,31 +112,121 @@ class ZergConnectorImpl implements ZergConnector {
     return ImmutableMap.of();
   }
 
+  private void registerCacheGauges(MetricRegistry registry) {
+    Metrics.register(registry, MetricRegistry.name(CACHE_METRICS, "hitRate"), new Gauge<Double>() {
+      @Override
+      public Double getValue() {
+        return regionsCache.stats().hitRate();
+      }
+    });
+    Metrics.register(registry, MetricRegistry.name(CACHE_METRICS, "loads"), new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return regionsCache.stats().loadCount();
+      }
+    });
+    Metrics.register(registry, MetricRegistry.name(CACHE_METRICS, "loadFailures"), new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return regionsCache.stats().loadExceptionCount();
+      }
+    });
+    Metrics.register(registry, MetricRegistry.name(CACHE_METRICS, "averageLoadMillis"), new Gauge<Double>() {
+      @Override
+      public Double getValue() {
+        CacheStats stats = regionsCache.stats();
+        return stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1);
+      }
+    });
+  }
+
   public static class ZergLoader extends CacheLoader<String, Map<String, Map<String, ZergHost>>> {
 
     private final AsyncHttpClient client;
     private final Gson gson;
 
+    private final Timer loads;
+    private final Timer reloads;
+    private final Meter failures;
+    private final Timer parses;
+    private final Timer requests;
+    private final Counter activeRequests;
+    private final MetricRegistry registry;
+
+    private final AtomicInteger manifestBytes = new AtomicInteger();
+    private final AtomicInteger manifestHosts = new AtomicInteger();
+    private final AtomicLong lastRefreshMillis = new AtomicLong();
+
     @Inject
-    public ZergLoader(AsyncHttpClient client, Gson gson) {
+    public ZergLoader(AsyncHttpClient client, Gson gson, MetricRegistry registry) {
       this.client = client;
       this.gson = gson;
+      this.registry = registry;
+      this.loads = registry.timer(MetricRegistry.name(MANIFEST_METRICS, "loads"));
+      this.reloads = registry.timer(MetricRegistry.name(MANIFEST_METRICS, "reloads"));
+      this.failures = registry.meter(MetricRegistry.name(MANIFEST_METRICS, "failures"));
+      this.parses = registry.timer(MetricRegistry.name(MANIFEST_METRICS, "parses"));
+      this.requests = registry.timer(MetricRegistry.name(HTTP_METRICS, "requests"));
+      this.activeRequests = registry.counter(MetricRegistry.name(HTTP_METRICS, "active"));
+      registerManifestGauges(registry);
+    }
+
+    private void registerManifestGauges(MetricRegistry registry) {
+      Metrics.register(registry, MetricRegistry.name(MANIFEST_METRICS, "bytes"), new Gauge<Integer>() {
+        @Override
+        public Integer getValue() {
+          return manifestBytes.get();
+        }
+      });
+      Metrics.register(registry, MetricRegistry.name(MANIFEST_METRICS, "hosts"), new Gauge<Integer>() {
+        @Override
+        public Integer getValue() {
+          return manifestHosts.get();
+        }
+      });
+      // Negative until the first successful refresh
+      Metrics.register(registry, MetricRegistry.name(MANIFEST_METRICS, "ageMillis"), new Gauge<Long>() {
+        @Override
+        public Long getValue() {
+          long lastRefresh = lastRefreshMillis.get();
+          return lastRefresh == 0 ? -1 : System.currentTimeMillis() - lastRefresh;
+        }
+      });
     }
 
     @Override
     public ListenableFuture<Map<String, Map<String, ZergHost>>> reload(@Nonnull String manifestUrl,
         @Nonnull Map<String, Map<String, ZergHost>> oldValue) throws Exception {
-      return Futures.transform(execute(manifestUrl), parseResponse(manifestUrl));
+      final Timer.Context context = reloads.time();
+      final ListenableFuture<Map<String, Map<String, ZergHost>>> regions =
+          Futures.transform(execute(manifestUrl), parseResponse(manifestUrl));
+      regions.addListener(new Runnable() {
+        @Override
+        public void run() {
+          context.stop();
+          try {
+            regions.get();
+          } catch (Exception e) {
+            // Ok to catch Exception here; the cache handles the failure
+            failures.mark();
+          }
+        }
+      }, MoreExecutors.sameThreadExecutor());
+      return regions;
     }
 
     @Override
     public Map<String, Map<String, ZergHost>> load(@Nonnull String manifestUrl)
         throws InterruptedException, BackingStoreException {
+      Timer.Context context = loads.time();
       try {
         return Futures.transform(execute(manifestUrl), parseResponse(manifestUrl)).get();
       } catch (ExecutionException e) {
+        failures.mark();
         LOG.warn("Caught exception fetching manifest from zerg {}", manifestUrl, e);
         throw new BackingStoreException(e.getCause());
+      } finally {
+        context.stop();
       }
     }
 
@@ -127,7 +238,20 @@ class ZergConnectorImpl implements ZergConnector {
         @Override
         public Map<String, Map<String, ZergHost>> apply(Response response) {
           try {
-            return gson.fromJson(response.getResponseBody(), MAP_OF_REGIONS.getType());
+            registry.meter(MetricRegistry.name(HTTP_METRICS, "responses",
+                String.valueOf(response.getStatusCode()))).mark();
+            byte[] body = response.getResponseBodyAsBytes();
+            Timer.Context context = parses.time();
+            Map<String, Map<String, ZergHost>> regions;
+            try {
+              regions = gson.fromJson(new String(body, Charsets.UTF_8), MAP_OF_REGIONS.getType());
+            } finally {
+              context.stop();
+            }
+            if (regions != null) {
+              recordManifest(body.length, regions);
+            }
+            return regions;
           } catch (IOException e) {
             LOG.warn("Unable to fetch manifest from zerg url: {}", url, e);
             throw new RuntimeException(e);
@@ -139,10 +263,32 @@ class ZergConnectorImpl implements ZergConnector {
       };
     }
 
+    private void recordManifest(int bytes, Map<String, Map<String, ZergHost>> regions) {
+      int hosts = 0;
+      for (Map<String, ZergHost> region : regions.values()) {
+        hosts += region.size();
+      }
+      manifestBytes.set(bytes);
+      manifestHosts.set(hosts);
+      lastRefreshMillis.set(System.currentTimeMillis());
+    }
+
     private ListenableFuture<Response> execute(String url) throws BackingStoreException {
+      final Timer.Context context = requests.time();
+      activeRequests.inc();
+      Runnable done = new Runnable() {
+        @Override
+        public void run() {
+          context.stop();
+          activeRequests.dec();
+        }
+      };
       try {
-        return adapt(client.prepareGet(url).execute());
+        ListenableFuture<Response> response = adapt(client.prepareGet(url).execute());
+        response.addListener(done, MoreExecutors.sameThreadExecutor());
+        return response;
       } catch (IOException e) {
+        done.run();
         LOG.warn("Unable to fetch manifest from zerg url: {}", url, e);
         throw new BackingStoreException(e);
       }
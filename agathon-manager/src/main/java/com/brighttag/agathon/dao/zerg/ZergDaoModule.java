@@ -20,8 +20,10 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Map;
+import java.util.Timer;
 import java.util.concurrent.TimeUnit;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Charsets;
 import com.google.common.base.Function;
 import com.google.common.cache.CacheBuilder;
@@ -37,9 +39,11 @@ import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.ning.http.client.AsyncHttpClient;
 import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.providers.netty.NettyConnectionsPool;
 
 import com.brighttag.agathon.dao.CassandraInstanceDao;
 import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.metrics.InstrumentedConnectionsPool;
 
 import org.joda.time.Duration;
 import org.joda.time.format.PeriodFormat;
@@ -104,7 +108,8 @@ public class ZergDaoModule extends PrivateModule {
   CacheBuilder<Object, Object> provideZergLoadingCache(
       @Named(ZERG_CACHE_TIMEOUT_PROPERTY) Duration cacheTimeout) {
     return CacheBuilder.newBuilder()
-        .refreshAfterWrite(cacheTimeout.getStandardSeconds(), TimeUnit.SECONDS);
+        .refreshAfterWrite(cacheTimeout.getStandardSeconds(), TimeUnit.SECONDS)
+        .recordStats();
   }
 
   @Provides @Singleton
@@ -115,11 +120,11 @@ public class ZergDaoModule extends PrivateModule {
   @Provides @Singleton
   AsyncHttpClientConfig provideAsyncHttpClientConfig(
       @Named(ZERG_CONNECTION_TIMEOUT_PROPERTY) Duration connectionTimeout,
-      @Named(ZERG_REQUEST_TIMEOUT_PROPERTY) Duration requestTimeout) {
+      @Named(ZERG_REQUEST_TIMEOUT_PROPERTY) Duration requestTimeout, MetricRegistry registry) {
     PeriodFormatter formatter = PeriodFormat.getDefault();
     log.info("Using connection timeout {} and request timeout {}",
         formatter.print(connectionTimeout.toPeriod()), formatter.print(requestTimeout.toPeriod()));
-    return new AsyncHttpClientConfig.Builder()
+    AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
         .setAllowPoolingConnection(true)
         .setConnectionTimeoutInMs(Ints.saturatedCast(connectionTimeout.getMillis()))
         .setRequestTimeoutInMs(Ints.saturatedCast(requestTimeout.getMillis()))
@@ -127,6 +132,13 @@ public class ZergDaoModule extends PrivateModule {
         .setMaximumNumberOfRedirects(3)
         .setMaxRequestRetry(1)
         .build();
+    // Same pool the Netty provider would create by default, but instrumented
+    NettyConnectionsPool pool = new NettyConnectionsPool(config.getMaxTotalConnections(),
+        config.getMaxConnectionPerHost(), config.getIdleConnectionInPoolTimeoutInMs(),
+        config.getMaxConnectionLifeTimeInMs(), config.isSslConnectionPoolEnabled(), new Timer(true));
+    return new AsyncHttpClientConfig.Builder(config)
+        .setConnectionsPool(InstrumentedConnectionsPool.wrap(pool, registry, ZergConnectorImpl.POOL_METRICS))
+        .build();
   }
 
   @Provides @Singleton @Named(ZERG_RING_CONFIG_PROPERTY)
@@ -16,7 +16,6 @@
 
 package com.brighttag.agathon.dao.zerg;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -39,6 +38,8 @@ class ZergHost {
   private String zone;
   private @SerializedName("public ip") String publicIpAddress;
   private @SerializedName("fqdn") @Nullable String fullyQualifiedDomainName;
+  // Lazily computed because Gson populates the fields reflectively; zero means not yet computed
+  private transient int hashCode;
 
   ZergHost() { /* For Gson */ }
 
@@ -75,6 +76,7 @@ class ZergHost {
    */
   public void setName(String name) {
     this.name = name;
+    this.hashCode = 0;
   }
 
   /**
@@ -118,7 +120,12 @@ class ZergHost {
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(significantAttributes());
+    int h = hashCode;
+    if (h == 0) {
+      h = Objects.hashCode(name, roles, zone, publicIpAddress, fullyQualifiedDomainName);
+      hashCode = h;
+    }
+    return h;
   }
 
   @Override
@@ -130,11 +137,13 @@ class ZergHost {
     } else if (!getClass().isAssignableFrom(obj.getClass())) {
       return false;
     }
-    return Arrays.equals(significantAttributes(), getClass().cast(obj).significantAttributes());
-  }
-
-  Object[] significantAttributes() {
-    return new Object[] { name, roles, zone, publicIpAddress, fullyQualifiedDomainName };
+    ZergHost that = (ZergHost) obj;
+    return hashCode() == that.hashCode()
+        && Objects.equal(name, that.name)
+        && Objects.equal(zone, that.zone)
+        && Objects.equal(publicIpAddress, that.publicIpAddress)
+        && Objects.equal(fullyQualifiedDomainName, that.fullyQualifiedDomainName)
+        && Objects.equal(roles, that.roles);
   }
 
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.jmx;
+
+/**
+ * JMX MBean for monitoring and controlling a circuit breaker.
+ *
+ * @since 10/18/2026
+ */
+public interface CircuitBreakerMBean {
+
+  /**
+   * Returns the state of the circuit: {@code CLOSED}, {@code OPEN} or {@code HALF_OPEN}.
+   * @return the state of the circuit
+   */
+  String getState();
+
+  /**
+   * Returns the number of consecutive failed or slow calls.
+   * @return the number of consecutive failures
+   */
+  int getConsecutiveFailures();
+
+  /**
+   * Returns the number of times the circuit has opened.
+   * @return the number of times the circuit has opened
+   */
+  long getTimesOpened();
+
+  /**
+   * Close the circuit, such as after the backend is known to have recovered.
+   */
+  void reset();
+
+  /**
+   * Open the circuit, such as to stop calling a backend that is known to be unhealthy.
+   */
+  void trip();
+
+}
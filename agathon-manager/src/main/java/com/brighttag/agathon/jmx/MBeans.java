@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.jmx;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import com.brighttag.agathon.metrics.MetricsModule;
+
+/**
+ * Static utility methods for publishing MBeans.
+ *
+ * @since 10/18/2026
+ */
+public final class MBeans {
+
+  private MBeans() { /* No instances */ }
+
+  /**
+   * Registers the {@code mbean} in the platform MBean server under the Agathon domain,
+   * replacing any existing MBean of the same type and name.
+   *
+   * @param type the MBean type, such as {@code CircuitBreaker}
+   * @param name the MBean name
+   * @param mbean the MBean
+   * @param mbeanInterface the management interface of the MBean
+   * @throws IllegalStateException if the MBean can't be registered
+   */
+  public static <T> void register(String type, String name, T mbean, Class<T> mbeanInterface) {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName objectName = new ObjectName(String.format("%s:type=%s,name=%s",
+          MetricsModule.JMX_DOMAIN, type, ObjectName.quote(name)));
+      if (server.isRegistered(objectName)) {
+        server.unregisterMBean(objectName);
+      }
+      server.registerMBean(new StandardMBean(mbean, mbeanInterface), objectName);
+    } catch (JMException e) {
+      throw new IllegalStateException("Unable to register MBean " + name, e);
+    }
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.inject.Provider;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.matcher.Matcher;
+import com.google.inject.matcher.Matchers;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import com.brighttag.agathon.dao.CassandraInstanceDao;
+import com.brighttag.agathon.dao.CassandraRingDao;
+
+/**
+ * Records a latency timer and a failure meter for each DAO method, tagged with the backend type.
+ * <br/>
+ * Metrics are named after the DAO interface, backend and method, such as
+ * {@code CassandraRingDao.sdb.findAll} and {@code CassandraRingDao.sdb.findAll.failures}.
+ *
+ * @since 10/18/2026
+ */
+public class DaoMetricsInterceptor implements MethodInterceptor {
+
+  private static final List<Class<?>> DAO_INTERFACES =
+      ImmutableList.<Class<?>>of(CassandraRingDao.class, CassandraInstanceDao.class);
+
+  /** Matches implementations of the DAO interfaces. */
+  public static final Matcher<Class> DAO_CLASSES =
+      Matchers.subclassesOf(CassandraRingDao.class).or(Matchers.subclassesOf(CassandraInstanceDao.class));
+
+  /** Matches implementations of the methods declared by the DAO interfaces. */
+  public static final Matcher<Method> DAO_METHODS = new AbstractMatcher<Method>() {
+    @Override
+    public boolean matches(Method method) {
+      return !method.isSynthetic() && daoInterface(method) != null;
+    }
+  };
+
+  private final String backend;
+  private final Provider<MetricRegistry> registry;
+  private final ConcurrentMap<Method, String> names = Maps.newConcurrentMap();
+
+  /**
+   * @param backend the backend type, such as "sdb"
+   * @param registry the metric registry
+   */
+  public DaoMetricsInterceptor(String backend, Provider<MetricRegistry> registry) {
+    this.backend = backend;
+    this.registry = registry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    String name = name(invocation.getMethod());
+    Timer.Context context = registry.get().timer(name).time();
+    try {
+      return invocation.proceed();
+    } catch (Throwable t) {
+      // Ok to catch Throwable here; it's always rethrown
+      registry.get().meter(MetricRegistry.name(name, "failures")).mark();
+      throw t;
+    } finally {
+      context.stop();
+    }
+  }
+
+  private String name(Method method) {
+    String name = names.get(method);
+    if (name == null) {
+      name = MetricRegistry.name(daoInterface(method).getSimpleName(), backend, method.getName());
+      names.putIfAbsent(method, name);
+    }
+    return name;
+  }
+
+  private static @Nullable Class<?> daoInterface(Method method) {
+    for (Class<?> dao : DAO_INTERFACES) {
+      if (dao.isAssignableFrom(method.getDeclaringClass())) {
+        try {
+          dao.getMethod(method.getName(), method.getParameterTypes());
+          return dao;
+        } catch (NoSuchMethodException e) {
+          // Not declared by this interface
+        }
+      }
+    }
+    return null;
+  }
+
+}
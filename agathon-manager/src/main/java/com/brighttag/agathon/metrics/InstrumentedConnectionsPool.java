@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.ning.http.client.ConnectionsPool;
+
+/**
+ * A {@link ConnectionsPool} that meters how often the {@link com.ning.http.client.AsyncHttpClient}
+ * reuses a pooled connection (hits), has to open a new one (misses), returns a connection to the
+ * pool (offers), or has a connection turned away by a full pool (rejections).
+ *
+ * @param <U> the type of the pool key
+ * @param <V> the type of the pooled connections
+ * @since 10/18/2026
+ */
+public class InstrumentedConnectionsPool<U, V> implements ConnectionsPool<U, V> {
+
+  private final ConnectionsPool<U, V> delegate;
+  private final Meter hits;
+  private final Meter misses;
+  private final Meter offers;
+  private final Meter rejections;
+
+  /**
+   * @param delegate the pool that actually holds the connections
+   * @param registry the metric registry
+   * @param name the prefix for the metric names, such as "ZergConnector.pool"
+   */
+  public InstrumentedConnectionsPool(ConnectionsPool<U, V> delegate, MetricRegistry registry, String name) {
+    this.delegate = delegate;
+    this.hits = registry.meter(MetricRegistry.name(name, "hits"));
+    this.misses = registry.meter(MetricRegistry.name(name, "misses"));
+    this.offers = registry.meter(MetricRegistry.name(name, "offers"));
+    this.rejections = registry.meter(MetricRegistry.name(name, "rejections"));
+  }
+
+  /**
+   * Wraps the {@code delegate} pool, inferring its type parameters.
+   */
+  public static <U, V> InstrumentedConnectionsPool<U, V> wrap(ConnectionsPool<U, V> delegate,
+      MetricRegistry registry, String name) {
+    return new InstrumentedConnectionsPool<U, V>(delegate, registry, name);
+  }
+
+  @Override
+  public boolean offer(U key, V connection) {
+    boolean offered = delegate.offer(key, connection);
+    (offered ? offers : rejections).mark();
+    return offered;
+  }
+
+  @Override
+  public V poll(U key) {
+    V connection = delegate.poll(key);
+    (connection != null ? hits : misses).mark();
+    return connection;
+  }
+
+  @Override
+  public boolean removeAll(V connection) {
+    return delegate.removeAll(connection);
+  }
+
+  @Override
+  public boolean canCacheConnection() {
+    return delegate.canCacheConnection();
+  }
+
+  @Override
+  public void destroy() {
+    delegate.destroy();
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.JmxReporter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.AbstractIdleService;
+import com.google.inject.Inject;
+
+/**
+ * Service that publishes every metric in the registry as a JMX MBean while running.
+ *
+ * @since 10/18/2026
+ */
+public class JmxReporterService extends AbstractIdleService {
+
+  private final JmxReporter reporter;
+
+  @Inject
+  public JmxReporterService(MetricRegistry registry) {
+    this.reporter = JmxReporter.forRegistry(registry)
+        .inDomain(MetricsModule.JMX_DOMAIN)
+        .convertRatesTo(TimeUnit.SECONDS)
+        .convertDurationsTo(TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  @Override
+  protected void startUp() {
+    reporter.start();
+  }
+
+  @Override
+  protected void shutDown() {
+    reporter.stop();
+  }
+
+}
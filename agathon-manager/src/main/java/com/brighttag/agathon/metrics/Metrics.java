@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * Static utility methods for registering metrics.
+ *
+ * @since 10/18/2026
+ */
+public final class Metrics {
+
+  private Metrics() { /* No instances */ }
+
+  /**
+   * Registers the {@code metric} under the given {@code name}, replacing any existing metric.
+   * <br/>
+   * The registry is shared for the life of the JVM, so a singleton that is created again (for
+   * example, by a new injector after a redeploy) must replace the gauges of its predecessor.
+   *
+   * @param registry the metric registry
+   * @param name the metric name
+   * @param metric the metric
+   * @return the metric
+   */
+  public static <T extends Metric> T register(MetricRegistry registry, String name, T metric) {
+    registry.remove(name);
+    return registry.register(name, metric);
+  }
+
+}
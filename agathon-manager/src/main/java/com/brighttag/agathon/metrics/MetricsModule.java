@@ -0,0 +1,46 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.google.common.util.concurrent.Service;
+import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
+
+/**
+ * Guice module to wire up the metric registry and publish it via JMX.
+ * <br/>
+ * The registry is shared (by {@link #REGISTRY_NAME}) so that code outside of Guice, such as the
+ * embedded web server, can report into it too.
+ *
+ * @since 10/18/2026
+ */
+public class MetricsModule extends AbstractModule {
+
+  public static final String REGISTRY_NAME = "agathon";
+  public static final String JMX_DOMAIN = "com.brighttag.agathon";
+
+  @Override
+  protected void configure() {
+    bind(MetricRegistry.class).toInstance(SharedMetricRegistries.getOrCreate(REGISTRY_NAME));
+    bind(JmxReporterService.class).in(Singleton.class);
+    Multibinder.newSetBinder(binder(), Service.class).addBinding().to(JmxReporterService.class);
+  }
+
+}
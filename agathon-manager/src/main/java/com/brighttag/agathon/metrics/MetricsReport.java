@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metered;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+/**
+ * A JSON-friendly view of every metric in a registry, in the same shape as the metrics servlet:
+ * grouped by metric type, with rates per second and durations in milliseconds.
+ *
+ * @since 10/18/2026
+ */
+public final class MetricsReport {
+
+  private static final double DURATION_FACTOR = 1.0 / TimeUnit.MILLISECONDS.toNanos(1);
+
+  private MetricsReport() { /* No instances */ }
+
+  /**
+   * Returns the current values of every metric in the {@code registry}.
+   */
+  public static Map<String, Object> of(MetricRegistry registry) {
+    return ImmutableMap.<String, Object>builder()
+        .put("gauges", gauges(registry.getGauges()))
+        .put("counters", counters(registry.getCounters()))
+        .put("histograms", histograms(registry.getHistograms()))
+        .put("meters", meters(registry.getMeters()))
+        .put("timers", timers(registry.getTimers()))
+        .build();
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Map<String, Object> gauges(Map<String, Gauge> gauges) {
+    Map<String, Object> report = Maps.newLinkedHashMap();
+    for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+      Object value;
+      // A gauge that can't be read shouldn't hide every other metric
+      try {
+        value = entry.getValue().getValue();
+      } catch (RuntimeException e) {
+        value = e.toString();
+      }
+      report.put(entry.getKey(), Collections.singletonMap("value", value));
+    }
+    return report;
+  }
+
+  private static Map<String, Object> counters(Map<String, Counter> counters) {
+    Map<String, Object> report = Maps.newLinkedHashMap();
+    for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+      report.put(entry.getKey(), ImmutableMap.of("count", entry.getValue().getCount()));
+    }
+    return report;
+  }
+
+  private static Map<String, Object> histograms(Map<String, Histogram> histograms) {
+    Map<String, Object> report = Maps.newLinkedHashMap();
+    for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+      Map<String, Object> histogram = Maps.newLinkedHashMap();
+      histogram.put("count", entry.getValue().getCount());
+      putSnapshot(histogram, entry.getValue().getSnapshot(), 1.0);
+      report.put(entry.getKey(), histogram);
+    }
+    return report;
+  }
+
+  private static Map<String, Object> meters(Map<String, Meter> meters) {
+    Map<String, Object> report = Maps.newLinkedHashMap();
+    for (Map.Entry<String, Meter> entry : meters.entrySet()) {
+      Map<String, Object> meter = Maps.newLinkedHashMap();
+      putRates(meter, entry.getValue());
+      report.put(entry.getKey(), meter);
+    }
+    return report;
+  }
+
+  private static Map<String, Object> timers(Map<String, Timer> timers) {
+    Map<String, Object> report = Maps.newLinkedHashMap();
+    for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+      Map<String, Object> timer = Maps.newLinkedHashMap();
+      putSnapshot(timer, entry.getValue().getSnapshot(), DURATION_FACTOR);
+      timer.put("duration_units", "milliseconds");
+      putRates(timer, entry.getValue());
+      report.put(entry.getKey(), timer);
+    }
+    return report;
+  }
+
+  private static void putRates(Map<String, Object> report, Metered metered) {
+    report.put("count", metered.getCount());
+    report.put("m1_rate", metered.getOneMinuteRate());
+    report.put("m5_rate", metered.getFiveMinuteRate());
+    report.put("m15_rate", metered.getFifteenMinuteRate());
+    report.put("mean_rate", metered.getMeanRate());
+    report.put("rate_units", "events/second");
+  }
+
+  private static void putSnapshot(Map<String, Object> report, Snapshot snapshot, double factor) {
+    report.put("min", snapshot.getMin() * factor);
+    report.put("max", snapshot.getMax() * factor);
+    report.put("mean", snapshot.getMean() * factor);
+    report.put("stddev", snapshot.getStdDev() * factor);
+    report.put("p50", snapshot.getMedian() * factor);
+    report.put("p75", snapshot.get75thPercentile() * factor);
+    report.put("p95", snapshot.get95thPercentile() * factor);
+    report.put("p98", snapshot.get98thPercentile() * factor);
+    report.put("p99", snapshot.get99thPercentile() * factor);
+    report.put("p999", snapshot.get999thPercentile() * factor);
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.Maps;
+import com.google.inject.Provider;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.matcher.Matcher;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import com.brighttag.agathon.service.ServiceUnavailableException;
+
+/**
+ * Records a latency timer and per-status response meters for each resource method.
+ * <br/>
+ * Metrics are named after the resource method, such as {@code SeedResource.getSeeds} and
+ * {@code SeedResource.getSeeds.responses.200}. Exceptions are recorded with the status
+ * they will be mapped to.
+ *
+ * @since 10/18/2026
+ */
+public class ResourceMetricsInterceptor implements MethodInterceptor {
+
+  /** Matches request methods (such as {@code @GET}) and sub-resource locators. */
+  public static final Matcher<Method> RESOURCE_METHODS = new AbstractMatcher<Method>() {
+    @Override
+    public boolean matches(Method method) {
+      if (method.isSynthetic()) {
+        return false;
+      } else if (method.isAnnotationPresent(Path.class)) {
+        return true;
+      }
+      for (Annotation annotation : method.getAnnotations()) {
+        if (annotation.annotationType().isAnnotationPresent(HttpMethod.class)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  };
+
+  private final Provider<MetricRegistry> registry;
+  private final ConcurrentMap<Method, String> routes = Maps.newConcurrentMap();
+
+  public ResourceMetricsInterceptor(Provider<MetricRegistry> registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    String route = route(invocation.getMethod());
+    Timer.Context context = registry.get().timer(route).time();
+    int status = Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
+    try {
+      Object result = invocation.proceed();
+      status = status(result);
+      return result;
+    } catch (WebApplicationException e) {
+      status = e.getResponse().getStatus();
+      throw e;
+    } catch (ServiceUnavailableException e) {
+      status = Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
+      throw e;
+    } finally {
+      context.stop();
+      registry.get().meter(MetricRegistry.name(route, "responses", String.valueOf(status))).mark();
+    }
+  }
+
+  private static int status(Object result) {
+    if (result instanceof Response) {
+      return ((Response) result).getStatus();
+    }
+    return result == null
+        ? Response.Status.NO_CONTENT.getStatusCode()
+        : Response.Status.OK.getStatusCode();
+  }
+
+  private String route(Method method) {
+    String route = routes.get(method);
+    if (route == null) {
+      route = MetricRegistry.name(method.getDeclaringClass().getSimpleName(), method.getName());
+      routes.putIfAbsent(method, route);
+    }
+    return route;
+  }
+
+}
@@ -16,8 +16,6 @@
 
 package com.brighttag.agathon.model;
 
-import java.util.Arrays;
-
 import javax.annotation.Nullable;
 import javax.validation.constraints.Min;
 
@@ -40,8 +38,9 @@ public class CassandraInstance {
   private final String hostname;
   private final String publicIpAddress;
   private final @Nullable String fullyQualifiedDomainName;
+  private final int hashCode;
 
-  private CassandraInstance(
+  CassandraInstance(
       @JsonProperty("id") int id, @JsonProperty("datacenter") String dataCenter,
       @JsonProperty("rack") String rack, @JsonProperty("hostname") String hostName,
       @JsonProperty("publicIpAddress") String publicIpAddress,
@@ -62,6 +61,14 @@ public class CassandraInstance {
     this.hostname = builder.hostname;
     this.publicIpAddress = builder.publicIpAddress;
     this.fullyQualifiedDomainName = builder.fullyQualifiedDomainName;
+    this.hashCode = hashCode(hashCode(hashCode(hashCode(hashCode(31 + id,
+        datacenter), rack), hostname), publicIpAddress), fullyQualifiedDomainName);
+  }
+
+  // Matches Objects.hashCode(id, datacenter, ...) without boxing the ID into a varargs array,
+  // since an instance is built for every item of every SimpleDB page
+  private static int hashCode(int result, @Nullable String property) {
+    return 31 * result + (property == null ? 0 : property.hashCode());
   }
 
   public @Min(1) int getId() {
@@ -90,7 +97,7 @@ public class CassandraInstance {
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(significantAttributes());
+    return hashCode;
   }
 
   @Override
@@ -102,7 +109,14 @@ public class CassandraInstance {
     } else if (!getClass().isAssignableFrom(obj.getClass())) {
       return false;
     }
-    return Arrays.equals(significantAttributes(), getClass().cast(obj).significantAttributes());
+    CassandraInstance that = (CassandraInstance) obj;
+    return hashCode == that.hashCode
+        && id == that.id
+        && Objects.equal(datacenter, that.datacenter)
+        && Objects.equal(rack, that.rack)
+        && Objects.equal(hostname, that.hostname)
+        && Objects.equal(publicIpAddress, that.publicIpAddress)
+        && Objects.equal(fullyQualifiedDomainName, that.fullyQualifiedDomainName);
   }
 
   @Override
@@ -117,10 +131,6 @@ public class CassandraInstance {
         .toString();
   }
 
-  Object[] significantAttributes() {
-    return new Object[] { id, datacenter, rack, hostname, publicIpAddress, fullyQualifiedDomainName };
-  }
-
   /**
    * Fluent builder for {@link CassandraInstance}s.
    *
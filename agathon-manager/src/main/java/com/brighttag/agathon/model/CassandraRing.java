@@ -16,7 +16,6 @@
 
 package com.brighttag.agathon.model;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
 
@@ -38,8 +37,9 @@ public class CassandraRing {
 
   private final String name;
   private final ImmutableSet<CassandraInstance> instances;
+  private final int hashCode;
 
-  private CassandraRing(@JsonProperty("name") String name,
+  CassandraRing(@JsonProperty("name") String name,
       @JsonProperty("instances") Set<CassandraInstance> instances) {
     this(new Builder()
         .name(name)
@@ -49,6 +49,7 @@ public class CassandraRing {
   private CassandraRing(Builder builder) {
     this.name = builder.name;
     this.instances = builder.instances.build();
+    this.hashCode = Objects.hashCode(name, instances);
   }
 
   public @NotEmpty String getName() {
@@ -61,7 +62,7 @@ public class CassandraRing {
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(significantAttributes());
+    return hashCode;
   }
 
   @Override
@@ -73,7 +74,10 @@ public class CassandraRing {
     } else if (!getClass().isAssignableFrom(obj.getClass())) {
       return false;
     }
-    return Arrays.equals(significantAttributes(), getClass().cast(obj).significantAttributes());
+    CassandraRing that = (CassandraRing) obj;
+    return hashCode == that.hashCode
+        && Objects.equal(name, that.name)
+        && Objects.equal(instances, that.instances);
   }
 
   @Override
@@ -84,10 +88,6 @@ public class CassandraRing {
         .toString();
   }
 
-  Object[] significantAttributes() {
-    return new Object[] { name, instances };
-  }
-
   /**
    * Fluent builder for {@link CassandraRing}s.
    *
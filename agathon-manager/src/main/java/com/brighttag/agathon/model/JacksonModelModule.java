@@ -0,0 +1,293 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.model;
+
+import java.io.IOException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+/**
+ * Jackson module with hand-written serializers and deserializers for {@link CassandraRing}s
+ * and {@link CassandraInstance}s.
+ * <br/>
+ * By default, Jackson introspects the models and reads or writes every property by reflection,
+ * which dominates the cost of the ring endpoints. These (de)serializers call the accessors and
+ * creators directly and write pre-encoded property names. They produce and accept exactly what
+ * the annotation-driven mapping does, including its property names and error cases, and
+ * work with any format backed by a Jackson parser and generator, such as Smile.
+ *
+ * @since 10/18/2026
+ */
+public class JacksonModelModule extends SimpleModule {
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString RACK = new SerializedString("rack");
+  private static final SerializableString PUBLIC_IP_ADDRESS = new SerializedString("publicIpAddress");
+  private static final SerializableString FQDN = new SerializedString("fullyQualifiedDomainName");
+  private static final SerializableString DATA_CENTER = new SerializedString("dataCenter");
+  private static final SerializableString HOST_NAME = new SerializedString("hostName");
+  private static final SerializableString NAME = new SerializedString("name");
+  private static final SerializableString INSTANCES = new SerializedString("instances");
+
+  private static final TypeReference<Set<CassandraRing>> RINGS = new TypeReference<Set<CassandraRing>>() { };
+
+  public JacksonModelModule() {
+    this(false);
+  }
+
+  /**
+   * @param readWrittenNames whether instances may also be read with the property names they're
+   *     written with, such as {@code dataCenter} for {@code datacenter}, so that what this module
+   *     writes can be read back; the annotation-driven mapping doesn't accept them
+   */
+  public JacksonModelModule(boolean readWrittenNames) {
+    super("AgathonModel", Version.unknownVersion());
+    InstanceSerializer instanceSerializer = new InstanceSerializer();
+    InstanceDeserializer instanceDeserializer = new InstanceDeserializer(readWrittenNames);
+    addSerializer(CassandraInstance.class, instanceSerializer);
+    addDeserializer(CassandraInstance.class, instanceDeserializer);
+    addSerializer(CassandraRing.class, new RingSerializer(instanceSerializer));
+    addDeserializer(CassandraRing.class, new RingDeserializer(instanceDeserializer));
+  }
+
+  /**
+   * Registers this module with the {@code mapper} and warms it up by writing and reading
+   * a sample ring, so that the first request doesn't pay to build and cache the (de)serializers.
+   *
+   * @param mapper the object mapper
+   * @return the {@code mapper}, for chaining
+   * @throws IllegalStateException if the sample ring cannot be written and read back
+   */
+  public static ObjectMapper register(ObjectMapper mapper) {
+    mapper.registerModule(new JacksonModelModule());
+    CassandraRing sample = new CassandraRing.Builder()
+        .name("warmup")
+        .instances(ImmutableSet.of(new CassandraInstance.Builder()
+            .id(1)
+            .dataCenter("us-east")
+            .rack("1a")
+            .hostName("warmup")
+            .publicIpAddress("127.0.0.1")
+            .build()))
+        .build();
+    try {
+      byte[] ring = mapper.writerWithType(CassandraRing.class).writeValueAsBytes(sample);
+      byte[] rings = mapper.writerWithType(RINGS).writeValueAsBytes(ImmutableSet.of(sample));
+      // Responses name some properties differently from requests, so ignore them when reading back
+      mapper.reader(CassandraRing.class).without(FAIL_ON_UNKNOWN_PROPERTIES).readValue(ring);
+      mapper.reader(RINGS).without(FAIL_ON_UNKNOWN_PROPERTIES).readValue(rings);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to warm up object mapper", e);
+    }
+    return mapper;
+  }
+
+  /**
+   * Writes {@link CassandraInstance}s with the same property names and order as the
+   * annotation-driven mapping.
+   */
+  static class InstanceSerializer extends StdSerializer<CassandraInstance> {
+
+    InstanceSerializer() {
+      super(CassandraInstance.class);
+    }
+
+    @Override
+    public void serialize(CassandraInstance instance, JsonGenerator jgen, SerializerProvider provider)
+        throws IOException {
+      jgen.writeStartObject();
+      jgen.writeFieldName(ID);
+      jgen.writeNumber(instance.getId());
+      writeString(jgen, RACK, instance.getRack());
+      writeString(jgen, PUBLIC_IP_ADDRESS, instance.getPublicIpAddress());
+      writeString(jgen, FQDN, instance.getFullyQualifiedDomainName());
+      writeString(jgen, DATA_CENTER, instance.getDataCenter());
+      writeString(jgen, HOST_NAME, instance.getHostName());
+      jgen.writeEndObject();
+    }
+  }
+
+  /**
+   * Writes {@link CassandraRing}s, delegating directly to the {@code instanceSerializer}.
+   */
+  static class RingSerializer extends StdSerializer<CassandraRing> {
+
+    private final InstanceSerializer instanceSerializer;
+
+    RingSerializer(InstanceSerializer instanceSerializer) {
+      super(CassandraRing.class);
+      this.instanceSerializer = instanceSerializer;
+    }
+
+    @Override
+    public void serialize(CassandraRing ring, JsonGenerator jgen, SerializerProvider provider)
+        throws IOException {
+      jgen.writeStartObject();
+      writeString(jgen, NAME, ring.getName());
+      jgen.writeFieldName(INSTANCES);
+      jgen.writeStartArray();
+      for (CassandraInstance instance : ring.getInstances()) {
+        instanceSerializer.serialize(instance, jgen, provider);
+      }
+      jgen.writeEndArray();
+      jgen.writeEndObject();
+    }
+  }
+
+  /**
+   * Reads {@link CassandraInstance}s with the same property names as its creator, and optionally
+   * with the property names they're written with.
+   */
+  static class InstanceDeserializer extends StdDeserializer<CassandraInstance> {
+
+    private final StringDeserializer strings = new StringDeserializer();
+    private final boolean readWrittenNames;
+
+    InstanceDeserializer(boolean readWrittenNames) {
+      super(CassandraInstance.class);
+      this.readWrittenNames = readWrittenNames;
+    }
+
+    @Override
+    public CassandraInstance deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+      int id = 0;
+      String dataCenter = null;
+      String rack = null;
+      String hostName = null;
+      String publicIpAddress = null;
+      String fullyQualifiedDomainName = null;
+      for (JsonToken token = startObject(jp, ctxt, CassandraInstance.class);
+          token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+        String field = jp.getCurrentName();
+        jp.nextToken();
+        if ("id".equals(field)) {
+          id = _parseIntPrimitive(jp, ctxt);
+        } else if ("datacenter".equals(field) || (readWrittenNames && "dataCenter".equals(field))) {
+          dataCenter = parseString(jp, ctxt);
+        } else if ("rack".equals(field)) {
+          rack = parseString(jp, ctxt);
+        } else if ("hostname".equals(field) || (readWrittenNames && "hostName".equals(field))) {
+          hostName = parseString(jp, ctxt);
+        } else if ("publicIpAddress".equals(field)) {
+          publicIpAddress = parseString(jp, ctxt);
+        } else if ("fullyQualifiedDomainName".equals(field)) {
+          fullyQualifiedDomainName = parseString(jp, ctxt);
+        } else {
+          handleUnknownProperty(jp, ctxt, CassandraInstance.class, field);
+        }
+      }
+      return new CassandraInstance(id, dataCenter, rack, hostName, publicIpAddress, fullyQualifiedDomainName);
+    }
+
+    private String parseString(JsonParser jp, DeserializationContext ctxt) throws IOException {
+      return jp.getCurrentToken() == JsonToken.VALUE_NULL ? null : strings.deserialize(jp, ctxt);
+    }
+  }
+
+  /**
+   * Reads {@link CassandraRing}s, delegating directly to the {@code instanceDeserializer}.
+   */
+  static class RingDeserializer extends StdDeserializer<CassandraRing> {
+
+    private final StringDeserializer strings = new StringDeserializer();
+    private final InstanceDeserializer instanceDeserializer;
+
+    RingDeserializer(InstanceDeserializer instanceDeserializer) {
+      super(CassandraRing.class);
+      this.instanceDeserializer = instanceDeserializer;
+    }
+
+    @Override
+    public CassandraRing deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+      String name = null;
+      Set<CassandraInstance> instances = null;
+      for (JsonToken token = startObject(jp, ctxt, CassandraRing.class);
+          token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+        String field = jp.getCurrentName();
+        JsonToken value = jp.nextToken();
+        if ("name".equals(field)) {
+          name = value == JsonToken.VALUE_NULL ? null : strings.deserialize(jp, ctxt);
+        } else if ("instances".equals(field)) {
+          instances = value == JsonToken.VALUE_NULL ? null : parseInstances(jp, ctxt);
+        } else {
+          handleUnknownProperty(jp, ctxt, CassandraRing.class, field);
+        }
+      }
+      try {
+        return new CassandraRing(name, instances);
+      } catch (RuntimeException e) {
+        throw ctxt.instantiationException(CassandraRing.class, e);
+      }
+    }
+
+    private Set<CassandraInstance> parseInstances(JsonParser jp, DeserializationContext ctxt)
+        throws IOException {
+      if (jp.getCurrentToken() != JsonToken.START_ARRAY) {
+        throw ctxt.mappingException(Set.class);
+      }
+      Set<CassandraInstance> instances = Sets.newHashSet();
+      while (jp.nextToken() != JsonToken.END_ARRAY) {
+        instances.add(jp.getCurrentToken() == JsonToken.VALUE_NULL
+            ? null : instanceDeserializer.deserialize(jp, ctxt));
+      }
+      return instances;
+    }
+  }
+
+  private static void writeString(JsonGenerator jgen, SerializableString name, String value)
+      throws IOException {
+    jgen.writeFieldName(name);
+    if (value == null) {
+      jgen.writeNull();
+    } else {
+      jgen.writeString(value);
+    }
+  }
+
+  /**
+   * Returns the first field name token of an object, or {@link JsonToken#END_OBJECT} if it's empty.
+   */
+  private static JsonToken startObject(JsonParser jp, DeserializationContext ctxt, Class<?> type)
+      throws IOException {
+    JsonToken token = jp.getCurrentToken();
+    if (token == JsonToken.START_OBJECT) {
+      return jp.nextToken();
+    } else if (token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT) {
+      return token;
+    }
+    throw ctxt.mappingException(type, token);
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.model;
+
+import com.google.common.base.Strings;
+
+/**
+ * Hand-written checks of the Bean Validation constraints declared on the models.
+ * <br/>
+ * Bean Validation walks each model's constraint metadata reflectively, which dominates the cost
+ * of bulk ring uploads. These checks let the common, valid case skip it. They're deliberately
+ * one-sided: a model that passes is known to satisfy all of its constraints, but one that fails
+ * (or is of any other type) must still be validated normally to report the violations.
+ *
+ * @since 10/18/2026
+ */
+public final class ModelConstraints {
+
+  private ModelConstraints() { }
+
+  /**
+   * Returns {@code true} if {@code value} is a ring or instance known to satisfy its constraints.
+   *
+   * @param value the value to check
+   * @return {@code true} if {@code value} is known to be valid, or {@code false} if it must
+   *     be validated normally
+   */
+  public static boolean isKnownValid(Object value) {
+    if (value instanceof CassandraRing) {
+      return isKnownValid((CassandraRing) value);
+    } else if (value instanceof CassandraInstance) {
+      return isKnownValid((CassandraInstance) value);
+    }
+    return false;
+  }
+
+  // Mirrors the constraints on CassandraRing, which don't cascade to its instances
+  private static boolean isKnownValid(CassandraRing ring) {
+    return !Strings.isNullOrEmpty(ring.getName())
+        && !ring.getInstances().isEmpty();
+  }
+
+  // Mirrors the constraints on CassandraInstance
+  private static boolean isKnownValid(CassandraInstance instance) {
+    return instance.getId() >= 1
+        && !Strings.isNullOrEmpty(instance.getDataCenter())
+        && !Strings.isNullOrEmpty(instance.getRack())
+        && !Strings.isNullOrEmpty(instance.getHostName())
+        && !Strings.isNullOrEmpty(instance.getPublicIpAddress());
+  }
+
+}
@@ -45,8 +45,8 @@ import com.brighttag.agathon.service.CassandraInstanceService;
  * @author codyaray
  * @since 5/12/2012
  */
-@Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Consumes({ MediaType.APPLICATION_JSON, ValidatingJacksonSmileProvider.APPLICATION_SMILE })
+@Produces({ MediaType.APPLICATION_JSON, ValidatingJacksonSmileProvider.APPLICATION_SMILE })
 public class CassandraInstanceResource {
 
   private final CassandraInstanceService service;
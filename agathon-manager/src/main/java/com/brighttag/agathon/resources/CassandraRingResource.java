@@ -34,6 +34,8 @@ import javax.ws.rs.core.UriBuilder;
 import com.google.inject.Inject;
 import com.sun.jersey.api.NotFoundException;
 
+import com.brighttag.agathon.admission.Admission;
+import com.brighttag.agathon.admission.Priority;
 import com.brighttag.agathon.model.CassandraRing;
 import com.brighttag.agathon.service.CassandraRingService;
 
@@ -44,8 +46,8 @@ import com.brighttag.agathon.service.CassandraRingService;
  * @since 9/17/2013
  */
 @Path("/rings")
-@Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Consumes({ MediaType.APPLICATION_JSON, ValidatingJacksonSmileProvider.APPLICATION_SMILE })
+@Produces({ MediaType.APPLICATION_JSON, ValidatingJacksonSmileProvider.APPLICATION_SMILE })
 public class CassandraRingResource {
 
   private final CassandraRingService service;
@@ -135,6 +137,7 @@ public class CassandraRingResource {
    * @throws ServiceUnavailableException if a required downstream service is unavailable
    */
   @Path("{name}/seeds")
+  @Admission(Priority.CRITICAL)
   public SeedResource getSeedResource(@PathParam("name") String name) {
     return seedResourceFactory.create(getByNameIfFound(name));
   }
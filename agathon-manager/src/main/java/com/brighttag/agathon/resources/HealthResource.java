@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import com.google.inject.Inject;
+
+import com.brighttag.agathon.admission.Admission;
+import com.brighttag.agathon.admission.Priority;
+import com.brighttag.agathon.service.impl.CacheWarmupService;
+
+/**
+ * Resource for checking the health of the application, such as from a load balancer.
+ *
+ * @since 10/18/2026
+ */
+@Admission(Priority.CRITICAL)
+@Path("/health")
+@Produces(MediaType.TEXT_PLAIN)
+public class HealthResource {
+
+  private final CacheWarmupService warmupService;
+
+  @Inject
+  public HealthResource(CacheWarmupService warmupService) {
+    this.warmupService = warmupService;
+  }
+
+  /**
+   * Returns whether the application is ready to serve traffic, which is once its caches are warm.
+   * @return Response (200) if ready, or (503) while the caches are still warming up
+   */
+  @GET
+  @Path("ready")
+  public Response isReady() {
+    if (warmupService.isWarm()) {
+      return Response.ok("ready").build();
+    }
+    return Response.status(Response.Status.SERVICE_UNAVAILABLE).entity("warming up").build();
+  }
+
+}
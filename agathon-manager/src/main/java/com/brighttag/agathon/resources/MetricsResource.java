@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import java.util.Map;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.inject.Inject;
+
+import com.brighttag.agathon.metrics.MetricsReport;
+
+/**
+ * Resource for retrieving the current application metrics.
+ *
+ * @since 10/18/2026
+ */
+@Path("/metrics")
+@Produces(MediaType.APPLICATION_JSON)
+public class MetricsResource {
+
+  private final MetricRegistry registry;
+
+  @Inject
+  public MetricsResource(MetricRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Returns every metric, grouped by type.
+   * @return the current value of every metric
+   */
+  @GET
+  public Map<String, Object> getMetrics() {
+    return MetricsReport.of(registry);
+  }
+
+}
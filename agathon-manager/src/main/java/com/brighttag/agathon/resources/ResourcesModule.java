@@ -16,21 +16,59 @@
 
 package com.brighttag.agathon.resources;
 
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.google.common.base.Ticker;
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
+import com.google.inject.matcher.Matchers;
+
+import com.brighttag.agathon.admission.AdmissionControlInterceptor;
+import com.brighttag.agathon.metrics.ResourceMetricsInterceptor;
+import com.brighttag.agathon.model.JacksonModelModule;
 
 /**
  * Guice module to wire up the resources.
+ * <br/>
+ * Requests are timed before admission control, so that shed requests are counted as 503s.
  *
  * @author codyaray
  * @since 9/17/2013
  */
 public class ResourcesModule extends AbstractModule {
 
+  public static final String MAX_CONCURRENCY_PROPERTY = "com.brighttag.agathon.admission.max_concurrency";
+  public static final String INITIAL_LIMIT_PROPERTY = "com.brighttag.agathon.admission.initial_limit";
+  public static final String MIN_LIMIT_PROPERTY = "com.brighttag.agathon.admission.min_limit";
+  public static final String TARGET_LATENCY_MS_PROPERTY = "com.brighttag.agathon.admission.target_latency_ms";
+  public static final String RETRY_AFTER_SECONDS_PROPERTY =
+      "com.brighttag.agathon.admission.retry_after_seconds";
+
   @Override
   protected void configure() {
     install(new FactoryModuleBuilder().build(CassandraInstanceResourceFactory.class));
     install(new FactoryModuleBuilder().build(SeedResourceFactory.class));
+    bindInterceptor(Matchers.inSubpackage(getClass().getPackage().getName()),
+        ResourceMetricsInterceptor.RESOURCE_METHODS,
+        new ResourceMetricsInterceptor(getProvider(MetricRegistry.class)));
+    bindInterceptor(Matchers.inSubpackage(getClass().getPackage().getName()),
+        AdmissionControlInterceptor.REQUEST_METHODS,
+        new AdmissionControlInterceptor(
+            Integer.getInteger(MAX_CONCURRENCY_PROPERTY, 96),
+            Integer.getInteger(INITIAL_LIMIT_PROPERTY, 32),
+            Integer.getInteger(MIN_LIMIT_PROPERTY, 4),
+            Integer.getInteger(TARGET_LATENCY_MS_PROPERTY, 500),
+            Integer.getInteger(RETRY_AFTER_SECONDS_PROPERTY, 1),
+            Ticker.systemTicker(),
+            getProvider(MetricRegistry.class)));
+  }
+
+  @Provides @Singleton
+  JacksonJsonProvider provideJacksonJsonProvider() {
+    return new JacksonJsonProvider(JacksonModelModule.register(new ObjectMapper()));
   }
 
 }
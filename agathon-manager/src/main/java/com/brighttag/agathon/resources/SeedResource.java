@@ -16,14 +16,23 @@
 
 package com.brighttag.agathon.resources;
 
+import java.util.Map;
+
 import javax.ws.rs.GET;
+import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 
+import com.brighttag.agathon.admission.Admission;
+import com.brighttag.agathon.admission.Priority;
 import com.brighttag.agathon.model.CassandraRing;
 import com.brighttag.agathon.service.SeedService;
 
@@ -33,11 +42,15 @@ import com.brighttag.agathon.service.SeedService;
  * @author codyaray
  * @since 5/25/2012
  */
+@Admission(Priority.CRITICAL)
 @Produces(MediaType.TEXT_PLAIN)
 public class SeedResource {
 
   private static final Joiner SEED_JOINER = Joiner.on(",").skipNulls();
 
+  /** Value of the {@code resolve} query parameter for returning seed IP addresses. */
+  public static final String RESOLVE_IP = "ip";
+
   private final SeedService service;
   private final CassandraRing ring;
 
@@ -49,11 +62,33 @@ public class SeedResource {
 
   /**
    * Returns the seeds for the Cassandra ring as a comma-separated string.
+   *
+   * @param resolve {@code ip} to return the seeds' IP addresses instead of their hostnames
    * @return the seeds for the Cassandra ring
+   * @throws WebApplicationException (400) if {@code resolve} isn't supported
+   */
+  @GET
+  public String getSeeds(@QueryParam("resolve") String resolve) {
+    if (resolve == null) {
+      return SEED_JOINER.join(service.getSeeds(ring));
+    } else if (RESOLVE_IP.equals(resolve)) {
+      return SEED_JOINER.join(ImmutableSet.copyOf(service.getSeedAddresses(ring).values()));
+    }
+    throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST)
+        .entity("Unsupported resolve option: " + resolve)
+        .type(MediaType.TEXT_PLAIN_TYPE)
+        .build());
+  }
+
+  /**
+   * Returns the seeds for the Cassandra ring mapped to their IP addresses.
+   * @return the IP address of each seed for the Cassandra ring
    */
   @GET
-  public String getSeeds() {
-    return SEED_JOINER.join(service.getSeeds(ring));
+  @Path("addresses")
+  @Produces(MediaType.APPLICATION_JSON)
+  public Map<String, String> getSeedAddresses() {
+    return service.getSeedAddresses(ring);
   }
 
 }
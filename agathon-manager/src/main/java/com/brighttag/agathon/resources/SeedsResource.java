@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.inject.Inject;
+import com.sun.jersey.api.NotFoundException;
+
+import com.brighttag.agathon.admission.Admission;
+import com.brighttag.agathon.admission.Priority;
+import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.service.CassandraRingService;
+import com.brighttag.agathon.service.SeedService;
+
+/**
+ * Resource for retrieving the seed nodes of many Cassandra rings in one request, such as
+ * for hosts running several Cassandra processes.
+ *
+ * @since 10/18/2026
+ * @see SeedResource
+ */
+@Admission(Priority.CRITICAL)
+@Path("/seeds")
+@Produces({ MediaType.APPLICATION_JSON, ValidatingJacksonSmileProvider.APPLICATION_SMILE })
+public class SeedsResource {
+
+  private static final Splitter RING_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+  private static final Joiner RING_JOINER = Joiner.on(",");
+
+  private final CassandraRingService ringService;
+  private final SeedService seedService;
+
+  @Inject
+  public SeedsResource(CassandraRingService ringService, SeedService seedService) {
+    this.ringService = ringService;
+    this.seedService = seedService;
+  }
+
+  /**
+   * Returns the seeds for each of the Cassandra {@code rings}. The rings are all read from
+   * a single snapshot of the backing store.
+   *
+   * @param rings comma-separated Cassandra ring names
+   * @param resolve {@code ip} to return the seeds' IP addresses instead of their hostnames
+   * @return the seeds for each Cassandra ring, keyed by ring name
+   * @throws WebApplicationException (400) if no rings are given or {@code resolve} isn't supported
+   * @throws NotFoundException if any of the {@code rings} isn't found
+   * @throws ServiceUnavailableException if a required downstream service is unavailable
+   */
+  @GET
+  public Map<String, Set<String>> getSeeds(@QueryParam("rings") String rings,
+      @QueryParam("resolve") String resolve) {
+    Set<String> names = ImmutableSet.copyOf(RING_SPLITTER.split(rings == null ? "" : rings));
+    if (names.isEmpty()) {
+      throw badRequest("At least one ring is required");
+    } else if (resolve != null && !SeedResource.RESOLVE_IP.equals(resolve)) {
+      throw badRequest("Unsupported resolve option: " + resolve);
+    }
+
+    Map<String, Set<String>> seeds = Maps.newTreeMap();
+    for (CassandraRing ring : ringService.findByNames(names)) {
+      seeds.put(ring.getName(), resolve == null
+          ? seedService.getSeeds(ring)
+          : ImmutableSet.copyOf(seedService.getSeedAddresses(ring).values()));
+    }
+
+    Set<String> missing = Sets.difference(names, seeds.keySet());
+    if (!missing.isEmpty()) {
+      throw new NotFoundException(String.format("No rings found with names: %s", RING_JOINER.join(missing)));
+    }
+    return ImmutableMap.copyOf(seeds);
+  }
+
+  private static WebApplicationException badRequest(String message) {
+    return new WebApplicationException(Response.status(Response.Status.BAD_REQUEST)
+        .entity(message)
+        .type(MediaType.TEXT_PLAIN_TYPE)
+        .build());
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import javax.validation.Validator;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.google.inject.Inject;
+
+import com.brighttag.agathon.model.JacksonModelModule;
+
+/**
+ * A Jersey provider which adds validation to a Jackson provider for
+ * <a href="http://wiki.fasterxml.com/SmileFormat">Smile</a>, the binary JSON format.
+ * <br/>
+ * Smile entities are smaller and much cheaper to encode and decode than JSON, which matters
+ * for clients that frequently fetch all rings. Clients opt in with an {@code Accept}
+ * (or {@code Content-Type}) header of {@value #APPLICATION_SMILE}.
+ *
+ * @since 10/18/2026
+ * @see ValidatingJacksonProvider
+ */
+@Provider
+@Consumes(ValidatingJacksonSmileProvider.APPLICATION_SMILE)
+@Produces(ValidatingJacksonSmileProvider.APPLICATION_SMILE)
+public class ValidatingJacksonSmileProvider extends ValidatingJacksonProvider {
+
+  public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+  public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+
+  @Inject
+  public ValidatingJacksonSmileProvider(Validator validator) {
+    this(new JacksonSmileProvider(), validator);
+  }
+
+  ValidatingJacksonSmileProvider(JacksonJsonProvider delegate, Validator validator) {
+    super(delegate, validator);
+  }
+
+  /**
+   * A Jackson provider which reads and writes Smile rather than JSON.
+   */
+  static class JacksonSmileProvider extends JacksonJsonProvider {
+
+    JacksonSmileProvider() {
+      super(JacksonModelModule.register(new ObjectMapper(new SmileFactory())));
+    }
+
+    @Override
+    protected boolean isJsonType(MediaType mediaType) {
+      return mediaType != null && !mediaType.isWildcardSubtype()
+          && APPLICATION_SMILE_TYPE.isCompatible(mediaType);
+    }
+  }
+
+}
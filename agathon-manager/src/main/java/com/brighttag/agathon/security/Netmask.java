@@ -16,7 +16,6 @@
 
 package com.brighttag.agathon.security;
 
-import java.util.Arrays;
 import java.util.Collection;
 
 import javax.annotation.Nullable;
@@ -40,10 +39,12 @@ public class Netmask {
 
   private final String networkAddress;
   private final int routingPrefixLength;
+  private final int hashCode;
 
   @VisibleForTesting Netmask(String networkAddress, int routingPrefixLength) {
     this.networkAddress = networkAddress;
     this.routingPrefixLength = routingPrefixLength;
+    this.hashCode = Objects.hashCode(networkAddress, routingPrefixLength);
   }
 
   public static @Nullable Netmask fromCidr(String cidr) {
@@ -84,7 +85,7 @@ public class Netmask {
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(significantAttributes());
+    return hashCode;
   }
 
   @Override
@@ -96,11 +97,10 @@ public class Netmask {
     } else if (!getClass().isAssignableFrom(obj.getClass())) {
       return false;
     }
-    return Arrays.equals(significantAttributes(), getClass().cast(obj).significantAttributes());
-  }
-
-  Object[] significantAttributes() {
-    return new Object[] { networkAddress, routingPrefixLength };
+    Netmask that = (Netmask) obj;
+    return hashCode == that.hashCode
+        && routingPrefixLength == that.routingPrefixLength
+        && Objects.equal(networkAddress, that.networkAddress);
   }
 
   private static final Netmask INVALID_NETMASK = new Netmask("null", 0);
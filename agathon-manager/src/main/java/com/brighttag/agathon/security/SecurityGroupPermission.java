@@ -16,7 +16,6 @@
 
 package com.brighttag.agathon.security;
 
-import java.util.Arrays;
 import java.util.Collection;
 
 import com.google.common.base.Objects;
@@ -32,10 +31,12 @@ import com.google.common.collect.Range;
 public class SecurityGroupPermission {
   private final ImmutableSet<Netmask> netmasks;
   private final Range<Integer> portRange;
+  private final int hashCode;
 
   public SecurityGroupPermission(Collection<Netmask> netmasks, Range<Integer> portRange) {
     this.netmasks = ImmutableSet.copyOf(netmasks);
     this.portRange = portRange;
+    this.hashCode = Objects.hashCode(this.netmasks, portRange);
   }
 
   /**
@@ -56,7 +57,7 @@ public class SecurityGroupPermission {
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(significantAttributes());
+    return hashCode;
   }
 
   @Override
@@ -68,7 +69,10 @@ public class SecurityGroupPermission {
     } else if (!getClass().isAssignableFrom(obj.getClass())) {
       return false;
     }
-    return Arrays.equals(significantAttributes(), getClass().cast(obj).significantAttributes());
+    SecurityGroupPermission that = (SecurityGroupPermission) obj;
+    return hashCode == that.hashCode
+        && Objects.equal(netmasks, that.netmasks)
+        && Objects.equal(portRange, that.portRange);
   }
 
   @Override
@@ -79,8 +83,4 @@ public class SecurityGroupPermission {
         .toString();
   }
 
-  Object[] significantAttributes() {
-    return new Object[] { netmasks, portRange };
-  }
-
 }
@@ -35,24 +35,31 @@ import org.joda.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraAddressDao;
 import com.brighttag.agathon.jmx.ScheduledServiceMBean;
 import com.brighttag.agathon.model.CassandraInstance;
 import com.brighttag.agathon.model.CassandraRing;
-import com.brighttag.agathon.service.CassandraRingService;
-import com.brighttag.agathon.service.ServiceUnavailableException;
+import com.brighttag.agathon.service.DependsOn;
+import com.brighttag.agathon.service.impl.CacheWarmupService;
 
 /**
  * Periodically updates the security group associated with the Cassandra ring.
+ * <br/>
+ * Only the addresses of the instances are read, through the {@link CassandraAddressDao}.
+ * Starts once the {@link CacheWarmupService} has made its first attempt, so that its first run
+ * reads from warm caches.
  *
  * @author Greg Opaczewski
  * @author codyaray
  * @since 1/11/2013
  */
+@DependsOn(CacheWarmupService.class)
 public class SecurityGroupUpdaterService extends AbstractScheduledService implements ScheduledServiceMBean {
 
   private static final Logger LOG = LoggerFactory.getLogger(SecurityGroupUpdaterService.class);
 
-  private final CassandraRingService cassandraRingService;
+  private final CassandraAddressDao cassandraAddressDao;
   private final SecurityGroupService securityGroupService;
   private final Function<CassandraInstance, String> dataCenterTransformFunction;
   private final int listenPort;
@@ -63,7 +70,7 @@ public class SecurityGroupUpdaterService extends AbstractScheduledService implem
 
   @Inject
   public SecurityGroupUpdaterService(
-      CassandraRingService cassandraRingService,
+      CassandraAddressDao cassandraAddressDao,
       SecurityGroupService securityGroupService,
       @Named(SecurityGroupModule.SECURITY_GROUP_DATACENTERS_PROPERTY)
           Function<CassandraInstance, String> dataCenterTransformFunction,
@@ -72,7 +79,7 @@ public class SecurityGroupUpdaterService extends AbstractScheduledService implem
       @Named(SecurityGroupModule.CASSANDRA_RING_SSL_ENABLED) Set<String> sslEnabledRings,
       @Named(SecurityGroupModule.SECURITY_GROUP_UPDATE_PERIOD_PROPERTY) Duration updatePeriod,
       @Named(SecurityGroupModule.SECURITY_GROUP_NAME_PREFIX_PROPERTY) String securityGroupNamePrefix) {
-    this.cassandraRingService = cassandraRingService;
+    this.cassandraAddressDao = cassandraAddressDao;
     this.securityGroupService = securityGroupService;
     this.dataCenterTransformFunction = dataCenterTransformFunction;
     this.listenPort = listenPort;
@@ -85,7 +92,7 @@ public class SecurityGroupUpdaterService extends AbstractScheduledService implem
   @Override
   public void runOneIteration() {
     try {
-      for (CassandraRing ring : cassandraRingService.findAll()) {
+      for (CassandraRing ring : cassandraAddressDao.findAllAddresses()) {
         for (String dataCenter : findDataCenters(ring)) {
           int port = Boolean.TRUE.equals(sslEnabledRings.contains(ring.getName())) ? sslListenPort : listenPort;
           String securityGroupName = securityGroupForRing(ring);
@@ -93,7 +100,7 @@ public class SecurityGroupUpdaterService extends AbstractScheduledService implem
           updateSecurityGroupRules(securityGroupName, dataCenter, ring.getInstances(), port);
         }
       }
-    } catch (ServiceUnavailableException e) {
+    } catch (BackingStoreException e) {
       LOG.warn("Unable to update the Cassandra security groups", e);
     }
   }
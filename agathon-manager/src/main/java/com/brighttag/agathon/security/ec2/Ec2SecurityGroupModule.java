@@ -16,15 +16,18 @@
 
 package com.brighttag.agathon.security.ec2;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.regions.Region;
-import com.amazonaws.regions.Regions;
+import com.amazonaws.regions.RegionMetadataParser;
 import com.amazonaws.services.ec2.AmazonEC2;
 import com.amazonaws.services.ec2.AmazonEC2Client;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Closeables;
 import com.google.inject.Exposed;
 import com.google.inject.PrivateModule;
 import com.google.inject.Provides;
@@ -36,6 +39,8 @@ import com.brighttag.agathon.model.CassandraInstance;
 import com.brighttag.agathon.security.SecurityGroupModule;
 import com.brighttag.agathon.security.SecurityGroupService;
 
+import static com.google.common.base.Preconditions.checkState;
+
 /**
  * Guice module to wire up security group management for Amazon EC2.
  *
@@ -44,6 +49,8 @@ import com.brighttag.agathon.security.SecurityGroupService;
  */
 public class Ec2SecurityGroupModule extends PrivateModule {
 
+  private static final String REGIONS_METADATA = "/etc/regions.xml";
+
   @Override
   protected void configure() {
     install(new AwsModule());
@@ -60,14 +67,23 @@ public class Ec2SecurityGroupModule extends PrivateModule {
     return new AmazonEC2Client(credentials);
   }
 
+  /**
+   * Reads the region metadata bundled with the AWS SDK. {@link Region#getRegion} would instead
+   * make a network request for it, which would slow down creating the injector.
+   */
   @Provides @Singleton @Named(SecurityGroupModule.SECURITY_GROUP_DATACENTERS_PROPERTY)
-  Map<String, Region> provideRegions() {
-    ImmutableMap.Builder<String, Region> regionMap = ImmutableMap.builder();
-    for (Regions region : Regions.values()) {
-      // On first call, this makes a network request to fetch the metadata for all regions
-      regionMap.put(region.getName(), Region.getRegion(region));
+  Map<String, Region> provideRegions() throws IOException {
+    InputStream metadata = Region.class.getResourceAsStream(REGIONS_METADATA);
+    checkState(metadata != null, "AWS SDK region metadata not found: %s", REGIONS_METADATA);
+    try {
+      ImmutableMap.Builder<String, Region> regionMap = ImmutableMap.builder();
+      for (Region region : new RegionMetadataParser().parseRegionMetadata(metadata)) {
+        regionMap.put(region.getName(), region);
+      }
+      return regionMap.build();
+    } finally {
+      Closeables.close(metadata, true);
     }
-    return regionMap.build();
   }
 
   @Provides @Exposed @Singleton @Named(SecurityGroupModule.SECURITY_GROUP_DATACENTERS_PROPERTY)
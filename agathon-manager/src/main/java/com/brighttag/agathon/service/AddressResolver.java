@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service;
+
+import javax.annotation.Nullable;
+
+/**
+ * Resolves hostnames to IP addresses.
+ *
+ * @since 10/18/2026
+ */
+public interface AddressResolver {
+
+  /**
+   * Resolves a hostname to an IP address.
+   *
+   * @param host the hostname
+   * @return the IP address, or {@code null} if the host is unknown
+   */
+  @Nullable String resolve(String host);
+
+}
@@ -16,6 +16,8 @@
 
 package com.brighttag.agathon.service;
 
+import java.util.Set;
+
 import javax.annotation.Nullable;
 
 import com.google.common.collect.ImmutableSet;
@@ -47,6 +49,15 @@ public interface CassandraRingService {
    */
   @Nullable CassandraRing findByName(String name);
 
+  /**
+   * Returns the Cassandra rings with the given {@code names}, omitting any not found.
+   *
+   * @param names the Cassandra ring names
+   * @return the Cassandra rings found
+   * @throws ServiceUnavailableException if there was a problem communicating with the backing store.
+   */
+  ImmutableSet<CassandraRing> findByNames(Set<String> names);
+
   /**
    * Saves the Cassandra {@code ring}.
    *
@@ -16,6 +16,7 @@
 
 package com.brighttag.agathon.service;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 import com.brighttag.agathon.model.CassandraRing;
@@ -37,4 +38,13 @@ public interface SeedService {
    */
   ImmutableSet<String> getSeeds(CassandraRing ring);
 
+  /**
+   * Returns the seeds for a Cassandra ring along with their IP addresses, so that
+   * Cassandra nodes needn't resolve the seeds themselves.
+   *
+   * @param ring the Cassandra ring
+   * @return the IP address for each seed (or the seed itself, if it couldn't be resolved)
+   */
+  ImmutableMap<String, String> getSeedAddresses(CassandraRing ring);
+
 }
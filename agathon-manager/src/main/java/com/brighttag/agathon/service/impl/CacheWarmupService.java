@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.AbstractService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.brighttag.agathon.dao.tiered.RingReplicator;
+import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.service.CassandraRingService;
+import com.brighttag.agathon.service.DependsOn;
+import com.brighttag.agathon.service.SeedService;
+
+/**
+ * Warms the ring and seed caches at startup, so the first seed requests after a deploy
+ * don't pay the full backend latency.
+ * <br/>
+ * Warming loads a snapshot of every ring, then computes and resolves each ring's seeds in
+ * parallel. The service finishes starting once the first attempt is over, so services that
+ * {@linkplain DependsOn depend on it} start against warm caches. If that attempt fails, the
+ * service still starts but {@linkplain #isWarm() isn't warm}, and warming is retried
+ * periodically in the background.
+ * With the tiered database, warming starts after the {@link RingReplicator} has loaded its snapshot.
+ *
+ * @since 10/18/2026
+ */
+@DependsOn(RingReplicator.class)
+public class CacheWarmupService extends AbstractService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CacheWarmupService.class);
+
+  private final CassandraRingService ringService;
+  private final SeedService seedService;
+  private final int threads;
+  private final int retrySeconds;
+
+  private volatile boolean warm;
+  private ScheduledExecutorService scheduler;
+  private ExecutorService workers;
+
+  @Inject
+  public CacheWarmupService(CassandraRingService ringService, SeedService seedService,
+      @Named(ServiceModule.WARMUP_THREADS_PROPERTY) int threads,
+      @Named(ServiceModule.WARMUP_RETRY_SECONDS_PROPERTY) int retrySeconds) {
+    this.ringService = ringService;
+    this.seedService = seedService;
+    this.threads = threads;
+    this.retrySeconds = retrySeconds;
+  }
+
+  /**
+   * Returns whether the caches have been warmed.
+   * @return {@code true} once every ring and its seeds have been loaded
+   */
+  public boolean isWarm() {
+    return warm;
+  }
+
+  @Override
+  protected void doStart() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("cache-warmup").setDaemon(true).build());
+    workers = Executors.newFixedThreadPool(threads,
+        new ThreadFactoryBuilder().setNameFormat("cache-warmup-%d").setDaemon(true).build());
+    scheduler.execute(new Runnable() {
+      private boolean started;
+
+      @Override
+      public void run() {
+        boolean warmed = warmUp(workers);
+        if (!started) {
+          started = true;
+          notifyStarted();
+        }
+        if (warmed) {
+          workers.shutdown();
+        } else if (!scheduler.isShutdown()) {
+          LOG.info("Retrying cache warm-up in {} seconds", retrySeconds);
+          scheduler.schedule(this, retrySeconds, TimeUnit.SECONDS);
+        }
+      }
+    });
+  }
+
+  @Override
+  protected void doStop() {
+    scheduler.shutdownNow();
+    workers.shutdownNow();
+    notifyStopped();
+  }
+
+  /**
+   * Loads every ring and its seeds, using the {@code workers} to process rings in parallel.
+   *
+   * @param workers the executor for loading each ring's seeds
+   * @return {@code true} if the caches are now warm
+   */
+  @VisibleForTesting boolean warmUp(ExecutorService workers) {
+    Stopwatch stopwatch = new Stopwatch().start();
+    try {
+      ImmutableSet<CassandraRing> rings = ringService.findAll();
+      List<Future<Void>> futures = Lists.newArrayListWithCapacity(rings.size());
+      for (final CassandraRing ring : rings) {
+        futures.add(workers.submit(new Callable<Void>() {
+          @Override
+          public Void call() {
+            seedService.getSeeds(ring);
+            seedService.getSeedAddresses(ring);
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+      warm = true;
+      LOG.info("Warmed caches for {} rings in {}", rings.size(), stopwatch);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException e) {
+      LOG.warn("Unable to warm caches", e.getCause());
+      return false;
+    } catch (RuntimeException e) {
+      LOG.warn("Unable to warm caches", e);
+      return false;
+    }
+  }
+
+}
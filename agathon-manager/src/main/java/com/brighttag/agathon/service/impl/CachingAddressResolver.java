@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.brighttag.agathon.service.AddressResolver;
+
+/**
+ * An {@link AddressResolver} that caches both resolved and unknown hosts, so that each host
+ * is resolved at most once per TTL no matter how many Cassandra nodes request seeds.
+ * <br/>
+ * Lookups never run on the request thread. Once the TTL passes, the last address is still
+ * returned while the host is resolved again in the background. A host that has never been
+ * resolved is waited on for at most the lookup timeout, after which it's treated as unknown
+ * (so seeds fall back to their public IP address) until its lookup finishes.
+ *
+ * @since 10/18/2026
+ */
+public class CachingAddressResolver implements AddressResolver {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CachingAddressResolver.class);
+
+  private static final int MAXIMUM_SIZE = 10000;
+  private static final int LOOKUP_THREADS = 4;
+  private static final int LOOKUP_QUEUE_SIZE = 1000;
+
+  private final LoadingCache<String, Optional<String>> cache;
+  private final ConcurrentMap<String, Future<Optional<String>>> loading = Maps.newConcurrentMap();
+  private final ExecutorService executor;
+  private final long timeoutMillis;
+
+  @Inject
+  public CachingAddressResolver(@Named(ServiceModule.RESOLVE_CACHE_SECONDS_PROPERTY) int cacheSeconds,
+      @Named(ServiceModule.RESOLVE_TIMEOUT_MILLIS_PROPERTY) int timeoutMillis) {
+    this(cacheSeconds, timeoutMillis, Ticker.systemTicker(), lookupExecutor());
+  }
+
+  @VisibleForTesting CachingAddressResolver(long cacheSeconds, long timeoutMillis, Ticker ticker,
+      final ExecutorService executor) {
+    this.executor = executor;
+    this.timeoutMillis = timeoutMillis;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .refreshAfterWrite(cacheSeconds, TimeUnit.SECONDS)
+        .ticker(ticker)
+        .build(new CacheLoader<String, Optional<String>>() {
+          @Override
+          public Optional<String> load(String host) {
+            return Optional.fromNullable(lookup(host));
+          }
+
+          @Override
+          public ListenableFuture<Optional<String>> reload(final String host, Optional<String> old) {
+            ListenableFutureTask<Optional<String>> task = ListenableFutureTask.create(
+                new Callable<Optional<String>>() {
+                  @Override
+                  public Optional<String> call() {
+                    return load(host);
+                  }
+                });
+            executor.execute(task);
+            return task;
+          }
+        });
+  }
+
+  @Override
+  public @Nullable String resolve(String host) {
+    if (cache.getIfPresent(host) != null) {
+      // Returns at once, reloading in the background if the TTL has passed
+      return cache.getUnchecked(host).orNull();
+    }
+    try {
+      return firstLookup(host).get(timeoutMillis, TimeUnit.MILLISECONDS).orNull();
+    } catch (TimeoutException e) {
+      LOG.warn("Timed out resolving seed host {}", host);
+    } catch (RejectedExecutionException e) {
+      LOG.warn("Too many pending lookups to resolve seed host {}", host);
+    } catch (ExecutionException e) {
+      LOG.warn("Unable to resolve seed host " + host, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  // Shared by every request for the host until it's cached, so a hung lookup holds one thread
+  private Future<Optional<String>> firstLookup(final String host) {
+    FutureTask<Optional<String>> task = new FutureTask<Optional<String>>(new Callable<Optional<String>>() {
+      @Override
+      public Optional<String> call() {
+        try {
+          return cache.getUnchecked(host);
+        } finally {
+          loading.remove(host);
+        }
+      }
+    });
+    Future<Optional<String>> running = loading.putIfAbsent(host, task);
+    if (running != null) {
+      return running;
+    }
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      loading.remove(host, task);
+      throw e;
+    }
+    return task;
+  }
+
+  @VisibleForTesting @Nullable String lookup(String host) {
+    try {
+      return InetAddress.getByName(host).getHostAddress();
+    } catch (UnknownHostException e) {
+      LOG.warn("Unable to resolve seed host {}", host);
+      return null;
+    }
+  }
+
+  private static ExecutorService lookupExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(LOOKUP_THREADS, LOOKUP_THREADS,
+        60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(LOOKUP_QUEUE_SIZE),
+        new ThreadFactoryBuilder().setNameFormat("address-resolver-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+}
@@ -16,6 +16,8 @@
 
 package com.brighttag.agathon.service.impl;
 
+import java.util.Set;
+
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 
@@ -58,6 +60,15 @@ public class CassandraRingServiceImpl implements CassandraRingService {
     }
   }
 
+  @Override
+  public ImmutableSet<CassandraRing> findByNames(Set<String> names) {
+    try {
+      return dao.findByNames(names);
+    } catch (BackingStoreException e) {
+      throw new ServiceUnavailableException(e);
+    }
+  }
+
   @Override
   public void save(CassandraRing ring) {
     dao.save(ring);
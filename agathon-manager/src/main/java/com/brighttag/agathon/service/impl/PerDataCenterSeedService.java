@@ -16,11 +16,17 @@
 
 package com.brighttag.agathon.service.impl;
 
+import java.util.Map;
+
 import com.google.common.base.Function;
 import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 
@@ -29,10 +35,15 @@ import org.slf4j.LoggerFactory;
 
 import com.brighttag.agathon.model.CassandraInstance;
 import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.service.AddressResolver;
 import com.brighttag.agathon.service.SeedService;
 
 /**
  * A {@link SeedService} that includes a specified number of seeds per data center.
+ * <br/>
+ * Seeds are spread across the racks of each data center and chosen by rendezvous hashing
+ * (see {@link RendezvousSeedSelector}), so they don't change when unrelated instances come
+ * and go, or when the backend returns instances in a different order.
  *
  * @author codyaray
  * @since 5/25/12
@@ -50,40 +61,76 @@ public class PerDataCenterSeedService implements SeedService {
     };
 
   private final int numSeeds;
+  private final AddressResolver resolver;
 
   @Inject
-  public PerDataCenterSeedService(@Named(ServiceModule.SEEDS_PER_DATACENTER_PROPERTY) int numSeeds) {
+  public PerDataCenterSeedService(@Named(ServiceModule.SEEDS_PER_DATACENTER_PROPERTY) int numSeeds,
+      AddressResolver resolver) {
     this.numSeeds = numSeeds;
+    this.resolver = resolver;
   }
 
   @Override
   public ImmutableSet<String> getSeeds(CassandraRing ring) {
-    ImmutableSet.Builder<String> seedBuilder = ImmutableSet.builder();
+    return ImmutableSet.copyOf(Iterables.transform(getSeedInstances(ring), INSTANCE_TO_SEED));
+  }
+
+  @Override
+  public ImmutableMap<String, String> getSeedAddresses(CassandraRing ring) {
+    Map<String, String> seedAddresses = Maps.newLinkedHashMap();
+    for (CassandraInstance instance : getSeedInstances(ring)) {
+      String seed = INSTANCE_TO_SEED.apply(instance);
+      if (!seedAddresses.containsKey(seed)) {
+        seedAddresses.put(seed, getAddress(seed, instance));
+      }
+    }
+    return ImmutableMap.copyOf(seedAddresses);
+  }
+
+  private Iterable<CassandraInstance> getSeedInstances(CassandraRing ring) {
     ImmutableSetMultimap<String, CassandraInstance> dataCenterToInstanceMap =
         buildDataCenterToInstanceMap(ring.getInstances());
+    ImmutableList.Builder<CassandraInstance> seedBuilder = ImmutableList.builder();
 
-    for (String dc : dataCenterToInstanceMap.keySet()) {
-      seedBuilder.addAll(getSeeds(dc, dataCenterToInstanceMap.get(dc)));
+    for (String dc : Ordering.natural().sortedCopy(dataCenterToInstanceMap.keySet())) {
+      seedBuilder.addAll(getSeedInstances(ring.getName(), dc, dataCenterToInstanceMap.get(dc)));
     }
 
     return seedBuilder.build();
   }
 
   /**
-   * Return the first {@code numSeeds} seeds from the {@code instancesInDC} collection
-   * for the given {@code dataCenter}.
+   * Return {@code numSeeds} instances from the {@code instancesInDC} collection
+   * for the given {@code dataCenter}, spread across its racks.
    *
+   * @param ringName the ring name
    * @param dataCenter the data center name
    * @param instancesInDC a collection of instances in the data center
-   * @return the public DNS names or IP addresses of the first {@code numSeeds} hosts
+   * @return the {@code numSeeds} seed instances
    */
-  private Iterable<String> getSeeds(String dataCenter, ImmutableSet<CassandraInstance> instancesInDC) {
+  private Iterable<CassandraInstance> getSeedInstances(String ringName, String dataCenter,
+      ImmutableSet<CassandraInstance> instancesInDC) {
     int size = instancesInDC.size();
     if (size < numSeeds) {
       LOG.warn("Too few seeds for data center '{}'. Continuing with {} seeds.", dataCenter, size);
     }
 
-    return Iterables.transform(Iterables.limit(instancesInDC, numSeeds), INSTANCE_TO_SEED);
+    return RendezvousSeedSelector.select(ringName, instancesInDC, numSeeds, INSTANCE_TO_SEED);
+  }
+
+  /**
+   * Returns the IP address for the seed, preferring the resolved domain name and falling back
+   * to the public IP address, or the seed itself if neither are available.
+   */
+  private String getAddress(String seed, CassandraInstance instance) {
+    String address = null;
+    if (instance.getFullyQualifiedDomainName() != null) {
+      address = resolver.resolve(instance.getFullyQualifiedDomainName());
+    }
+    if (address == null) {
+      address = instance.getPublicIpAddress();
+    }
+    return Objects.firstNonNull(address, seed);
   }
 
   private static ImmutableSetMultimap<String, CassandraInstance> buildDataCenterToInstanceMap(
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+
+import com.brighttag.agathon.model.CassandraInstance;
+
+/**
+ * Chooses seeds with rendezvous (highest random weight) hashing, spread across racks.
+ * <br/>
+ * Each instance is weighted by a hash of the ring name and its seed, so the choice doesn't
+ * depend on the order instances are read in, and every manager agrees on it (the hash mixes
+ * {@link String#hashCode}, which is the same in every JVM). Seeds are taken from every rack
+ * before any rack gets a second: the heaviest instance of each rack first, then the second
+ * heaviest, and so on, heaviest first within each round.
+ * <br/>
+ * Since an instance's weight never changes, seeds stay put as other instances come and go.
+ * Removing an instance that isn't a seed changes nothing, and adding one replaces at most
+ * one seed. This matters because every seed change makes the ring's gossip reconverge.
+ *
+ * @since 10/18/2026
+ */
+final class RendezvousSeedSelector {
+
+  private RendezvousSeedSelector() { /* static helper */ }
+
+  /**
+   * Returns up to {@code numSeeds} of the instances, most preferred first.
+   *
+   * @param ring the ring name, so that rings sharing hosts don't share seeds
+   * @param instances the instances to choose from, usually those of one data center
+   * @param numSeeds the number of seeds
+   * @param seed the seed of an instance, which identifies it across refreshes
+   * @return the seed instances
+   */
+  static ImmutableList<CassandraInstance> select(String ring, Collection<CassandraInstance> instances,
+      int numSeeds, Function<CassandraInstance, String> seed) {
+    if (numSeeds <= 0) {
+      return ImmutableList.of();
+    }
+
+    // Only the heaviest numSeeds of a rack can be chosen, so that's all we keep
+    long salt = mix(ring.hashCode());
+    Map<String, List<Candidate>> racks = Maps.newHashMap();
+    for (CassandraInstance instance : instances) {
+      String key = seed.apply(instance);
+      long weight = mix(salt ^ (key.hashCode() & 0xffffffffL));
+      List<Candidate> heaviest = racks.get(instance.getRack());
+      if (heaviest == null) {
+        heaviest = Lists.newArrayListWithCapacity(numSeeds + 1);
+        racks.put(instance.getRack(), heaviest);
+      }
+      offer(heaviest, numSeeds, instance, key, weight);
+    }
+
+    List<Candidate> candidates = Lists.newArrayList();
+    for (List<Candidate> heaviest : racks.values()) {
+      for (int rank = 0; rank < heaviest.size(); rank++) {
+        heaviest.get(rank).rank = rank;
+        candidates.add(heaviest.get(rank));
+      }
+    }
+    Collections.sort(candidates, Candidate.BY_RANK);
+
+    ImmutableList.Builder<CassandraInstance> seeds = ImmutableList.builder();
+    for (Candidate candidate : candidates.subList(0, Math.min(numSeeds, candidates.size()))) {
+      seeds.add(candidate.instance);
+    }
+    return seeds.build();
+  }
+
+  // Inserts the instance in weight order if it's among the heaviest numSeeds
+  private static void offer(List<Candidate> heaviest, int numSeeds, CassandraInstance instance,
+      String key, long weight) {
+    int index = heaviest.size();
+    while (index > 0 && Candidate.compare(weight, key, heaviest.get(index - 1)) < 0) {
+      index--;
+    }
+    if (index < numSeeds) {
+      heaviest.add(index, new Candidate(instance, key, weight));
+      if (heaviest.size() > numSeeds) {
+        heaviest.remove(numSeeds);
+      }
+    }
+  }
+
+  // The finalizer of MurmurHash3, spreading every input bit over the whole weight
+  private static long mix(long value) {
+    long h = value;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  private static class Candidate {
+
+    // Lower ranks first, then heavier first
+    static final Comparator<Candidate> BY_RANK = new Comparator<Candidate>() {
+      @Override
+      public int compare(Candidate left, Candidate right) {
+        int result = Ints.compare(left.rank, right.rank);
+        return result != 0 ? result : Candidate.compare(left.weight, left.key, right);
+      }
+    };
+
+    private final CassandraInstance instance;
+    private final String key;
+    private final long weight;
+    private int rank;
+
+    Candidate(CassandraInstance instance, String key, long weight) {
+      this.instance = instance;
+      this.key = key;
+      this.weight = weight;
+    }
+
+    // Negative if the weight and key come before (are heavier than) the candidate
+    static int compare(long weight, String key, Candidate candidate) {
+      int result = Longs.compare(candidate.weight, weight);
+      return result != 0 ? result : key.compareTo(candidate.key);
+    }
+
+  }
+
+}
@@ -21,6 +21,7 @@ import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import com.brighttag.agathon.service.AddressResolver;
 import com.brighttag.agathon.service.CassandraInstanceService;
 import com.brighttag.agathon.service.CassandraRingService;
 import com.brighttag.agathon.service.SeedService;
@@ -34,6 +35,12 @@ import com.brighttag.agathon.service.SeedService;
 public class ServiceModule extends PrivateModule {
 
   public static final String SEEDS_PER_DATACENTER_PROPERTY = "com.brighttag.agathon.seeds.per_datacenter";
+  public static final String RESOLVE_CACHE_SECONDS_PROPERTY =
+      "com.brighttag.agathon.seeds.resolve_cache_seconds";
+  public static final String RESOLVE_TIMEOUT_MILLIS_PROPERTY =
+      "com.brighttag.agathon.seeds.resolve_timeout_ms";
+  public static final String WARMUP_THREADS_PROPERTY = "com.brighttag.agathon.warmup.threads";
+  public static final String WARMUP_RETRY_SECONDS_PROPERTY = "com.brighttag.agathon.warmup.retry_seconds";
 
   @Override
   protected void configure() {
@@ -42,9 +49,12 @@ public class ServiceModule extends PrivateModule {
     bind(CassandraRingService.class).to(CassandraRingServiceImpl.class);
     bind(CassandraInstanceService.class).to(CassandraInstanceServiceImpl.class);
     bind(SeedService.class).to(PerDataCenterSeedService.class).in(Singleton.class);
+    bind(AddressResolver.class).to(CachingAddressResolver.class).in(Singleton.class);
+    bind(CacheWarmupService.class).in(Singleton.class);
     expose(CassandraRingService.class);
     expose(CassandraInstanceService.class);
     expose(SeedService.class);
+    expose(CacheWarmupService.class);
   }
 
   @Provides @Singleton @Named(SEEDS_PER_DATACENTER_PROPERTY)
@@ -52,4 +62,24 @@ public class ServiceModule extends PrivateModule {
     return Integer.getInteger(SEEDS_PER_DATACENTER_PROPERTY, 2);
   }
 
+  @Provides @Singleton @Named(RESOLVE_CACHE_SECONDS_PROPERTY)
+  int provideResolveCacheSeconds() {
+    return Integer.getInteger(RESOLVE_CACHE_SECONDS_PROPERTY, 300);
+  }
+
+  @Provides @Singleton @Named(RESOLVE_TIMEOUT_MILLIS_PROPERTY)
+  int provideResolveTimeoutMillis() {
+    return Integer.getInteger(RESOLVE_TIMEOUT_MILLIS_PROPERTY, 1000);
+  }
+
+  @Provides @Singleton @Named(WARMUP_THREADS_PROPERTY)
+  int provideWarmupThreads() {
+    return Integer.getInteger(WARMUP_THREADS_PROPERTY, 8);
+  }
+
+  @Provides @Singleton @Named(WARMUP_RETRY_SECONDS_PROPERTY)
+  int provideWarmupRetrySeconds() {
+    return Integer.getInteger(WARMUP_RETRY_SECONDS_PROPERTY, 10);
+  }
+
 }
@@ -17,21 +17,49 @@
 package com.brighttag.agathon.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Function;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.AbstractIdleService;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.Service;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.brighttag.agathon.metrics.Metrics;
+import com.brighttag.agathon.service.DependsOn;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * A registry for managing {@link Service}s. It itself implements the {@link Service} interface.
  * This implementation will fail and throw an exception if any of the services fail to startup.
+ * <br/>
+ * Services are started level by level according to their {@link DependsOn} declarations: each
+ * level is started in parallel once every service in the previous levels is running, and the
+ * levels are stopped in reverse order. The startup time of each service is recorded as a gauge
+ * named {@code services.<Service>.startupMillis}. Startup fails if the services are not running
+ * within the startup deadline, and then even the services still starting are stopped; shutdown
+ * gives up waiting after the shutdown deadline.
  *
  * @author Eric Lunt
  * @since 10/6/10
@@ -40,63 +68,199 @@ public class ServiceRegistry extends AbstractIdleService {
 
   private static final Logger LOG = LoggerFactory.getLogger(ServiceRegistry.class);
 
-  private final Set<Service> services;
+  @VisibleForTesting static final String METRICS = "services";
 
-  @Inject
+  private final List<Set<Service>> levels;
+  private final MetricRegistry registry;
+  private final long startupTimeoutMillis;
+  private final long shutdownTimeoutMillis;
+
+  /**
+   * Creates a registry without startup or shutdown deadlines and with unpublished metrics.
+   */
   public ServiceRegistry(Set<Service> services) {
-    this.services = ImmutableSet.copyOf(services);
+    this(services, new MetricRegistry(), 0, 0);
+  }
+
+  /**
+   * @param services the services to manage
+   * @param registry the registry in which to record startup times
+   * @param startupTimeoutSeconds the time allowed for all services to start, or zero for no deadline
+   * @param shutdownTimeoutSeconds the time allowed for all services to stop, or zero for no deadline
+   * @throws IllegalArgumentException if the service dependencies are circular
+   */
+  @Inject
+  public ServiceRegistry(Set<Service> services, MetricRegistry registry,
+      @Named(ServiceRegistryModule.STARTUP_TIMEOUT_SECONDS_PROPERTY) int startupTimeoutSeconds,
+      @Named(ServiceRegistryModule.SHUTDOWN_TIMEOUT_SECONDS_PROPERTY) int shutdownTimeoutSeconds) {
+    this.levels = levels(ImmutableSet.copyOf(services));
+    this.registry = registry;
+    this.startupTimeoutMillis = TimeUnit.SECONDS.toMillis(startupTimeoutSeconds);
+    this.shutdownTimeoutMillis = TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds);
   }
 
   @Override
   protected void startUp() throws Exception {
-    List<Future<State>> startFutures = Lists.newArrayList();
     LOG.info("Starting service registry");
+    Stopwatch stopwatch = new Stopwatch().start();
 
-    // Start the services in parallel
-    for (Service service : services) {
-      Future<State> startFuture = service.start();
-      startFutures.add(startFuture);
-      LOG.info("Start service {}, future={}", serviceName(service), startFuture);
-    }
+    try {
+      for (Set<Service> level : levels) {
+        List<Future<State>> startFutures = Lists.newArrayList();
+
+        // Start the services at this level in parallel
+        for (Service service : level) {
+          Future<State> startFuture = start(service);
+          startFutures.add(startFuture);
+          LOG.info("Start service {}, future={}", serviceName(service), startFuture);
+        }
 
-    // Wait for the services ... or let the get() throw an exception
-    for (Future<State> stateFuture : startFutures) {
-      State state = stateFuture.get();
-      LOG.info("Service future {} result={}", stateFuture, state);
+        // Wait for the services ... or let the get() throw an exception
+        for (Future<State> stateFuture : startFutures) {
+          State state = await(stateFuture, startupTimeoutMillis, stopwatch);
+          LOG.info("Service future {} result={}", stateFuture, state);
+        }
+      }
+    } catch (Exception e) {
+      // Ok to catch Exception here; stop whatever did start before failing
+      LOG.error("Failed to start service registry after {}", stopwatch, e);
+      shutDown();
+      throw e;
     }
 
-    LOG.info("Finished starting service registry");
+    long elapsedMillis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+    Metrics.register(registry, MetricRegistry.name(METRICS, "startupMillis"), constant(elapsedMillis));
+    LOG.info("Finished starting service registry in {}", stopwatch);
   }
 
   @Override
   protected void shutDown() {
-    List<Future<State>> stopFutures = Lists.newArrayList();
     LOG.info("Stopping service registry");
+    Stopwatch stopwatch = new Stopwatch().start();
 
-    // Stop the services in parallel
-    for (Service service : services) {
-      if (service.isRunning()) {
-        Future<State> stopFuture = service.stop();
-        stopFutures.add(stopFuture);
-        LOG.info("Stop service {}, future={}", serviceName(service), stopFuture);
+    for (Set<Service> level : Lists.reverse(levels)) {
+      List<Future<State>> stopFutures = Lists.newArrayList();
+
+      // Stop the services at this level in parallel, including any still starting after a
+      // missed startup deadline, which stop as soon as they finish starting
+      for (Service service : level) {
+        State current = service.state();
+        if (current != State.TERMINATED && current != State.FAILED) {
+          Future<State> stopFuture = service.stop();
+          stopFutures.add(stopFuture);
+          LOG.info("Stop service {}, future={}", serviceName(service), stopFuture);
+        }
+      }
+
+      // Wait for the services ... and swallow exceptions
+      for (Future<State> stateFuture : stopFutures) {
+        try {
+          State state = await(stateFuture, shutdownTimeoutMillis, stopwatch);
+          LOG.info("Service future {} result={}", stateFuture, state);
+        } catch (Exception e) {
+          // Ok to catch Exception here
+          LOG.warn("Problem stopping service, but pushing on", e);
+        }
+      }
+    }
+
+    LOG.info("Finished stopping service registry in {}", stopwatch);
+  }
+
+  @VisibleForTesting
+  List<Set<Service>> getLevels() {
+    return levels;
+  }
+
+  private Future<State> start(final Service service) {
+    final Stopwatch stopwatch = new Stopwatch().start();
+    // Transformed rather than listened to, so the timing is recorded before anyone waiting sees it
+    return Futures.transform(service.start(), new Function<State, State>() {
+      @Override
+      public State apply(State state) {
+        long elapsedMillis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        Metrics.register(registry,
+            MetricRegistry.name(METRICS, serviceName(service), "startupMillis"), constant(elapsedMillis));
+        LOG.info("Service {} started in {}", serviceName(service), stopwatch);
+        return state;
       }
+    });
+  }
+
+  /**
+   * Waits for the {@code future} until the deadline measured by {@code stopwatch}, if any.
+   */
+  private static State await(Future<State> future, long timeoutMillis, Stopwatch stopwatch)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    if (timeoutMillis <= 0) {
+      return future.get();
     }
+    long remainingMillis = Math.max(0, timeoutMillis - stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    try {
+      return future.get(remainingMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new TimeoutException(String.format("Services not done within %d ms", timeoutMillis));
+    }
+  }
 
-    // Wait for the services ... and swallow exceptions
-    for (Future<State> stateFuture : stopFutures) {
-      try {
-        State state = stateFuture.get();
-        LOG.info("Service future {} result={}", stateFuture, state);
-      } catch (Exception e) {
-        // Ok to catch Exception here
-        LOG.warn("Problem stopping service, but pushing on", e);
+  /**
+   * Groups the {@code services} into levels so that each service follows all its dependencies.
+   */
+  private static List<Set<Service>> levels(Set<Service> services) {
+    Map<Service, Integer> depths = Maps.newHashMap();
+    ListMultimap<Integer, Service> levels = ArrayListMultimap.create();
+    for (Service service : services) {
+      levels.put(depth(service, services, depths, Sets.<Service>newHashSet()), service);
+    }
+    ImmutableList.Builder<Set<Service>> builder = ImmutableList.builder();
+    for (int depth = 0; levels.containsKey(depth); depth++) {
+      builder.add(ImmutableSet.copyOf(levels.get(depth)));
+    }
+    return builder.build();
+  }
+
+  private static int depth(Service service, Set<Service> services, Map<Service, Integer> depths,
+      Set<Service> visiting) {
+    Integer depth = depths.get(service);
+    if (depth != null) {
+      return depth;
+    }
+    checkArgument(visiting.add(service), "Circular dependency on service %s", serviceName(service));
+    int result = 0;
+    for (Service dependency : dependencies(service, services)) {
+      result = Math.max(result, depth(dependency, services, depths, visiting) + 1);
+    }
+    visiting.remove(service);
+    depths.put(service, result);
+    return result;
+  }
+
+  private static Set<Service> dependencies(Service service, Set<Service> services) {
+    DependsOn dependsOn = service.getClass().getAnnotation(DependsOn.class);
+    if (dependsOn == null) {
+      return ImmutableSet.of();
+    }
+    ImmutableSet.Builder<Service> dependencies = ImmutableSet.builder();
+    for (Class<? extends Service> type : dependsOn.value()) {
+      for (Service candidate : services) {
+        if (candidate != service && type.isInstance(candidate)) {
+          dependencies.add(candidate);
+        }
       }
     }
+    return dependencies.build();
+  }
 
-    LOG.info("Finished stopping service registry");
+  private static Gauge<Long> constant(final long value) {
+    return new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return value;
+      }
+    };
   }
 
-  private String serviceName(Service service) {
+  private static String serviceName(Service service) {
     return service.getClass().getSimpleName();
   }
 
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+/**
+ * Guice module to wire up the {@link ServiceRegistry} that runs the registered services.
+ *
+ * @since 10/18/2026
+ */
+public class ServiceRegistryModule extends AbstractModule {
+
+  public static final String STARTUP_TIMEOUT_SECONDS_PROPERTY =
+      "com.brighttag.agathon.services.startup_timeout_seconds";
+  public static final String SHUTDOWN_TIMEOUT_SECONDS_PROPERTY =
+      "com.brighttag.agathon.services.shutdown_timeout_seconds";
+
+  @Override
+  protected void configure() {
+    bind(ServiceRegistry.class).in(Singleton.class);
+  }
+
+  @Provides @Singleton @Named(STARTUP_TIMEOUT_SECONDS_PROPERTY)
+  int provideStartupTimeoutSeconds() {
+    return Integer.getInteger(STARTUP_TIMEOUT_SECONDS_PROPERTY, 120);
+  }
+
+  @Provides @Singleton @Named(SHUTDOWN_TIMEOUT_SECONDS_PROPERTY)
+  int provideShutdownTimeoutSeconds() {
+    return Integer.getInteger(SHUTDOWN_TIMEOUT_SECONDS_PROPERTY, 30);
+  }
+
+}
@@ -21,9 +21,12 @@ import com.google.inject.Injector;
 import com.google.inject.servlet.GuiceServletContextListener;
 
 import com.brighttag.agathon.dao.DaoModule;
+import com.brighttag.agathon.metrics.MetricsModule;
 import com.brighttag.agathon.resources.ResourcesModule;
 import com.brighttag.agathon.security.SecurityGroupModule;
 import com.brighttag.agathon.service.impl.ServiceModule;
+import com.brighttag.agathon.service.impl.ServiceRegistryModule;
+import com.brighttag.agathon.service.impl.WarmupModule;
 
 /**
  * Guice servlet listener that includes the Agathon bindings.
@@ -37,8 +40,11 @@ public class GuiceServletConfig extends GuiceServletContextListener {
   protected Injector getInjector() {
     return Guice.createInjector(
         new ServletModule(),
+        new MetricsModule(),
         new ResourcesModule(),
         new ServiceModule(),
+        new ServiceRegistryModule(),
+        new WarmupModule(),
         new SecurityGroupModule(),
         new DaoModule());
   }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.servlet;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import com.sun.jersey.api.container.filter.GZIPContentEncodingFilter;
+import com.sun.jersey.spi.container.ContainerRequest;
+import com.sun.jersey.spi.container.ContainerResponse;
+
+/**
+ * Gzips JSON responses (rings, instances and metrics) for clients that accept it, and
+ * decompresses gzipped request entities.
+ * <br/>
+ * Plain-text responses, such as the seed list, are only a few hundred bytes. Compressing
+ * them saves little once the gzip header and trailer are added, and costs a deflater per
+ * request, so they're left uncompressed.
+ *
+ * @since 10/18/2026
+ */
+public class JsonGzipContentEncodingFilter extends GZIPContentEncodingFilter {
+
+  @Override
+  public ContainerResponse filter(ContainerRequest request, ContainerResponse response) {
+    MediaType mediaType = response.getMediaType();
+    if (response.getEntity() == null || mediaType == null
+        || !MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType)) {
+      return response;
+    }
+    response.getHttpHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    return super.filter(request, response);
+  }
+
+}
@@ -23,6 +23,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.sun.jersey.api.core.PackagesResourceConfig;
+import com.sun.jersey.api.core.ResourceConfig;
 import com.sun.jersey.api.json.JSONConfiguration;
 import com.sun.jersey.guice.JerseyServletModule;
 import com.sun.jersey.guice.spi.container.servlet.GuiceContainer;
@@ -35,13 +36,17 @@ import com.sun.jersey.guice.spi.container.servlet.GuiceContainer;
  */
 public class ServletModule extends JerseyServletModule {
 
+  private static final String GZIP_FILTER = JsonGzipContentEncodingFilter.class.getName();
+
   @Override
   protected void configureServlets() {
     serve("/*").with(GuiceContainer.class,
         ImmutableMap.of(
             JSONConfiguration.FEATURE_POJO_MAPPING, "true",
             PackagesResourceConfig.PROPERTY_PACKAGES,
-                "com.brighttag.agathon.resources,com.fasterxml.jackson.jaxrs.json"));
+                "com.brighttag.agathon.resources,com.fasterxml.jackson.jaxrs.json",
+            ResourceConfig.PROPERTY_CONTAINER_REQUEST_FILTERS, GZIP_FILTER,
+            ResourceConfig.PROPERTY_CONTAINER_RESPONSE_FILTERS, GZIP_FILTER));
   }
 
   @Provides @Singleton
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.admission;
+
+import java.util.concurrent.CountDownLatch;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Ticker;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+import com.google.inject.matcher.Matchers;
+
+import org.easymock.IAnswer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.resources.CassandraInstanceResourceFactory;
+import com.brighttag.agathon.resources.CassandraRingResource;
+import com.brighttag.agathon.resources.SeedResourceFactory;
+import com.brighttag.agathon.service.CassandraInstanceService;
+import com.brighttag.agathon.service.CassandraRingService;
+import com.brighttag.agathon.service.SeedService;
+import com.brighttag.agathon.service.ServiceUnavailableException;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/18/2026
+ */
+public class AdmissionControlInterceptorTest {
+
+  private MetricRegistry registry;
+  private FakeResource resource;
+  private Thread blocked;
+
+  @Before
+  public void setUp() {
+    registry = new MetricRegistry();
+    resource = createResource(2, 1);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    resource.release.countDown();
+    if (blocked != null) {
+      blocked.join();
+    }
+  }
+
+  @Test
+  public void invoke_admitted() {
+    assertEquals("ok", resource.read());
+    // Fully used, so the limit grows
+    assertEquals(2, registry.getGauges().get("admission.FakeResource.read.limit").getValue());
+  }
+
+  @Test
+  public void invoke_shedsByPriority() throws Exception {
+    block();
+    assertRejected("Server is saturated", new Runnable() {
+      @Override public void run() {
+        resource.write();
+      }
+    });
+    assertRejected("Server is saturated", new Runnable() {
+      @Override public void run() {
+        resource.read();
+      }
+    });
+    assertEquals("ok", resource.seeds());
+  }
+
+  @Test
+  public void invoke_shedsByEndpoint() throws Exception {
+    block();
+    assertRejected("Endpoint is saturated", new Runnable() {
+      @Override public void run() {
+        resource.block();
+      }
+    });
+  }
+
+  @Test
+  public void invoke_serviceUnavailableBacksOff() {
+    resource = createResource(10, 8);
+    try {
+      resource.unavailable();
+      fail("Should have thrown ServiceUnavailableException");
+    } catch (ServiceUnavailableException e) {
+      assertEquals(7, registry.getGauges().get("admission.FakeResource.unavailable.limit").getValue());
+    }
+  }
+
+  @Test
+  public void invoke_locatorAdmittedAsRead() throws Exception {
+    assertEquals("ok", resource.locator().seeds());
+    assertTrue(registry.getGauges().containsKey("admission.FakeResource.locator.limit"));
+
+    block();
+    assertRejected("Server is saturated", new Runnable() {
+      @Override public void run() {
+        resource.locator();
+      }
+    });
+  }
+
+  @Test
+  public void invoke_shedsSlowRingLookupForSeeds() throws Exception {
+    final CountDownLatch looking = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CassandraRing ring = createNiceMock(CassandraRing.class);
+    CassandraRingService ringService = createMock(CassandraRingService.class);
+    expect(ringService.findByName("x")).andAnswer(new IAnswer<CassandraRing>() {
+      @Override public CassandraRing answer() throws Throwable {
+        looking.countDown();
+        release.await();
+        return ring;
+      }
+    });
+    replay(ring, ringService);
+    final CassandraRingResource rings = createRingResource(ringService);
+
+    Thread lookup = new Thread(new Runnable() {
+      @Override public void run() {
+        rings.getSeedResource("x");
+      }
+    });
+    lookup.start();
+    looking.await();
+    try {
+      assertRejected("Endpoint is saturated", new Runnable() {
+        @Override public void run() {
+          rings.getSeedResource("x");
+        }
+      });
+    } finally {
+      release.countDown();
+      lookup.join();
+    }
+    verify(ringService);
+  }
+
+  private FakeResource createResource(final int maxConcurrency, final int initialLimit) {
+    return Guice.createInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(MetricRegistry.class).toInstance(registry);
+        bindInterceptor(Matchers.only(FakeResource.class), AdmissionControlInterceptor.REQUEST_METHODS,
+            new AdmissionControlInterceptor(maxConcurrency, initialLimit, 1, 100, 3, new SteppingTicker(),
+                getProvider(MetricRegistry.class)));
+      }
+    }).getInstance(FakeResource.class);
+  }
+
+  private CassandraRingResource createRingResource(final CassandraRingService ringService) {
+    return Guice.createInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(CassandraRingService.class).toInstance(ringService);
+        bind(CassandraInstanceService.class).toInstance(createMock(CassandraInstanceService.class));
+        bind(SeedService.class).toInstance(createMock(SeedService.class));
+        install(new FactoryModuleBuilder().build(CassandraInstanceResourceFactory.class));
+        install(new FactoryModuleBuilder().build(SeedResourceFactory.class));
+        bindInterceptor(Matchers.only(CassandraRingResource.class),
+            AdmissionControlInterceptor.REQUEST_METHODS,
+            new AdmissionControlInterceptor(2, 1, 1, 100, 3, new SteppingTicker(),
+                getProvider(MetricRegistry.class)));
+        bind(MetricRegistry.class).toInstance(registry);
+      }
+    }).getInstance(CassandraRingResource.class);
+  }
+
+  private void block() throws InterruptedException {
+    blocked = new Thread(new Runnable() {
+      @Override public void run() {
+        resource.block();
+      }
+    });
+    blocked.start();
+    resource.entered.await();
+  }
+
+  private static void assertRejected(String error, Runnable request) {
+    try {
+      request.run();
+      fail("Should have thrown WebApplicationException");
+    } catch (WebApplicationException e) {
+      Response response = e.getResponse();
+      assertEquals(Response.Status.SERVICE_UNAVAILABLE.getStatusCode(), response.getStatus());
+      assertEquals(3, response.getMetadata().getFirst("Retry-After"));
+      assertEquals(error, response.getMetadata().getFirst("X-Error"));
+    }
+  }
+
+  /**
+   * Resource with one method for each priority.
+   */
+  public static class FakeResource {
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    @GET @Path("block") @Admission(Priority.CRITICAL) public String block() {
+      entered.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "ok";
+    }
+    @GET @Path("seeds") @Admission(Priority.CRITICAL) public String seeds() {
+      return "ok";
+    }
+    @GET public String read() {
+      return "ok";
+    }
+    @POST public String write() {
+      return "ok";
+    }
+    @GET @Path("503") public String unavailable() {
+      throw new ServiceUnavailableException();
+    }
+    @Path("locator") public FakeResource locator() {
+      return this;
+    }
+  }
+
+  /**
+   * Ticker that moves forward by a nanosecond on each read.
+   */
+  private static class SteppingTicker extends Ticker {
+    private long nanos;
+    @Override public synchronized long read() {
+      return ++nanos;
+    }
+  }
+
+}
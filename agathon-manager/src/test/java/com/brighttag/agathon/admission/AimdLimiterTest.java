@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.admission;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 10/18/2026
+ */
+public class AimdLimiterTest {
+
+  private FakeTicker ticker;
+  private AimdLimiter limiter;
+
+  @Before
+  public void setUp() {
+    ticker = new FakeTicker();
+    limiter = new AimdLimiter(4, 2, 6, 100, 0.5, ticker);
+  }
+
+  @Test
+  public void tryAcquire() {
+    assertTrue(limiter.tryAcquire(1.0));
+    assertTrue(limiter.tryAcquire(1.0));
+    assertFalse(limiter.tryAcquire(0.5));
+    assertTrue(limiter.tryAcquire(1.0));
+    assertTrue(limiter.tryAcquire(1.0));
+    assertFalse(limiter.tryAcquire(1.0));
+    assertEquals(4, limiter.getInFlight());
+  }
+
+  @Test
+  public void release_increase() {
+    long start = ticker.advance(1);
+    limiter.tryAcquire(1.0);
+    limiter.tryAcquire(1.0);
+    limiter.release(start, false);
+    assertEquals(5, limiter.getLimit());
+    assertEquals(1, limiter.getInFlight());
+  }
+
+  @Test
+  public void release_increaseOnlyWhenUtilized() {
+    long start = ticker.advance(1);
+    limiter.tryAcquire(1.0);
+    limiter.release(start, false);
+    assertEquals(4, limiter.getLimit());
+  }
+
+  @Test
+  public void release_increaseToMax() {
+    for (int i = 0; i < 10; i++) {
+      long start = ticker.advance(1);
+      int admitted = 0;
+      while (limiter.tryAcquire(1.0)) {
+        admitted++;
+      }
+      for (int j = 0; j < admitted; j++) {
+        limiter.release(start, false);
+      }
+    }
+    assertEquals(6, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  public void release_overloaded() {
+    long start = ticker.advance(1);
+    limiter.tryAcquire(1.0);
+    limiter.release(start, true);
+    assertEquals(2, limiter.getLimit());
+  }
+
+  @Test
+  public void release_slow() {
+    long start = ticker.advance(1);
+    limiter.tryAcquire(1.0);
+    ticker.advance(101);
+    limiter.release(start, false);
+    assertEquals(2, limiter.getLimit());
+  }
+
+  @Test
+  public void release_decreaseOncePerRoundTrip() {
+    limiter = new AimdLimiter(6, 1, 6, 100, 0.5, ticker);
+    long start = ticker.advance(1);
+    limiter.tryAcquire(1.0);
+    limiter.tryAcquire(1.0);
+    limiter.release(start, true);
+    limiter.release(start, true);
+    assertEquals(3, limiter.getLimit());
+
+    // Started after the last decrease, so it decreases again
+    start = ticker.advance(1);
+    limiter.tryAcquire(1.0);
+    limiter.release(start, true);
+    assertEquals(1, limiter.getLimit());
+  }
+
+  @Test
+  public void release_decreaseToMin() {
+    for (int i = 0; i < 5; i++) {
+      long start = ticker.advance(1);
+      limiter.tryAcquire(1.0);
+      limiter.release(start, true);
+    }
+    assertEquals(2, limiter.getLimit());
+  }
+
+  @Test
+  public void fixed() {
+    AimdLimiter fixed = AimdLimiter.fixed(1);
+    long start = System.nanoTime();
+    assertTrue(fixed.tryAcquire(1.0));
+    assertFalse(fixed.tryAcquire(1.0));
+    fixed.release(start, true);
+    assertEquals(1, fixed.getLimit());
+    assertTrue(fixed.tryAcquire(0.1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void create_invalidLimits() {
+    new AimdLimiter(4, 6, 2, 100, 0.5, ticker);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void create_invalidBackoff() {
+    new AimdLimiter(4, 2, 6, 100, 1.0, ticker);
+  }
+
+  /**
+   * Ticker that only moves when told to, in milliseconds.
+   */
+  private static class FakeTicker extends Ticker {
+    private long nanos;
+    long advance(long millis) {
+      nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+      return nanos;
+    }
+    @Override public long read() {
+      return nanos;
+    }
+  }
+
+}
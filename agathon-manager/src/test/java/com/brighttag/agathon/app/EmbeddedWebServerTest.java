@@ -18,15 +18,21 @@ package com.brighttag.agathon.app;
 
 import java.io.IOException;
 
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.servlet.GuiceFilter;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mortbay.jetty.AbstractConnector;
 import org.mortbay.jetty.Server;
+import org.mortbay.jetty.bio.SocketConnector;
+import org.mortbay.jetty.nio.SelectChannelConnector;
 import org.mortbay.jetty.servlet.Context;
 import org.mortbay.jetty.servlet.DefaultServlet;
+import org.mortbay.thread.QueuedThreadPool;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -38,6 +44,7 @@ import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.isA;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.powermock.api.easymock.PowerMock.createMock;
 import static org.powermock.api.easymock.PowerMock.replayAll;
@@ -144,6 +151,71 @@ public class EmbeddedWebServerTest  {
     webServer().waitForShutdown();
   }
 
+  @Test
+  public void newServer_defaults() throws Exception {
+    replayAll();
+
+    MetricRegistry registry = new MetricRegistry();
+    Server server = EmbeddedWebServer.newServer(8094, registry);
+    new EmbeddedWebServer(server, context);
+
+    assertEquals(1, server.getConnectors().length);
+    assertTrue(server.getConnectors()[0] instanceof SelectChannelConnector);
+    SelectChannelConnector connector = (SelectChannelConnector) server.getConnectors()[0];
+    assertEquals(8094, connector.getPort());
+    assertEquals(2, connector.getAcceptors());
+    assertEquals(1024, connector.getAcceptQueueSize());
+    assertEquals(30000, connector.getMaxIdleTime());
+    assertEquals(2000, connector.getLowResourceMaxIdleTime());
+    assertEquals(2048, connector.getLowResourcesConnections());
+    QueuedThreadPool threadPool = (QueuedThreadPool) server.getThreadPool();
+    assertEquals(16, threadPool.getMinThreads());
+    assertEquals(128, threadPool.getMaxThreads());
+    assertEquals(8, threadPool.getLowThreads());
+    assertEquals(60000, threadPool.getMaxIdleTimeMs());
+    assertEquals(ImmutableSet.of("jetty.threads.active", "jetty.threads.total", "jetty.queue.size",
+        "jetty.connections.open"), registry.getGauges().keySet());
+    assertEquals(0, registry.getGauges().get("jetty.queue.size").getValue());
+  }
+
+  @Test
+  public void newServer_configured() throws Exception {
+    replayAll();
+
+    System.setProperty(EmbeddedWebServer.CONNECTOR_PROPERTY, "bio");
+    System.setProperty(EmbeddedWebServer.ACCEPTORS_PROPERTY, "4");
+    System.setProperty(EmbeddedWebServer.MAX_THREADS_PROPERTY, "64");
+    System.setProperty(EmbeddedWebServer.IDLE_TIMEOUT_MS_PROPERTY, "5000");
+    try {
+      Server server = EmbeddedWebServer.newServer(8094, new MetricRegistry());
+      new EmbeddedWebServer(server, context);
+
+      assertTrue(server.getConnectors()[0] instanceof SocketConnector);
+      AbstractConnector connector = (AbstractConnector) server.getConnectors()[0];
+      assertEquals(4, connector.getAcceptors());
+      assertEquals(5000, connector.getMaxIdleTime());
+      assertEquals(64, ((QueuedThreadPool) server.getThreadPool()).getMaxThreads());
+    } finally {
+      System.clearProperty(EmbeddedWebServer.CONNECTOR_PROPERTY);
+      System.clearProperty(EmbeddedWebServer.ACCEPTORS_PROPERTY);
+      System.clearProperty(EmbeddedWebServer.MAX_THREADS_PROPERTY);
+      System.clearProperty(EmbeddedWebServer.IDLE_TIMEOUT_MS_PROPERTY);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void newServer_unknownConnector() throws Exception {
+    replayAll();
+
+    webServer();
+    System.setProperty(EmbeddedWebServer.CONNECTOR_PROPERTY, "apr");
+    try {
+      EmbeddedWebServer.newServer(8094, new MetricRegistry());
+    } finally {
+      System.clearProperty(EmbeddedWebServer.CONNECTOR_PROPERTY);
+    }
+  }
+
   private EmbeddedWebServer webServer() {
     return new EmbeddedWebServer(server, context);
   }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.matcher.Matchers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/18/2026
+ */
+public class CircuitBreakerInterceptorTest {
+
+  private static final CassandraRing RING = new CassandraRing.Builder().name("ring").build();
+
+  private CircuitBreaker breaker;
+  private FakeCassandraRingDao dao;
+
+  @Before
+  public void setUp() {
+    breaker = new CircuitBreaker("CassandraRingDao.fake", 2, 60000, 60000, Ticker.systemTicker());
+    dao = Guice.createInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bindInterceptor(Matchers.only(FakeCassandraRingDao.class),
+            CircuitBreakerInterceptor.BACKING_STORE_READS,
+            new CircuitBreakerInterceptor(breaker, 10, Ticker.systemTicker()));
+      }
+    }).getInstance(FakeCassandraRingDao.class);
+  }
+
+  @Test
+  public void invoke_closed() throws Exception {
+    assertEquals(ImmutableSet.of(RING), dao.findAll());
+    assertEquals(1, dao.calls);
+  }
+
+  @Test
+  public void invoke_open_lastResult() throws Exception {
+    dao.findAll();
+    assertNull(dao.findByName("missing"));
+    open();
+    int calls = dao.calls;
+    assertEquals(ImmutableSet.of(RING), dao.findAll());
+    assertNull(dao.findByName("missing"));
+    assertEquals(calls, dao.calls);
+  }
+
+  @Test
+  public void invoke_open_failFast() throws Exception {
+    open();
+    int calls = dao.calls;
+    try {
+      dao.findByName("ring");
+      fail("Should have thrown BackingStoreException");
+    } catch (BackingStoreException e) {
+      assertEquals("Circuit CassandraRingDao.fake is open", e.getMessage());
+      assertEquals(calls, dao.calls);
+    }
+  }
+
+  @Test
+  public void invoke_open_writesNotGuarded() throws Exception {
+    open();
+    int calls = dao.calls;
+    dao.save(RING);
+    assertEquals(calls + 1, dao.calls);
+  }
+
+  private void open() {
+    dao.available = false;
+    for (int i = 0; i < 2; i++) {
+      try {
+        dao.findByNames(ImmutableSet.of("ring"));
+        fail("Should have thrown BackingStoreException");
+      } catch (BackingStoreException e) {
+        // expected
+      }
+    }
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+  }
+
+  /**
+   * DAO with a single ring, which fails while unavailable.
+   */
+  public static class FakeCassandraRingDao implements CassandraRingDao {
+    int calls;
+    boolean available = true;
+    @Override public ImmutableSet<CassandraRing> findAll() throws BackingStoreException {
+      call();
+      return ImmutableSet.of(RING);
+    }
+    @Override public @Nullable CassandraRing findByName(String name) throws BackingStoreException {
+      call();
+      return RING.getName().equals(name) ? RING : null;
+    }
+    @Override public ImmutableSet<CassandraRing> findByNames(Set<String> names)
+        throws BackingStoreException {
+      call();
+      return ImmutableSet.of(RING);
+    }
+    @Override public void save(CassandraRing ring) {
+      calls++;
+    }
+    @Override public void delete(CassandraRing ring) {
+      calls++;
+    }
+    private void call() throws BackingStoreException {
+      calls++;
+      if (!available) {
+        throw new BackingStoreException("unavailable");
+      }
+    }
+  }
+
+}
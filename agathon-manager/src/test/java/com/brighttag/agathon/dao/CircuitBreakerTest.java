@@ -0,0 +1,140 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.dao.CircuitBreaker.State;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 10/18/2026
+ */
+public class CircuitBreakerTest {
+
+  private FakeTicker ticker;
+  private CircuitBreaker breaker;
+
+  @Before
+  public void setUp() {
+    ticker = new FakeTicker();
+    breaker = new CircuitBreaker("CassandraRingDao.fake", 3, 100, 1000, ticker);
+  }
+
+  @Test
+  public void closed() {
+    assertTrue(breaker.allowRequest());
+    breaker.onSuccess(ticker.read());
+    assertEquals(State.CLOSED, breaker.state());
+    assertEquals("CLOSED", breaker.getState());
+  }
+
+  @Test
+  public void opensAfterConsecutiveFailures() {
+    failCalls(2);
+    breaker.onSuccess(ticker.read());
+    failCalls(2);
+    assertEquals(State.CLOSED, breaker.state());
+    assertEquals(2, breaker.getConsecutiveFailures());
+    failCalls(1);
+    assertEquals(State.OPEN, breaker.state());
+    assertEquals(1, breaker.getTimesOpened());
+    assertFalse(breaker.allowRequest());
+  }
+
+  @Test
+  public void opensAfterSlowCalls() {
+    for (int i = 0; i < 3; i++) {
+      assertTrue(breaker.allowRequest());
+      long start = ticker.read();
+      ticker.advance(101);
+      breaker.onSuccess(start);
+    }
+    assertEquals(State.OPEN, breaker.state());
+  }
+
+  @Test
+  public void halfOpen_probeSucceeds() {
+    failCalls(3);
+    ticker.advance(999);
+    assertFalse(breaker.allowRequest());
+    ticker.advance(1);
+    assertTrue(breaker.allowRequest());
+    assertEquals(State.HALF_OPEN, breaker.state());
+    assertFalse(breaker.allowRequest()); // only one probe at a time
+    breaker.onSuccess(ticker.read());
+    assertEquals(State.CLOSED, breaker.state());
+    assertEquals(0, breaker.getConsecutiveFailures());
+    assertTrue(breaker.allowRequest());
+  }
+
+  @Test
+  public void halfOpen_probeFails() {
+    failCalls(3);
+    ticker.advance(1000);
+    assertTrue(breaker.allowRequest());
+    breaker.onFailure();
+    assertEquals(State.OPEN, breaker.state());
+    assertEquals(2, breaker.getTimesOpened());
+    assertFalse(breaker.allowRequest());
+  }
+
+  @Test
+  public void trip() {
+    breaker.trip();
+    assertEquals(State.OPEN, breaker.state());
+    assertFalse(breaker.allowRequest());
+  }
+
+  @Test
+  public void reset() {
+    failCalls(3);
+    breaker.reset();
+    assertEquals(State.CLOSED, breaker.state());
+    assertEquals(0, breaker.getConsecutiveFailures());
+    assertTrue(breaker.allowRequest());
+  }
+
+  private void failCalls(int times) {
+    for (int i = 0; i < times; i++) {
+      assertTrue(breaker.allowRequest());
+      breaker.onFailure();
+    }
+  }
+
+  /**
+   * Ticker that only moves when told to, in milliseconds.
+   */
+  private static class FakeTicker extends Ticker {
+    private long nanos;
+    void advance(long millis) {
+      nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+    @Override public long read() {
+      return nanos;
+    }
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.sdb;
+
+import java.util.Set;
+
+import com.amazonaws.AmazonClientException;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.inject.Provider;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/19/2026
+ */
+public class SdbCassandraAddressDaoTest extends EasyMockSupport {
+
+  private static final CassandraInstance INSTANCE = new CassandraInstance.Builder()
+      .id(1).dataCenter("dc1").rack("rack1").publicIpAddress("1.1.1.1").build();
+
+  private SdbCassandraInstanceDao instanceDao;
+  private Provider<Set<String>> rings;
+  private SdbCassandraAddressDao dao;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    instanceDao = createMock(SdbCassandraInstanceDao.class);
+    rings = createMock(Provider.class);
+    dao = new SdbCassandraAddressDao(instanceDao, rings);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void findAllAddresses() throws Exception {
+    expect(rings.get()).andReturn(ImmutableSet.of("ring1"));
+    expect(instanceDao.findAll("ring1", SdbCassandraAddressDao.ADDRESS_KEYS, ReadConsistency.EVENTUAL))
+        .andReturn(ImmutableSet.of(INSTANCE));
+    replayAll();
+
+    CassandraRing ring = Iterables.getOnlyElement(dao.findAllAddresses());
+    assertEquals("ring1", ring.getName());
+    assertEquals(ImmutableSet.of(INSTANCE), ring.getInstances());
+  }
+
+  @Test
+  public void findAllAddresses_noRings() throws Exception {
+    expect(rings.get()).andReturn(ImmutableSet.<String>of());
+    replayAll();
+
+    assertEquals(ImmutableSet.of(), dao.findAllAddresses());
+  }
+
+  @Test
+  public void findAllAddresses_backingStoreFailure() throws Exception {
+    AmazonClientException cause = new AmazonClientException("boom");
+    expect(rings.get()).andReturn(ImmutableSet.of("ring1"));
+    expect(instanceDao.findAll("ring1", SdbCassandraAddressDao.ADDRESS_KEYS, ReadConsistency.EVENTUAL))
+        .andThrow(cause);
+    replayAll();
+
+    try {
+      dao.findAllAddresses();
+      fail("Should have thrown BackingStoreException");
+    } catch (BackingStoreException e) {
+      assertEquals(cause, e.getCause());
+    }
+  }
+
+}
@@ -19,6 +19,7 @@ package com.brighttag.agathon.dao.sdb;
 import java.util.List;
 import java.util.Set;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
 import com.amazonaws.services.simpledb.model.Attribute;
 import com.amazonaws.services.simpledb.model.DeleteAttributesRequest;
@@ -28,6 +29,7 @@ import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
 import com.amazonaws.services.simpledb.model.SelectRequest;
 import com.amazonaws.services.simpledb.model.SelectResult;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 
@@ -38,12 +40,16 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.brighttag.agathon.dao.BackingStoreException;
 import com.brighttag.agathon.model.CassandraInstance;
 
 import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.isA;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -62,7 +68,11 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
   private static final String DOMAIN_NAMESPACE = "Production";
   private static final String RING_NAME = "ProfileStore";
   private static final String DOMAIN = "CassandraInstances." + DOMAIN_NAMESPACE + "." + RING_NAME;
-  private static final String ALL_QUERY = String.format(SdbCassandraInstanceDao.ALL_QUERY, DOMAIN);
+  private static final String INSTANCE_PROJECTION =
+      "`id`, `datacenter`, `rack`, `hostname`, `publicIpAddress`, `fullyQualifiedDomainName`";
+  private static final String CHANGE_PROJECTION = INSTANCE_PROJECTION + ", `modified`";
+  private static final String ALL_QUERY =
+      String.format(SdbCassandraInstanceDao.ALL_QUERY, INSTANCE_PROJECTION, DOMAIN);
 
   private AmazonSimpleDBClient simpleDbClient;
   private SdbCassandraInstanceDao dao;
@@ -81,7 +91,7 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
   }
 
   @Test
-  public void findAll() {
+  public void findAll() throws Exception {
     List<Item> items = createItems();
     SelectResult result = createMock(SelectResult.class);
     Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
@@ -96,17 +106,52 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
     assertEquals(expected, dao.findAll(RING_NAME));
 
     assertEquals(ALL_QUERY, requestCapture.getValue().getSelectExpression());
+    assertEquals(false, requestCapture.getValue().getConsistentRead());
     assertNull(requestCapture.getValue().getNextToken());
   }
 
   @Test
-  public void findAll_paginated() {
+  public void findAll_projected() throws Exception {
+    Item item = createMock(Item.class);
+    expect(item.getAttributes()).andStubReturn(ImmutableList.of(
+        createAttribute(SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY, PUBLIC_IP_ADDRESS),
+        createAttribute(SdbCassandraInstanceDao.DATACENTER_KEY, DATACENTER)));
+    SelectResult result = createMock(SelectResult.class);
+    Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
+
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(capture(requestCapture))).andReturn(result);
+    expect(result.getItems()).andReturn(ImmutableList.of(item));
+    expect(result.getNextToken()).andReturn(null);
+    replayAll();
+
+    Set<String> attributes = ImmutableSet.of(
+        SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY, SdbCassandraInstanceDao.DATACENTER_KEY);
+    CassandraInstance instance = Iterables.getOnlyElement(
+        dao.findAll(RING_NAME, attributes, ReadConsistency.CONSISTENT));
+    assertEquals(PUBLIC_IP_ADDRESS, instance.getPublicIpAddress());
+    assertEquals(DATACENTER, instance.getDataCenter());
+    assertNull(instance.getHostName());
+
+    assertEquals(String.format(SdbCassandraInstanceDao.ALL_QUERY, "`publicIpAddress`, `datacenter`", DOMAIN),
+        requestCapture.getValue().getSelectExpression());
+    assertEquals(true, requestCapture.getValue().getConsistentRead());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void findAll_emptyProjection() throws Exception {
+    replayAll();
+    dao.findAll(RING_NAME, ImmutableSet.<String>of(), ReadConsistency.EVENTUAL);
+  }
+
+  @Test
+  public void findAll_paginated() throws Exception {
     List<Item> items1 = createItems(0);
     List<Item> items2 = createItems(10);
     SelectResult result = createMock(SelectResult.class);
     Capture<SelectRequest> requestCapture = new Capture<SelectRequest>(CaptureType.ALL);
 
-    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME)).times(2);
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
     expect(simpleDbClient.select(capture(requestCapture))).andReturn(result);
     expect(result.getItems()).andReturn(items1);
     expect(result.getNextToken()).andReturn(NEXT_TOKEN);
@@ -129,7 +174,7 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
   }
 
   @Test
-  public void findById() {
+  public void findById() throws Exception {
     List<Item> items = ImmutableList.of(createItem(1));
     SelectResult result = createMock(SelectResult.class);
     Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
@@ -142,13 +187,34 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
     Set<CassandraInstance> expected = transform(items);
     assertEquals(expected.iterator().next(), dao.findById(RING_NAME, ID));
 
-    assertEquals(String.format(SdbCassandraInstanceDao.INSTANCE_QUERY, DOMAIN, ID),
+    assertEquals(String.format(SdbCassandraInstanceDao.INSTANCE_QUERY, INSTANCE_PROJECTION, DOMAIN, ID),
         requestCapture.getValue().getSelectExpression());
+    // Consistent, so that an instance can be read (or deleted) right after it's saved
+    assertEquals(true, requestCapture.getValue().getConsistentRead());
     assertNull(requestCapture.getValue().getNextToken());
   }
 
   @Test
-  public void findById_notFound() {
+  public void findById_projected() throws Exception {
+    List<Item> items = ImmutableList.of(createItem(1));
+    SelectResult result = createMock(SelectResult.class);
+    Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
+
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(capture(requestCapture))).andReturn(result);
+    expect(result.getItems()).andStubReturn(items);
+    replayAll();
+
+    dao.findById(RING_NAME, ID,
+        ImmutableSet.of(SdbCassandraInstanceDao.HOSTNAME_KEY), ReadConsistency.EVENTUAL);
+
+    assertEquals(String.format(SdbCassandraInstanceDao.INSTANCE_QUERY, "`hostname`", DOMAIN, ID),
+        requestCapture.getValue().getSelectExpression());
+    assertEquals(false, requestCapture.getValue().getConsistentRead());
+  }
+
+  @Test
+  public void findById_notFound() throws Exception {
     List<Item> items = ImmutableList.of();
     SelectResult result = createMock(SelectResult.class);
     Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
@@ -161,6 +227,36 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
     assertNull(dao.findById(RING_NAME, ID));
   }
 
+  @Test
+  public void findById_amazonClientException() throws Exception {
+    AmazonClientException cause = new AmazonClientException("unreachable");
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(isA(SelectRequest.class))).andThrow(cause);
+    replayAll();
+
+    try {
+      dao.findById(RING_NAME, ID);
+      fail("Should have thrown BackingStoreException");
+    } catch (BackingStoreException e) {
+      assertSame(cause, e.getCause());
+    }
+  }
+
+  @Test
+  public void findAll_amazonClientException() throws Exception {
+    AmazonClientException cause = new AmazonClientException("unreachable");
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(isA(SelectRequest.class))).andThrow(cause);
+    replayAll();
+
+    try {
+      dao.findAll(RING_NAME);
+      fail("Should have thrown BackingStoreException");
+    } catch (BackingStoreException e) {
+      assertSame(cause, e.getCause());
+    }
+  }
+
   @Test
   public void save() {
     CassandraInstance instance = createMock(CassandraInstance.class);
@@ -186,23 +282,108 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
   @Test
   public void delete() {
     CassandraInstance instance = createMock(CassandraInstance.class);
-    Capture<DeleteAttributesRequest> requestCapture = new Capture<DeleteAttributesRequest>();
+    Capture<DeleteAttributesRequest> deleteCapture = new Capture<DeleteAttributesRequest>();
+    Capture<PutAttributesRequest> putCapture = new Capture<PutAttributesRequest>();
     expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
-    expect(instance.getId()).andReturn(ID).times(2);
-    expect(instance.getDataCenter()).andReturn(DATACENTER);
-    expect(instance.getRack()).andReturn(RACK);
-    expect(instance.getHostName()).andReturn(HOSTNAME);
-    expect(instance.getPublicIpAddress()).andReturn(PUBLIC_IP_ADDRESS);
-    expect(instance.getFullyQualifiedDomainName()).andReturn(FULLY_QUALIFIED_DOMAIN_NAME);
-    simpleDbClient.deleteAttributes(capture(requestCapture));
+    expect(instance.getId()).andReturn(ID);
+    simpleDbClient.deleteAttributes(capture(deleteCapture));
+    simpleDbClient.putAttributes(capture(putCapture));
     replayAll();
 
+    long before = System.currentTimeMillis();
     dao.delete(RING_NAME, instance);
 
-    DeleteAttributesRequest request = requestCapture.getValue();
+    DeleteAttributesRequest request = deleteCapture.getValue();
     assertEquals(DOMAIN, request.getDomainName());
     assertEquals(String.valueOf(ID), request.getItemName());
     assertAttributes(request);
+
+    // Leaves a stamped tombstone
+    PutAttributesRequest tombstone = putCapture.getValue();
+    assertEquals(DOMAIN, tombstone.getDomainName());
+    assertEquals(String.valueOf(ID), tombstone.getItemName());
+    assertEquals(1, tombstone.getAttributes().size());
+    assertEquals(SdbCassandraInstanceDao.MODIFIED_KEY, tombstone.getAttributes().get(0).getName());
+    assertModified(before, tombstone.getAttributes().get(0).getValue());
+  }
+
+  @Test
+  public void findModifiedSince() {
+    Item saved = createItem(1, "0000000000200");
+    Item deleted = createTombstone(2, "0000000000300");
+    Item legacy = createItem(3);
+    SelectResult result = createMock(SelectResult.class);
+    Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
+
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(capture(requestCapture))).andReturn(result);
+    expect(result.getItems()).andReturn(ImmutableList.of(saved, deleted, legacy));
+    expect(result.getNextToken()).andReturn(null);
+    replayAll();
+
+    InstanceChanges changes = dao.findModifiedSince(RING_NAME, "0000000000100");
+    assertEquals(transform(ImmutableList.of(saved, legacy)), changes.getSaved());
+    assertEquals(ImmutableSet.of(2), changes.getDeleted());
+    assertEquals("0000000000300", changes.getLastModified());
+
+    assertEquals(
+        String.format(SdbCassandraInstanceDao.MODIFIED_QUERY, CHANGE_PROJECTION, DOMAIN, "0000000000100"),
+        requestCapture.getValue().getSelectExpression());
+  }
+
+  @Test
+  public void findModifiedSince_all() {
+    List<Item> items = createItems();
+    SelectResult result = createMock(SelectResult.class);
+    Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
+
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(capture(requestCapture))).andReturn(result);
+    expect(result.getItems()).andReturn(items);
+    expect(result.getNextToken()).andReturn(null);
+    replayAll();
+
+    InstanceChanges changes = dao.findModifiedSince(RING_NAME, null);
+    assertEquals(transform(items), changes.getSaved());
+    assertEquals(ImmutableSet.of(), changes.getDeleted());
+    assertNull(changes.getLastModified());
+
+    assertEquals(String.format(SdbCassandraInstanceDao.ALL_QUERY, CHANGE_PROJECTION, DOMAIN),
+        requestCapture.getValue().getSelectExpression());
+  }
+
+  @Test
+  public void purgeTombstones() {
+    Item tombstone = createTombstone(2, "0000000000300");
+    SelectResult result = createMock(SelectResult.class);
+    Capture<SelectRequest> requestCapture = new Capture<SelectRequest>();
+    Capture<DeleteAttributesRequest> deleteCapture = new Capture<DeleteAttributesRequest>();
+
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(capture(requestCapture))).andReturn(result);
+    expect(result.getItems()).andReturn(ImmutableList.of(tombstone));
+    expect(result.getNextToken()).andReturn(null);
+    simpleDbClient.deleteAttributes(capture(deleteCapture));
+    replayAll();
+
+    long before = System.currentTimeMillis();
+    assertEquals(1, dao.purgeTombstones(RING_NAME, 60000));
+
+    String query = requestCapture.getValue().getSelectExpression();
+    String stamp = query.substring(query.lastIndexOf("'", query.length() - 2) + 1, query.length() - 1);
+    assertEquals(String.format(SdbCassandraInstanceDao.TOMBSTONES_QUERY, DOMAIN, stamp), query);
+    assertModified(before - 60000, stamp);
+    assertEquals(DOMAIN, deleteCapture.getValue().getDomainName());
+    assertEquals("2", deleteCapture.getValue().getItemName());
+    assertEquals(0, deleteCapture.getValue().getAttributes().size());
+  }
+
+  @Test
+  public void stamp() {
+    replayAll();
+    assertEquals("0000000000042", SdbCassandraInstanceDao.stamp(42));
+    assertEquals("0000000000000", SdbCassandraInstanceDao.stamp(-42));
+    assertEquals("1792281600000", SdbCassandraInstanceDao.stamp(1792281600000L));
   }
 
   @Test
@@ -217,6 +398,61 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
     assertEquals("publicIpAddress1", instance.getPublicIpAddress());
   }
 
+  @Test
+  public void transform_unknownAttribute() {
+    Item expected = createItem(1);
+    Item item = createItem(1, SdbCassandraInstanceDao.stamp(42));
+    replayAll();
+    assertEquals(SdbCassandraInstanceDao.transform(expected), SdbCassandraInstanceDao.transform(item));
+  }
+
+  @Test
+  public void findAll_partialItemsAfterFullItem() throws Exception {
+    Item partial = createMock(Item.class);
+    expect(partial.getAttributes()).andStubReturn(ImmutableList.of(
+        createAttribute(SdbCassandraInstanceDao.ID_KEY, "2"),
+        createAttribute(SdbCassandraInstanceDao.HOSTNAME_KEY, HOSTNAME)));
+    SelectResult result = createMock(SelectResult.class);
+
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME));
+    expect(simpleDbClient.select(isA(SelectRequest.class))).andReturn(result);
+    expect(result.getItems()).andReturn(ImmutableList.of(createItem(1), partial));
+    expect(result.getNextToken()).andReturn(null);
+    replayAll();
+
+    // The second instance must not inherit attributes from the first
+    CassandraInstance expected = new CassandraInstance.Builder().id(2).hostName(HOSTNAME).build();
+    assertTrue(dao.findAll(RING_NAME).contains(expected));
+  }
+
+  @Test
+  public void findAll_domainComputedOnce() throws Exception {
+    SelectResult result = createMock(SelectResult.class);
+
+    expect(domainFactory.createFromRing(RING_NAME)).andReturn(domain(RING_NAME)).once();
+    expect(simpleDbClient.select(isA(SelectRequest.class))).andReturn(result).times(2);
+    expect(result.getItems()).andReturn(ImmutableList.<Item>of()).times(2);
+    expect(result.getNextToken()).andReturn(null).times(2);
+    replayAll();
+
+    dao.findAll(RING_NAME);
+    dao.findAll(RING_NAME);
+  }
+
+  @Test
+  public void buildSaveAttributes() {
+    CassandraInstance instance = new CassandraInstance.Builder().id(ID).dataCenter(DATACENTER).rack(RACK)
+        .hostName(HOSTNAME).publicIpAddress(PUBLIC_IP_ADDRESS)
+        .fullyQualifiedDomainName(FULLY_QUALIFIED_DOMAIN_NAME).build();
+    replayAll();
+    List<ReplaceableAttribute> attrs = SdbCassandraInstanceDao.buildSaveAttributes(instance, 42);
+    assertEquals(new ReplaceableAttribute(SdbCassandraInstanceDao.ID_KEY, String.valueOf(ID), false),
+        attrs.get(0));
+    assertEquals(new ReplaceableAttribute(SdbCassandraInstanceDao.MODIFIED_KEY, "0000000000042", true),
+        attrs.get(attrs.size() - 1));
+    assertReplaceableAttributes(new PutAttributesRequest().withAttributes(attrs));
+  }
+
   private CassandraDomain domain(String ring) {
     return new CassandraDomain(DOMAIN_NAMESPACE, ring);
   }
@@ -235,6 +471,24 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
     return item;
   }
 
+  private Item createItem(int ordinal, String modified) {
+    Item item = createMock(Item.class);
+    expect(item.getAttributes()).andStubReturn(ImmutableList.<Attribute>builder()
+        .addAll(createAttributes(ordinal))
+        .add(createAttribute(SdbCassandraInstanceDao.MODIFIED_KEY, modified))
+        .build());
+    return item;
+  }
+
+  private Item createTombstone(int ordinal, String modified) {
+    Item item = createMock(Item.class);
+    expect(item.getName()).andStubReturn(String.valueOf(ordinal));
+    expect(item.getAttributes()).andStubReturn(ImmutableList.of(
+        createAttribute(SdbCassandraInstanceDao.ID_KEY, String.valueOf(ordinal)),
+        createAttribute(SdbCassandraInstanceDao.MODIFIED_KEY, modified)));
+    return item;
+  }
+
   private List<Attribute> createAttributes(int ordinal) {
     return ImmutableList.of(
         createAttribute(SdbCassandraInstanceDao.ID_KEY, String.valueOf(ordinal)),
@@ -259,9 +513,15 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
     return instances;
   }
 
+  private static void assertModified(long before, String modified) {
+    assertEquals(13, modified.length());
+    long millis = Long.parseLong(modified);
+    assertTrue(millis >= before && millis <= System.currentTimeMillis());
+  }
+
   // Checkstyle ignore: CyclomaticComplexity
   private static void assertReplaceableAttributes(PutAttributesRequest request) {
-    assertEquals(6, request.getAttributes().size());
+    assertEquals(7, request.getAttributes().size());
     for (ReplaceableAttribute attr : request.getAttributes()) {
       if (attr.getName().equals(SdbCassandraInstanceDao.ID_KEY)) {
         assertEquals(String.valueOf(ID), attr.getValue());
@@ -281,32 +541,24 @@ public class SdbCassandraInstanceDaoTest extends EasyMockSupport {
       } else if (attr.getName().endsWith(SdbCassandraInstanceDao.FULLY_QUALIFIED_DOMAIN_NAME_KEY)) {
         assertEquals(FULLY_QUALIFIED_DOMAIN_NAME, attr.getValue());
         assertEquals(true, attr.getReplace());
+      } else if (attr.getName().equals(SdbCassandraInstanceDao.MODIFIED_KEY)) {
+        assertEquals(13, attr.getValue().length());
+        assertEquals(true, attr.getReplace());
       } else {
         assertDuplicateAttribute(attr.getName(), attr.getValue());
       }
     }
   }
 
-  // Checkstyle ignore: CyclomaticComplexity
   private static void assertAttributes(DeleteAttributesRequest request) {
-    assertEquals(6, request.getAttributes().size());
+    Set<String> names = Sets.newHashSet();
     for (Attribute attr : request.getAttributes()) {
-      if (attr.getName().equals(SdbCassandraInstanceDao.ID_KEY)) {
-        assertEquals(String.valueOf(ID), attr.getValue());
-      } else if (attr.getName().equals(SdbCassandraInstanceDao.DATACENTER_KEY)) {
-        assertEquals(DATACENTER, attr.getValue());
-      } else if (attr.getName().equals(SdbCassandraInstanceDao.RACK_KEY)) {
-        assertEquals(RACK, attr.getValue());
-      } else if (attr.getName().equals(SdbCassandraInstanceDao.HOSTNAME_KEY)) {
-        assertEquals(HOSTNAME, attr.getValue());
-      } else if (attr.getName().endsWith(SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY)) {
-        assertEquals(PUBLIC_IP_ADDRESS, attr.getValue());
-      } else if (attr.getName().endsWith(SdbCassandraInstanceDao.FULLY_QUALIFIED_DOMAIN_NAME_KEY)) {
-        assertEquals(FULLY_QUALIFIED_DOMAIN_NAME, attr.getValue());
-      } else {
-        assertDuplicateAttribute(attr.getName(), attr.getValue());
-      }
+      assertNull(attr.getValue());
+      names.add(attr.getName());
     }
+    assertEquals(ImmutableSet.of(SdbCassandraInstanceDao.DATACENTER_KEY, SdbCassandraInstanceDao.RACK_KEY,
+        SdbCassandraInstanceDao.HOSTNAME_KEY, SdbCassandraInstanceDao.PUBLIC_IP_ADDRESS_KEY,
+        SdbCassandraInstanceDao.FULLY_QUALIFIED_DOMAIN_NAME_KEY), names);
   }
 
   private static void assertDuplicateAttribute(String name, String value) {
@@ -16,15 +16,28 @@
 
 package com.brighttag.agathon.dao.sdb;
 
+import com.amazonaws.AmazonClientException;
+import com.codahale.metrics.MetricRegistry;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.brighttag.agathon.aws.AwsModule;
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraAddressDao;
 import com.brighttag.agathon.dao.CassandraInstanceDao;
 import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.dao.DaoModule;
+import com.brighttag.agathon.dao.tiered.RingReplicator;
+import com.brighttag.agathon.dao.tiered.TieredDaoModule;
 import com.brighttag.testing.ModuleTester;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
 /**
  * @author codyaray
  * @since 5/15/12
@@ -43,6 +56,8 @@ public class SdbDaoModuleTest {
     System.clearProperty(AwsModule.ACCESS_KEY_PROPERTY);
     System.clearProperty(AwsModule.SECRET_KEY_PROPERTY);
     System.clearProperty(SdbDaoModule.DOMAIN_NAMESPACE_PROPERTY);
+    System.clearProperty(SdbDaoModule.ENDPOINT_PROPERTY);
+    System.clearProperty(DaoModule.CIRCUIT_FAILURE_THRESHOLD_PROPERTY);
   }
 
   @Test
@@ -50,8 +65,55 @@ public class SdbDaoModuleTest {
     new ModuleTester(new SdbDaoModule())
         .exposes(CassandraRingDao.class)
         .exposes(CassandraInstanceDao.class)
+        .exposes(CassandraAddressDao.class)
+        .exposes(SdbTombstonePurger.class)
         .exposesNothingElse()
         .verify();
   }
 
+  @Test
+  public void tieredBindings() throws Exception {
+    System.setProperty(TieredDaoModule.SNAPSHOT_FILE_PROPERTY, "rings.json");
+    try {
+      new ModuleTester(new TieredDaoModule(new SdbDaoModule()))
+          .exposes(CassandraRingDao.class)
+          .exposes(CassandraInstanceDao.class)
+          .exposes(CassandraAddressDao.class)
+          .exposes(RingReplicator.class)
+          .exposes(SdbTombstonePurger.class)
+          .exposesNothingElse()
+          .verify();
+    } finally {
+      System.clearProperty(TieredDaoModule.SNAPSHOT_FILE_PROPERTY);
+    }
+  }
+
+  @Test
+  public void daoModule_readsGuardedByCircuitBreaker() throws Exception {
+    // Nothing listens here, so every SimpleDB call fails
+    System.setProperty(SdbDaoModule.ENDPOINT_PROPERTY, "http://127.0.0.1:1");
+    System.setProperty(DaoModule.CIRCUIT_FAILURE_THRESHOLD_PROPERTY, "2");
+    CassandraRingDao dao = Guice.createInjector(new DaoModule(), new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(MetricRegistry.class).toInstance(new MetricRegistry());
+      }
+    }).getInstance(CassandraRingDao.class);
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        dao.findByName("ring");
+        fail("Should have thrown BackingStoreException");
+      } catch (BackingStoreException e) {
+        assertEquals(AmazonClientException.class, e.getCause().getClass());
+      }
+    }
+    try {
+      dao.findByName("ring");
+      fail("Should have thrown BackingStoreException");
+    } catch (BackingStoreException e) {
+      assertEquals("Circuit CassandraRingDao.sdb is open", e.getMessage());
+    }
+  }
+
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.sdb;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableSet;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.model.CassandraInstance;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 10/18/2026
+ */
+public class SdbRingRefresherTest extends EasyMockSupport {
+
+  private static final String RING_NAME = "ProfileStore";
+  private static final CassandraInstance INSTANCE1 = instance(1, "host1");
+  private static final CassandraInstance INSTANCE2 = instance(2, "host2");
+  private static final CassandraInstance INSTANCE3 = instance(3, "host3");
+  private static final ImmutableSet<Integer> NONE = ImmutableSet.of();
+
+  private SdbCassandraInstanceDao instanceDao;
+  private FakeTicker ticker;
+  private SdbRingRefresher refresher;
+
+  @Before
+  public void setUp() {
+    instanceDao = createMock(SdbCassandraInstanceDao.class);
+    ticker = new FakeTicker();
+    // 10 second overlap, full sync every 5 minutes
+    refresher = new SdbRingRefresher(instanceDao, 10, 300, ticker);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void refresh_full() {
+    expectFullSync(changes(ImmutableSet.of(INSTANCE1, INSTANCE2), NONE, "0000000050000"));
+    replayAll();
+
+    assertEquals(ImmutableSet.of(INSTANCE1, INSTANCE2), refresher.refresh(RING_NAME));
+  }
+
+  @Test
+  public void refresh_incremental() {
+    CassandraInstance moved = instance(1, "host1-moved");
+    expectFullSync(changes(ImmutableSet.of(INSTANCE1, INSTANCE2), NONE, "0000000050000"));
+    expect(instanceDao.findModifiedSince(RING_NAME, "0000000040000")).andReturn(
+        changes(ImmutableSet.of(moved, INSTANCE3), ImmutableSet.of(2), "0000000060000"));
+    expect(instanceDao.findModifiedSince(RING_NAME, "0000000050000")).andReturn(
+        changes(ImmutableSet.<CassandraInstance>of(), NONE, null));
+    replayAll();
+
+    refresher.refresh(RING_NAME);
+    assertEquals(ImmutableSet.of(moved, INSTANCE3), refresher.refresh(RING_NAME));
+    // Without any changes, the latest stamp is kept
+    assertEquals(ImmutableSet.of(moved, INSTANCE3), refresher.refresh(RING_NAME));
+  }
+
+  @Test
+  public void refresh_unstamped() {
+    expectFullSync(changes(ImmutableSet.of(INSTANCE1), NONE, null));
+    expect(instanceDao.findModifiedSince(RING_NAME, "0000000000000")).andReturn(
+        changes(ImmutableSet.of(INSTANCE2), NONE, "0000000050000"));
+    replayAll();
+
+    refresher.refresh(RING_NAME);
+    assertEquals(ImmutableSet.of(INSTANCE1, INSTANCE2), refresher.refresh(RING_NAME));
+  }
+
+  @Test
+  public void refresh_fullSyncPeriodically() {
+    expectFullSync(changes(ImmutableSet.of(INSTANCE1, INSTANCE2), NONE, "0000000050000"));
+    expectFullSync(changes(ImmutableSet.of(INSTANCE3), NONE, "0000000040000"));
+    replayAll();
+
+    refresher.refresh(RING_NAME);
+    ticker.advance(TimeUnit.SECONDS.toMillis(300));
+    // Drops instances that were missed by incremental refreshes
+    assertEquals(ImmutableSet.of(INSTANCE3), refresher.refresh(RING_NAME));
+  }
+
+  @Test
+  public void invalidate() {
+    expectFullSync(changes(ImmutableSet.of(INSTANCE1), NONE, "0000000050000"));
+    expectFullSync(changes(ImmutableSet.of(INSTANCE2), NONE, "0000000060000"));
+    replayAll();
+
+    refresher.refresh(RING_NAME);
+    refresher.invalidate(RING_NAME);
+    assertEquals(ImmutableSet.of(INSTANCE2), refresher.refresh(RING_NAME));
+  }
+
+  private void expectFullSync(InstanceChanges changes) {
+    expect(instanceDao.findModifiedSince(RING_NAME, null)).andReturn(changes);
+  }
+
+  private static InstanceChanges changes(ImmutableSet<CassandraInstance> saved, ImmutableSet<Integer> deleted,
+      String lastModified) {
+    return new InstanceChanges(saved, deleted, lastModified);
+  }
+
+  private static CassandraInstance instance(int id, String hostName) {
+    return new CassandraInstance.Builder().id(id).dataCenter("dc").rack("rack").hostName(hostName)
+        .publicIpAddress("10.0.0." + id).build();
+  }
+
+  /**
+   * Ticker that only moves when told to, in milliseconds.
+   */
+  private static class FakeTicker extends Ticker {
+    private long nanos;
+    void advance(long millis) {
+      nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+    @Override public long read() {
+      return nanos;
+    }
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.sdb;
+
+import java.util.Set;
+
+import com.amazonaws.AmazonClientException;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Provider;
+import com.google.inject.ProvisionException;
+import com.google.inject.spi.Message;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.easymock.EasyMock.expect;
+
+/**
+ * @since 10/19/2026
+ */
+public class SdbTombstonePurgerTest extends EasyMockSupport {
+
+  private SdbCassandraInstanceDao instanceDao;
+  private Provider<Set<String>> rings;
+  private SdbTombstonePurger purger;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    instanceDao = createMock(SdbCassandraInstanceDao.class);
+    rings = createMock(Provider.class);
+    purger = new SdbTombstonePurger(instanceDao, rings, 3600, 600);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void runOneIteration() {
+    expect(rings.get()).andReturn(ImmutableSet.of("ring1", "ring2"));
+    expect(instanceDao.purgeTombstones("ring1", 3600000)).andReturn(2);
+    expect(instanceDao.purgeTombstones("ring2", 3600000)).andReturn(0);
+    replayAll();
+
+    purger.runOneIteration();
+  }
+
+  @Test
+  public void runOneIteration_continuesAfterFailure() {
+    expect(rings.get()).andReturn(ImmutableSet.of("ring1", "ring2"));
+    expect(instanceDao.purgeTombstones("ring1", 3600000)).andThrow(new AmazonClientException("boom"));
+    expect(instanceDao.purgeTombstones("ring2", 3600000)).andReturn(1);
+    replayAll();
+
+    purger.runOneIteration();
+  }
+
+  @Test
+  public void runOneIteration_ringsUnavailable() {
+    expect(rings.get()).andThrow(new ProvisionException(ImmutableSet.of(new Message("boom"))));
+    replayAll();
+
+    purger.runOneIteration();
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import static com.brighttag.agathon.dao.tiered.RingSnapshotFileTest.instance;
+import static com.brighttag.agathon.dao.tiered.RingSnapshotFileTest.ring;
+
+/**
+ * @since 10/18/2026
+ */
+public class RingReplicatorTest extends EasyMockSupport {
+
+  private static final CassandraRing RING1 = ring("ring1", instance(1, "us-east", "1a", "host1"));
+  private static final CassandraRing RING2 = ring("ring2", instance(2, "us-east", "1b", "host2"));
+
+  private CassandraRingDao source;
+  private RingSnapshotFile file;
+  private RingSnapshot snapshot;
+  private RingReplicator replicator;
+
+  @Before
+  public void setUp() {
+    source = createMock(CassandraRingDao.class);
+    file = createMock(RingSnapshotFile.class);
+    snapshot = new RingSnapshot(ImmutableSet.<String>of());
+    replicator = new RingReplicator(source, snapshot, file, 30, 2);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void startUp_loadsFileThenReplicates() throws Exception {
+    expect(file.read()).andReturn(ImmutableSet.of(RING1));
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1, RING2));
+    file.write(ImmutableSet.of(RING1, RING2));
+    replayAll();
+
+    replicator.startUp();
+    assertEquals(ImmutableMap.of("ring1", RING1, "ring2", RING2), snapshot.get());
+  }
+
+  @Test
+  public void startUp_sourceUnavailable() throws Exception {
+    expect(file.read()).andReturn(ImmutableSet.of(RING1));
+    expect(source.findAll()).andThrow(new BackingStoreException("down"));
+    replayAll();
+
+    replicator.startUp();
+    assertEquals(ImmutableMap.of("ring1", RING1), snapshot.get());
+  }
+
+  @Test
+  public void startUp_noFile() throws Exception {
+    expect(file.read()).andReturn(null);
+    expect(source.findAll()).andThrow(new BackingStoreException("down"));
+    replayAll();
+
+    replicator.startUp();
+    assertFalse(snapshot.isLoaded());
+  }
+
+  @Test
+  public void replicate_unchanged() throws Exception {
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1)).times(2);
+    file.write(ImmutableSet.of(RING1));
+    replayAll();
+
+    replicator.replicate();
+    replicator.replicate();
+  }
+
+  @Test
+  public void startUp_sameAsFile() throws Exception {
+    expect(file.read()).andReturn(ImmutableSet.of(RING1));
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1));
+    replayAll();
+
+    replicator.startUp();
+  }
+
+  @Test
+  public void replicate_writesPatchedSnapshot() throws Exception {
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1));
+    file.write(ImmutableSet.of(RING1));
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1, RING2));
+    file.write(ImmutableSet.of(RING1, RING2));
+    replayAll();
+
+    replicator.replicate();
+    // A write through the tiered DAO patches the snapshot before the source is replicated again
+    snapshot.put(RING2);
+    replicator.replicate();
+  }
+
+  @Test
+  public void replicate_emptySourceConfirmed() throws Exception {
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1));
+    file.write(ImmutableSet.of(RING1));
+    expect(source.findAll()).andReturn(ImmutableSet.<CassandraRing>of());
+    expect(source.findAll()).andReturn(ImmutableSet.<CassandraRing>of());
+    file.write(ImmutableSet.<CassandraRing>of());
+    replayAll();
+
+    replicator.replicate();
+    replicator.replicate();
+    assertEquals(ImmutableMap.of("ring1", RING1), snapshot.get());
+    replicator.replicate();
+    assertEquals(ImmutableMap.of(), snapshot.get());
+  }
+
+  @Test
+  public void replicate_emptySourceNotConfirmed() throws Exception {
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1));
+    file.write(ImmutableSet.of(RING1));
+    expect(source.findAll()).andReturn(ImmutableSet.<CassandraRing>of());
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1));
+    expect(source.findAll()).andReturn(ImmutableSet.<CassandraRing>of());
+    replayAll();
+
+    replicator.replicate();
+    replicator.replicate();
+    replicator.replicate();
+    replicator.replicate();
+    assertEquals(ImmutableMap.of("ring1", RING1), snapshot.get());
+  }
+
+  @Test
+  public void replicate_retriesFailedWrite() throws Exception {
+    expect(source.findAll()).andReturn(ImmutableSet.of(RING1)).times(2);
+    file.write(ImmutableSet.of(RING1));
+    expectLastCall().andThrow(new BackingStoreException("full"));
+    file.write(ImmutableSet.of(RING1));
+    replayAll();
+
+    try {
+      replicator.replicate();
+      fail("Expected the snapshot file write to fail");
+    } catch (BackingStoreException e) {
+      assertEquals("full", e.getMessage());
+    }
+    replicator.replicate();
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import java.io.File;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @since 10/18/2026
+ */
+public class RingSnapshotFileTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private File file;
+  private RingSnapshotFile snapshotFile;
+
+  @Before
+  public void setUp() {
+    file = new File(folder.getRoot(), "snapshots/rings.json");
+    snapshotFile = new RingSnapshotFile(file);
+  }
+
+  @Test
+  public void read_missing() throws Exception {
+    assertNull(snapshotFile.read());
+  }
+
+  @Test
+  public void writeAndRead() throws Exception {
+    ImmutableSet<CassandraRing> rings = ImmutableSet.of(
+        ring("ring1", instance(1, "us-east", "1a", "host1"), instance(2, "us-east", "1b", "host2")),
+        ring("ring2"));
+    snapshotFile.write(rings);
+
+    assertEquals(rings, snapshotFile.read());
+    assertArrayEquals(new String[] { "rings.json" }, file.getParentFile().list());
+  }
+
+  @Test
+  public void write_plantedTempFileIgnored() throws Exception {
+    File planted = new File(file.getPath() + ".tmp");
+    Files.createParentDirs(planted);
+    Files.write("planted", planted, Charsets.UTF_8);
+    snapshotFile.write(ImmutableSet.of(ring("ring1")));
+
+    assertEquals(ImmutableSet.of(ring("ring1")), snapshotFile.read());
+    assertEquals("planted", Files.toString(planted, Charsets.UTF_8));
+  }
+
+  @Test
+  public void read_requestPropertyNames() throws Exception {
+    Files.createParentDirs(file);
+    Files.write("{\"rings\":[{\"name\":\"ring1\",\"instances\":[{\"id\":1,\"datacenter\":\"us-east\","
+        + "\"rack\":\"1a\",\"hostname\":\"host1\",\"publicIpAddress\":\"10.0.0.1\","
+        + "\"fullyQualifiedDomainName\":\"host1.example.com\"}]}]}", file, Charsets.UTF_8);
+
+    assertEquals(ImmutableSet.of(ring("ring1", instance(1, "us-east", "1a", "host1"))), snapshotFile.read());
+  }
+
+  @Test
+  public void write_replaces() throws Exception {
+    snapshotFile.write(ImmutableSet.of(ring("ring1", instance(1, "us-east", "1a", "host1"))));
+    snapshotFile.write(ImmutableSet.of(ring("ring2")));
+
+    assertEquals(ImmutableSet.of(ring("ring2")), snapshotFile.read());
+  }
+
+  @Test(expected = BackingStoreException.class)
+  public void read_invalid() throws Exception {
+    Files.createParentDirs(file);
+    Files.write("{\"rings\":", file, Charsets.UTF_8);
+    snapshotFile.read();
+  }
+
+  static CassandraRing ring(String name, CassandraInstance... instances) {
+    return new CassandraRing.Builder().name(name).instances(ImmutableSet.copyOf(instances)).build();
+  }
+
+  static CassandraInstance instance(int id, String dataCenter, String rack, String hostName) {
+    return new CassandraInstance.Builder().id(id).dataCenter(dataCenter).rack(rack).hostName(hostName)
+        .publicIpAddress("10.0.0." + id).fullyQualifiedDomainName(hostName + ".example.com").build();
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.dao.CassandraInstanceDao;
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import static com.brighttag.agathon.dao.tiered.RingSnapshotFileTest.instance;
+import static com.brighttag.agathon.dao.tiered.RingSnapshotFileTest.ring;
+
+/**
+ * @since 10/18/2026
+ */
+public class TieredCassandraInstanceDaoTest extends EasyMockSupport {
+
+  private static final CassandraInstance INSTANCE1 = instance(1, "us-east", "1a", "host1");
+  private static final CassandraInstance INSTANCE2 = instance(2, "us-east", "1b", "host2");
+
+  private CassandraInstanceDao source;
+  private RingSnapshot snapshot;
+  private TieredCassandraInstanceDao dao;
+
+  @Before
+  public void setUp() {
+    source = createMock(CassandraInstanceDao.class);
+    snapshot = new RingSnapshot(ImmutableSet.of("ring1"));
+    dao = new TieredCassandraInstanceDao(source, snapshot);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void findAll_notLoaded() throws Exception {
+    expect(source.findAll("ring1")).andReturn(ImmutableSet.of(INSTANCE1));
+    replayAll();
+
+    assertEquals(ImmutableSet.of(INSTANCE1), dao.findAll("ring1"));
+  }
+
+  @Test
+  public void findAll_tiered() throws Exception {
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(ring("ring1", INSTANCE1, INSTANCE2)));
+    assertEquals(ImmutableSet.of(INSTANCE1, INSTANCE2), dao.findAll("ring1"));
+  }
+
+  @Test
+  public void findAll_tieredMissing() throws Exception {
+    replayAll();
+
+    snapshot.replace(ImmutableSet.<CassandraRing>of());
+    assertEquals(ImmutableSet.of(), dao.findAll("ring1"));
+  }
+
+  @Test
+  public void findAll_untiered() throws Exception {
+    expect(source.findAll("ring2")).andReturn(ImmutableSet.of(INSTANCE2));
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(ring("ring1", INSTANCE1)));
+    assertEquals(ImmutableSet.of(INSTANCE2), dao.findAll("ring2"));
+  }
+
+  @Test
+  public void findById_tiered() throws Exception {
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(ring("ring1", INSTANCE1, INSTANCE2)));
+    assertEquals(INSTANCE2, dao.findById("ring1", 2));
+    assertNull(dao.findById("ring1", 3));
+  }
+
+  @Test
+  public void save() throws Exception {
+    CassandraInstance moved = instance(1, "us-west", "1c", "host1");
+    source.save("ring1", moved);
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(ring("ring1", INSTANCE1, INSTANCE2)));
+    dao.save("ring1", moved);
+    assertEquals(ImmutableSet.of(INSTANCE2, moved), dao.findAll("ring1"));
+  }
+
+  @Test
+  public void delete() throws Exception {
+    source.delete("ring1", INSTANCE1);
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(ring("ring1", INSTANCE1, INSTANCE2)));
+    dao.delete("ring1", INSTANCE1);
+    assertEquals(ImmutableSet.of(INSTANCE2), dao.findAll("ring1"));
+  }
+
+}
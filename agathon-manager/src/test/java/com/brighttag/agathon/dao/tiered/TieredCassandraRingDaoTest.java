@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import static com.brighttag.agathon.dao.tiered.RingSnapshotFileTest.instance;
+import static com.brighttag.agathon.dao.tiered.RingSnapshotFileTest.ring;
+
+/**
+ * @since 10/18/2026
+ */
+public class TieredCassandraRingDaoTest extends EasyMockSupport {
+
+  private static final CassandraRing RING1 = ring("ring1", instance(1, "us-east", "1a", "host1"));
+  private static final CassandraRing RING2 = ring("ring2", instance(2, "us-east", "1b", "host2"));
+
+  private CassandraRingDao source;
+  private RingSnapshot snapshot;
+  private TieredCassandraRingDao dao;
+
+  @Before
+  public void setUp() {
+    source = createMock(CassandraRingDao.class);
+    snapshot = new RingSnapshot(ImmutableSet.of("ring1"));
+    dao = new TieredCassandraRingDao(source, snapshot);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void findByName_notLoaded() throws Exception {
+    expect(source.findByName("ring1")).andReturn(RING1);
+    replayAll();
+
+    assertEquals(RING1, dao.findByName("ring1"));
+  }
+
+  @Test
+  public void findByName_tiered() throws Exception {
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(RING1, RING2));
+    assertEquals(RING1, dao.findByName("ring1"));
+  }
+
+  @Test
+  public void findByName_untiered() throws Exception {
+    expect(source.findByName("ring2")).andReturn(RING2);
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(RING1, RING2));
+    assertEquals(RING2, dao.findByName("ring2"));
+  }
+
+  @Test
+  public void findAll_mergesUntieredRings() throws Exception {
+    expect(source.findAll()).andReturn(ImmutableSet.of(ring("ring1"), RING2));
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(RING1));
+    assertEquals(ImmutableSet.of(RING1, RING2), dao.findAll());
+  }
+
+  @Test
+  public void findAll_allTiered() throws Exception {
+    replayAll();
+
+    snapshot = new RingSnapshot(ImmutableSet.<String>of());
+    snapshot.replace(ImmutableSet.of(RING1, RING2));
+    dao = new TieredCassandraRingDao(source, snapshot);
+    assertEquals(ImmutableSet.of(RING1, RING2), dao.findAll());
+  }
+
+  @Test
+  public void findByNames() throws Exception {
+    expect(source.findByNames(ImmutableSet.of("ring2"))).andReturn(ImmutableSet.of(RING2));
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(RING1));
+    assertEquals(ImmutableSet.of(RING1, RING2), dao.findByNames(ImmutableSet.of("ring1", "ring2")));
+  }
+
+  @Test
+  public void save() throws Exception {
+    CassandraRing updated = ring("ring1", instance(3, "us-west", "1a", "host3"));
+    source.save(updated);
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(RING1));
+    dao.save(updated);
+    assertEquals(updated, dao.findByName("ring1"));
+  }
+
+  @Test
+  public void delete() throws Exception {
+    source.delete(RING1);
+    replayAll();
+
+    snapshot.replace(ImmutableSet.of(RING1));
+    dao.delete(RING1);
+    assertNull(dao.findByName("ring1"));
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.dao.tiered;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.dao.CassandraInstanceDao;
+import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.dao.memory.MemoryDaoModule;
+import com.brighttag.testing.ModuleTester;
+
+/**
+ * @since 10/18/2026
+ */
+public class TieredDaoModuleTest extends EasyMockSupport {
+
+  @Before
+  public void setUp() {
+    System.setProperty(TieredDaoModule.SNAPSHOT_FILE_PROPERTY, "rings.json");
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(TieredDaoModule.SNAPSHOT_FILE_PROPERTY);
+  }
+
+  @Test
+  public void bindings() throws Exception {
+    new ModuleTester(new TieredDaoModule(new MemoryDaoModule()))
+        .exposes(CassandraRingDao.class)
+        .exposes(CassandraInstanceDao.class)
+        .exposes(RingReplicator.class)
+        .exposesNothingElse()
+        .verify();
+  }
+
+}
@@ -81,6 +81,15 @@ public class ZergCassandraRingDaoTest extends EasyMockSupport {
     dao.findAll();
   }
 
+  @Test
+  public void findByNames() throws Exception {
+    expect(zergConnector.getHosts()).andReturn(HOSTS);
+    replayAll();
+
+    Iterator<CassandraRing> iterator = RINGS.iterator();
+    assertEquals(ImmutableSet.of(iterator.next()), dao.findByNames(ImmutableSet.of(BIG_RING, "unknown")));
+  }
+
   @Test
   public void findById() throws Exception {
     expect(zergConnector.getHosts()).andReturn(HOSTS);
@@ -24,6 +24,8 @@ import java.util.concurrent.TimeoutException;
 
 import javax.annotation.Nullable;
 
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Charsets;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -54,13 +56,15 @@ import static org.junit.Assert.assertEquals;
 public class ZergConnectorImplTest extends EasyMockSupport {
 
   private AsyncHttpClient client;
+  private MetricRegistry registry;
   private ZergConnector connector;
 
   @Before
   public void setupMocks() {
     client = createMock(AsyncHttpClient.class);
-    ZergConnectorImpl.ZergLoader loader = new ZergConnectorImpl.ZergLoader(client, new Gson());
-    connector = new ZergConnectorImpl("/path", CacheBuilder.newBuilder(), loader);
+    registry = new MetricRegistry();
+    ZergConnectorImpl.ZergLoader loader = new ZergConnectorImpl.ZergLoader(client, new Gson(), registry);
+    connector = new ZergConnectorImpl("/path", CacheBuilder.newBuilder().recordStats(), loader, registry);
   }
 
   @Test
@@ -71,6 +75,36 @@ public class ZergConnectorImplTest extends EasyMockSupport {
     assertEquals(HOSTS, connector.getHosts());
   }
 
+  @Test
+  public void getHosts_metrics() throws Exception {
+    expectZergResponseBody(MANIFEST);
+    replayAll();
+
+    connector.getHosts();
+    connector.getHosts();
+    assertEquals(MANIFEST.length(), gauge("manifest.bytes"));
+    assertEquals(HOSTS.size(), gauge("manifest.hosts"));
+    assertEquals(1L, gauge("cache.loads"));
+    assertEquals(0.5, gauge("cache.hitRate"));
+    assertEquals(1, registry.timer("ZergConnector.manifest.parses").getCount());
+    assertEquals(1, registry.timer("ZergConnector.http.requests").getCount());
+    assertEquals(1, registry.meter("ZergConnector.http.responses.200").getCount());
+    assertEquals(0, registry.counter("ZergConnector.http.active").getCount());
+  }
+
+  @Test(expected = BackingStoreException.class)
+  public void getHosts_metricsFailure() throws Exception {
+    expectBackingStoreException(new ExecutionException(new TimeoutException()));
+    replayAll();
+
+    try {
+      connector.getHosts();
+    } finally {
+      assertEquals(1, registry.meter("ZergConnector.manifest.failures").getCount());
+      assertEquals(-1L, gauge("manifest.ageMillis"));
+    }
+  }
+
   @Test
   public void getHosts_emptyManifest() throws Exception {
     expectZergResponseBody(EMPTY_MANIFEST);
@@ -111,20 +145,25 @@ public class ZergConnectorImplTest extends EasyMockSupport {
     connector.getHosts();
   }
 
+  private Object gauge(String name) {
+    return registry.getGauges().get("ZergConnector." + name).getValue();
+  }
+
   private void expectZergResponseBody(String json) throws Exception {
     Response response = expectZergResponse();
-    expect(response.getResponseBody()).andReturn(json);
+    expect(response.getResponseBodyAsBytes()).andReturn(json.getBytes(Charsets.UTF_8));
   }
 
   private void expectZergResponseException(Exception exception) throws Exception {
     Response response = expectZergResponse();
-    expect(response.getResponseBody()).andThrow(exception);
+    expect(response.getResponseBodyAsBytes()).andThrow(exception);
   }
 
   private Response expectZergResponse() throws Exception {
     ListenableFuture<Response> future = expectZergCall();
     Response response = createMock(Response.class);
     expect(future.get()).andReturn(response);
+    expect(response.getStatusCode()).andStubReturn(200);
     return response;
   }
 
@@ -16,6 +16,8 @@
 
 package com.brighttag.agathon.dao.zerg;
 
+import com.codahale.metrics.MetricRegistry;
+
 import org.junit.Test;
 
 import com.brighttag.agathon.dao.CassandraInstanceDao;
@@ -33,6 +35,7 @@ public class ZergDaoModuleTest {
     System.setProperty(ZergDaoModule.ZERG_REGION_PROPERTY, "us-east-1");
     System.setProperty(ZergDaoModule.ZERG_RING_CONFIG_PROPERTY, "somefile.json");
     new ModuleTester(new ZergDaoModule())
+        .dependsOn(MetricRegistry.class, new MetricRegistry())
         .exposes(CassandraRingDao.class)
         .exposes(CassandraInstanceDao.class)
         .exposesNothingElse()
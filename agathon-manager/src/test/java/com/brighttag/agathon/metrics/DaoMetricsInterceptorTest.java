@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraRingDao;
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/18/2026
+ */
+public class DaoMetricsInterceptorTest {
+
+  private MetricRegistry registry;
+  private CassandraRingDao dao;
+
+  @Before
+  public void setUp() {
+    registry = new MetricRegistry();
+    dao = Guice.createInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(MetricRegistry.class).toInstance(registry);
+        bind(CassandraRingDao.class).to(FakeCassandraRingDao.class);
+        bindInterceptor(DaoMetricsInterceptor.DAO_CLASSES, DaoMetricsInterceptor.DAO_METHODS,
+            new DaoMetricsInterceptor("fake", getProvider(MetricRegistry.class)));
+      }
+    }).getInstance(CassandraRingDao.class);
+  }
+
+  @Test
+  public void invoke() throws Exception {
+    dao.findAll();
+    assertEquals(1, registry.timer("CassandraRingDao.fake.findAll").getCount());
+    assertFalse(registry.getMeters().containsKey("CassandraRingDao.fake.findAll.failures"));
+  }
+
+  @Test
+  public void invoke_failure() {
+    try {
+      dao.findByName("ring");
+      fail("Should have thrown BackingStoreException");
+    } catch (BackingStoreException e) {
+      assertEquals(1, registry.timer("CassandraRingDao.fake.findByName").getCount());
+      assertEquals(1, registry.meter("CassandraRingDao.fake.findByName.failures").getCount());
+    }
+  }
+
+  @Test
+  public void invoke_notDaoMethod() {
+    ((FakeCassandraRingDao) dao).helper();
+    assertEquals(0, registry.getTimers().size());
+  }
+
+  /**
+   * DAO that always finds nothing and fails to find by name.
+   */
+  public static class FakeCassandraRingDao implements CassandraRingDao {
+    @Override public ImmutableSet<CassandraRing> findAll() {
+      return ImmutableSet.of();
+    }
+    @Override public @Nullable CassandraRing findByName(String name) throws BackingStoreException {
+      throw new BackingStoreException("unavailable");
+    }
+    @Override public ImmutableSet<CassandraRing> findByNames(Set<String> names) {
+      return ImmutableSet.of();
+    }
+    @Override public void save(CassandraRing ring) { }
+    @Override public void delete(CassandraRing ring) { }
+    public void helper() { }
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.Service;
+
+import org.junit.Test;
+
+import com.brighttag.testing.ModuleTester;
+
+/**
+ * @since 10/18/2026
+ */
+public class MetricsModuleTest {
+
+  @Test
+  public void bindings() throws Exception {
+    new ModuleTester(new MetricsModule())
+        .exposes(MetricRegistry.class)
+        .exposes(JmxReporterService.class)
+        .exposesMultibinding(Service.class)
+        .exposesNothingElse()
+        .verify();
+  }
+
+}
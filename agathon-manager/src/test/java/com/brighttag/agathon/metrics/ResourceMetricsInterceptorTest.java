@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.metrics;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.matcher.Matchers;
+import com.sun.jersey.api.NotFoundException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.service.ServiceUnavailableException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/18/2026
+ */
+public class ResourceMetricsInterceptorTest {
+
+  private MetricRegistry registry;
+  private FakeResource resource;
+
+  @Before
+  public void setUp() {
+    registry = new MetricRegistry();
+    resource = Guice.createInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(MetricRegistry.class).toInstance(registry);
+        bindInterceptor(Matchers.only(FakeResource.class), ResourceMetricsInterceptor.RESOURCE_METHODS,
+            new ResourceMetricsInterceptor(getProvider(MetricRegistry.class)));
+      }
+    }).getInstance(FakeResource.class);
+  }
+
+  @Test
+  public void invoke_entity() {
+    resource.get();
+    assertEquals(1, registry.timer("FakeResource.get").getCount());
+    assertEquals(1, registry.meter("FakeResource.get.responses.200").getCount());
+  }
+
+  @Test
+  public void invoke_response() {
+    resource.post();
+    assertEquals(1, registry.timer("FakeResource.post").getCount());
+    assertEquals(1, registry.meter("FakeResource.post.responses.201").getCount());
+  }
+
+  @Test
+  public void invoke_webApplicationException() {
+    try {
+      resource.notFound();
+      fail("Should have thrown NotFoundException");
+    } catch (NotFoundException e) {
+      assertEquals(1, registry.timer("FakeResource.notFound").getCount());
+      assertEquals(1, registry.meter("FakeResource.notFound.responses.404").getCount());
+    }
+  }
+
+  @Test
+  public void invoke_serviceUnavailableException() {
+    try {
+      resource.unavailable();
+      fail("Should have thrown ServiceUnavailableException");
+    } catch (ServiceUnavailableException e) {
+      assertEquals(1, registry.meter("FakeResource.unavailable.responses.503").getCount());
+    }
+  }
+
+  @Test
+  public void invoke_notResourceMethod() {
+    resource.helper();
+    assertFalse(registry.getTimers().containsKey("FakeResource.helper"));
+  }
+
+  /**
+   * Resource with one method for each outcome.
+   */
+  public static class FakeResource {
+    @GET public String get() {
+      return "ok";
+    }
+    @POST public Response post() {
+      return Response.status(Response.Status.CREATED).build();
+    }
+    @GET @Path("404") public String notFound() {
+      throw new NotFoundException();
+    }
+    @GET @Path("503") public String unavailable() {
+      throw new ServiceUnavailableException();
+    }
+    public String helper() {
+      return "ok";
+    }
+  }
+
+}
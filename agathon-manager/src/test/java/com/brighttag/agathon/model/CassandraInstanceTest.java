@@ -23,6 +23,7 @@ import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 
+import com.google.common.base.Objects;
 import com.google.common.testing.EqualsTester;
 
 import org.junit.BeforeClass;
@@ -90,6 +91,16 @@ public class CassandraInstanceTest {
         .testEquals();
   }
 
+  @Test
+  public void hashCode_matchesObjectsHashCode() {
+    CassandraInstance instance = builder().fullyQualifiedDomainName("host.example.com").build();
+    assertEquals(Objects.hashCode(instance.getId(), instance.getDataCenter(), instance.getRack(),
+        instance.getHostName(), instance.getPublicIpAddress(), instance.getFullyQualifiedDomainName()),
+        instance.hashCode());
+    assertEquals(Objects.hashCode(1, null, null, null, null, null),
+        new CassandraInstance.Builder().id(1).build().hashCode());
+  }
+
   private void assertNotEmptyViolation(String key, CassandraInstance instance) {
     assertViolation(key, "may not be empty", instance);
   }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.model;
+
+import java.io.IOException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Verifies the hand-written mapping matches the annotation-driven mapping it replaces.
+ *
+ * @since 10/18/2026
+ */
+public class JacksonModelModuleTest {
+
+  private static final TypeReference<Set<CassandraRing>> RINGS = new TypeReference<Set<CassandraRing>>() { };
+
+  private static final ImmutableList<String> INSTANCES = ImmutableList.of(
+      "{\"id\":1,\"datacenter\":\"us-east\",\"rack\":\"1a\",\"hostname\":\"host\","
+          + "\"publicIpAddress\":\"1.2.3.4\",\"fullyQualifiedDomainName\":\"host.example.com\"}",
+      "{\"id\":\"7\",\"datacenter\":\"us-east\"}",
+      "{\"id\":1.9,\"rack\":5}",
+      "{\"id\":null,\"datacenter\":null}",
+      "{\"id\":1,\"id\":2}",
+      "{\"rack\":true}",
+      "{}",
+      "{\"dataCenter\":\"us-east\"}",
+      "{\"bogus\":1}",
+      "{\"id\":\"x\"}",
+      "{\"rack\":{}}",
+      "[]");
+
+  private static final ImmutableList<String> RING_ENTITIES = ImmutableList.of(
+      "{\"name\":\"ring\",\"instances\":[{\"id\":1},{\"id\":2}]}",
+      "{\"name\":\"ring\",\"instances\":[{\"id\":1},{\"id\":1}]}",
+      "{\"instances\":[]}",
+      "{\"name\":\"ring\"}",
+      "{\"name\":\"ring\",\"instances\":null}",
+      "{\"name\":\"ring\",\"instances\":[null]}",
+      "{\"name\":\"ring\",\"instances\":{\"id\":1}}",
+      "{\"name\":\"ring\",\"instances\":[],\"bogus\":[]}",
+      "[]");
+
+  private ObjectMapper reflective;
+  private ObjectMapper tuned;
+  private CassandraRing ring;
+
+  @Before
+  public void setUp() {
+    reflective = new ObjectMapper();
+    tuned = JacksonModelModule.register(new ObjectMapper());
+    ring = new CassandraRing.Builder()
+        .name("ring")
+        .instances(ImmutableSet.of(
+            new CassandraInstance.Builder().id(1).dataCenter("us-east").rack("1a").hostName("a")
+                .publicIpAddress("1.2.3.4").fullyQualifiedDomainName("a.example.com").build(),
+            new CassandraInstance.Builder().id(2).dataCenter("us-east").rack("1b").hostName("b")
+                .publicIpAddress("1.2.3.5").build()))
+        .build();
+  }
+
+  @Test
+  public void register() {
+    ObjectMapper mapper = new ObjectMapper();
+    assertSame(mapper, JacksonModelModule.register(mapper));
+  }
+
+  @Test
+  public void write() throws Exception {
+    assertEquals(reflective.writeValueAsString(ring), tuned.writeValueAsString(ring));
+    assertEquals(reflective.writerWithType(RINGS).writeValueAsString(ImmutableSet.of(ring)),
+        tuned.writerWithType(RINGS).writeValueAsString(ImmutableSet.of(ring)));
+  }
+
+  @Test
+  public void read() throws Exception {
+    for (String json : INSTANCES) {
+      assertEquals(json,
+          read(reflective, json, CassandraInstance.class), read(tuned, json, CassandraInstance.class));
+    }
+    for (String json : RING_ENTITIES) {
+      assertEquals(json, read(reflective, json, CassandraRing.class), read(tuned, json, CassandraRing.class));
+    }
+  }
+
+  @Test
+  public void read_writtenNames() throws Exception {
+    ObjectMapper mapper = new ObjectMapper().registerModule(new JacksonModelModule(true));
+    assertEquals(ring, mapper.readValue(mapper.writeValueAsString(ring), CassandraRing.class));
+    for (String json : INSTANCES) {
+      if (!json.contains("dataCenter")) {
+        assertEquals(json,
+            read(tuned, json, CassandraInstance.class), read(mapper, json, CassandraInstance.class));
+      }
+    }
+  }
+
+  @Test
+  public void write_smile() throws Exception {
+    ObjectMapper smile = JacksonModelModule.register(new ObjectMapper(new SmileFactory()));
+    assertArrayEquals(new ObjectMapper(new SmileFactory()).writeValueAsBytes(ring),
+        smile.writeValueAsBytes(ring));
+  }
+
+  @Test
+  public void read_smile() throws Exception {
+    ObjectMapper smile = JacksonModelModule.register(new ObjectMapper(new SmileFactory()));
+    byte[] entity = smile.writeValueAsBytes(reflective.readTree(RING_ENTITIES.get(0)));
+    assertEquals(reflective.readValue(RING_ENTITIES.get(0), CassandraRing.class),
+        smile.readValue(entity, CassandraRing.class));
+  }
+
+  /**
+   * Returns the value read from {@code json}, or the exception type if it could not be read.
+   */
+  private static Object read(ObjectMapper mapper, String json, Class<?> type) throws IOException {
+    try {
+      return mapper.readValue(json, type);
+    } catch (JsonMappingException e) {
+      return JsonMappingException.class;
+    }
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.model;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Verifies the hand-written checks agree with Bean Validation.
+ *
+ * @since 10/18/2026
+ */
+public class ModelConstraintsTest {
+
+  private static Validator validator;
+
+  @BeforeClass
+  public static void setUp() {
+    validator = Validation.buildDefaultValidatorFactory().getValidator();
+  }
+
+  @Test
+  public void isKnownValid_instances() {
+    for (CassandraInstance instance : ImmutableList.of(
+        instance().build(),
+        instance().fullyQualifiedDomainName("host.example.com").build(),
+        instance().id(0).build(),
+        instance().id(-1).build(),
+        instance().dataCenter(null).build(),
+        instance().dataCenter("").build(),
+        instance().rack(null).build(),
+        instance().rack("").build(),
+        instance().hostName(null).build(),
+        instance().hostName("").build(),
+        instance().publicIpAddress(null).build(),
+        instance().publicIpAddress("").build())) {
+      assertEquals(instance.toString(), validator.validate(instance).isEmpty(),
+          ModelConstraints.isKnownValid(instance));
+    }
+  }
+
+  @Test
+  public void isKnownValid_rings() {
+    CassandraInstance invalidInstance = instance().id(0).build();
+    for (CassandraRing ring : ImmutableList.of(
+        ring("ring", instance().build()),
+        ring("ring", invalidInstance),
+        ring("", instance().build()),
+        new CassandraRing.Builder().name("ring").build())) {
+      assertEquals(ring.toString(), validator.validate(ring).isEmpty(),
+          ModelConstraints.isKnownValid(ring));
+    }
+  }
+
+  @Test
+  public void isKnownValid_otherTypes() {
+    assertFalse(ModelConstraints.isKnownValid("ring"));
+    assertFalse(ModelConstraints.isKnownValid(null));
+  }
+
+  private static CassandraInstance.Builder instance() {
+    return new CassandraInstance.Builder()
+        .id(1)
+        .dataCenter("us-east")
+        .rack("1a")
+        .hostName("host")
+        .publicIpAddress("1.2.3.4");
+  }
+
+  private static CassandraRing ring(String name, CassandraInstance instance) {
+    return new CassandraRing.Builder().name(name).instances(ImmutableSet.of(instance)).build();
+  }
+
+}
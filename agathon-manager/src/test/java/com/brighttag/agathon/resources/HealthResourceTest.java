@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.service.impl.CacheWarmupService;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 10/18/2026
+ */
+public class HealthResourceTest extends EasyMockSupport {
+
+  private CacheWarmupService warmupService;
+  private HealthResource resource;
+
+  @Before
+  public void setUp() {
+    warmupService = createMock(CacheWarmupService.class);
+    resource = new HealthResource(warmupService);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void isReady() {
+    expect(warmupService.isWarm()).andReturn(true);
+    replayAll();
+
+    assertEquals(200, resource.isReady().getStatus());
+  }
+
+  @Test
+  public void isReady_warmingUp() {
+    expect(warmupService.isWarm()).andReturn(false);
+    replayAll();
+
+    assertEquals(503, resource.isReady().getStatus());
+  }
+
+}
@@ -16,6 +16,9 @@
 
 package com.brighttag.agathon.resources;
 
+import javax.ws.rs.WebApplicationException;
+
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 import org.easymock.EasyMockSupport;
@@ -28,6 +31,7 @@ import com.brighttag.agathon.service.SeedService;
 
 import static org.easymock.EasyMock.expect;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * @author codyaray
@@ -56,7 +60,37 @@ public class SeedResourceTest extends EasyMockSupport {
     expect(service.getSeeds(ring)).andReturn(ImmutableSet.of("host1", "host2", "host3"));
     replayAll();
 
-    assertEquals("host1,host2,host3", resource.getSeeds());
+    assertEquals("host1,host2,host3", resource.getSeeds(null));
+  }
+
+  @Test
+  public void getSeeds_resolveIp() {
+    expect(service.getSeedAddresses(ring)).andReturn(ImmutableMap.of(
+        "host1", "1.1.1.1", "host2", "2.2.2.2", "3.3.3.3", "3.3.3.3"));
+    replayAll();
+
+    assertEquals("1.1.1.1,2.2.2.2,3.3.3.3", resource.getSeeds(SeedResource.RESOLVE_IP));
+  }
+
+  @Test
+  public void getSeeds_unsupportedResolve() {
+    replayAll();
+
+    try {
+      resource.getSeeds("dns");
+      fail("Expected a WebApplicationException");
+    } catch (WebApplicationException e) {
+      assertEquals(400, e.getResponse().getStatus());
+    }
+  }
+
+  @Test
+  public void getSeedAddresses() {
+    ImmutableMap<String, String> addresses = ImmutableMap.of("host1", "1.1.1.1", "host2", "2.2.2.2");
+    expect(service.getSeedAddresses(ring)).andReturn(addresses);
+    replayAll();
+
+    assertEquals(addresses, resource.getSeedAddresses());
   }
 
 }
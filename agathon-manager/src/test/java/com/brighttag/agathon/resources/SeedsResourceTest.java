@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import javax.ws.rs.WebApplicationException;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.sun.jersey.api.NotFoundException;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.service.CassandraRingService;
+import com.brighttag.agathon.service.SeedService;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/18/2026
+ */
+public class SeedsResourceTest extends EasyMockSupport {
+
+  private CassandraRingService ringService;
+  private SeedService seedService;
+  private SeedsResource resource;
+  private CassandraRing ring1;
+  private CassandraRing ring2;
+
+  @Before
+  public void setUp() {
+    ringService = createMock(CassandraRingService.class);
+    seedService = createMock(SeedService.class);
+    resource = new SeedsResource(ringService, seedService);
+    ring1 = createMock(CassandraRing.class);
+    ring2 = createMock(CassandraRing.class);
+    expect(ring1.getName()).andStubReturn("ring1");
+    expect(ring2.getName()).andStubReturn("ring2");
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void getSeeds() {
+    expect(ringService.findByNames(ImmutableSet.of("ring2", "ring1")))
+        .andReturn(ImmutableSet.of(ring2, ring1));
+    expect(seedService.getSeeds(ring1)).andReturn(ImmutableSet.of("host1", "host2"));
+    expect(seedService.getSeeds(ring2)).andReturn(ImmutableSet.of("host3"));
+    replayAll();
+
+    assertEquals(ImmutableMap.of(
+        "ring1", ImmutableSet.of("host1", "host2"),
+        "ring2", ImmutableSet.of("host3")),
+        resource.getSeeds(" ring2, ring1,,", null));
+  }
+
+  @Test
+  public void getSeeds_resolveIp() {
+    expect(ringService.findByNames(ImmutableSet.of("ring1"))).andReturn(ImmutableSet.of(ring1));
+    expect(seedService.getSeedAddresses(ring1)).andReturn(ImmutableMap.of(
+        "host1", "1.1.1.1", "2.2.2.2", "2.2.2.2"));
+    replayAll();
+
+    assertEquals(ImmutableMap.of("ring1", ImmutableSet.of("1.1.1.1", "2.2.2.2")),
+        resource.getSeeds("ring1", SeedResource.RESOLVE_IP));
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void getSeeds_ringNotFound() {
+    expect(ringService.findByNames(ImmutableSet.of("ring1", "ring3"))).andReturn(ImmutableSet.of(ring1));
+    expect(seedService.getSeeds(ring1)).andReturn(ImmutableSet.of("host1"));
+    replayAll();
+
+    resource.getSeeds("ring1,ring3", null);
+  }
+
+  @Test
+  public void getSeeds_noRings() {
+    replayAll();
+
+    assertBadRequest(null, null);
+    assertBadRequest(" , ", null);
+  }
+
+  @Test
+  public void getSeeds_unsupportedResolve() {
+    replayAll();
+
+    assertBadRequest("ring1", "dns");
+  }
+
+  private void assertBadRequest(String rings, String resolve) {
+    try {
+      resource.getSeeds(rings, resolve);
+      fail("Expected a WebApplicationException");
+    } catch (WebApplicationException e) {
+      assertEquals(400, e.getResponse().getStatus());
+    }
+  }
+
+}
@@ -42,6 +42,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.brighttag.agathon.model.CassandraInstance;
+
 import static org.easymock.EasyMock.expect;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -99,6 +101,22 @@ public class ValidatingJacksonJsonProviderTest extends EasyMockSupport {
         provider.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream));
   }
 
+  @Test
+  public void readFrom_noValidation_decisionCached() throws Exception {
+    annotations = new Annotation[] { createMock(Annotation.class) };
+    @SuppressWarnings("unchecked")
+    MultivaluedMap<String, String> httpHeaders = createMock(MultivaluedMap.class);
+    InputStream entityStream = createMock(InputStream.class);
+
+    expect(annotations[0].annotationType()).andReturn(null).once();
+    expect(delegate.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream))
+        .andReturn(value).times(2);
+    replayAll();
+
+    provider.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
+    provider.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
+  }
+
   @Test(expected = JsonParseException.class)
   public void readFrom_noValidation_jsonParseError() throws Exception {
     annotations = new Annotation[] { createMock(Annotation.class) };
@@ -130,6 +148,24 @@ public class ValidatingJacksonJsonProviderTest extends EasyMockSupport {
         provider.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream));
   }
 
+  @Test
+  public void readFrom_withValidation_knownValid() throws Exception {
+    annotations = new Annotation[] { createMockAnnotation(Valid.class) };
+    @SuppressWarnings("unchecked")
+    MultivaluedMap<String, String> httpHeaders = createMock(MultivaluedMap.class);
+    InputStream entityStream = createMock(InputStream.class);
+    CassandraInstance instance = new CassandraInstance.Builder()
+        .id(1).dataCenter("us-east").rack("1a").hostName("host").publicIpAddress("1.2.3.4").build();
+
+    expect(delegate.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream))
+        .andReturn(instance);
+    // The validator isn't consulted for known-valid models
+    replayAll();
+
+    assertEquals(instance,
+        provider.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void readFrom_withValidation_failure() throws Exception {
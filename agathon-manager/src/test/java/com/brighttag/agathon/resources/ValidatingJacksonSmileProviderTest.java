@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.util.Map;
+
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.sun.jersey.core.header.OutBoundHeaders;
+import com.sun.jersey.core.util.MultivaluedMapImpl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.model.CassandraInstance;
+import com.brighttag.agathon.model.CassandraRing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 10/18/2026
+ */
+public class ValidatingJacksonSmileProviderTest {
+
+  private static final MediaType SMILE = ValidatingJacksonSmileProvider.APPLICATION_SMILE_TYPE;
+
+  private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+  private ValidatingJacksonSmileProvider provider;
+  private Annotation[] validAnnotations;
+
+  @Before
+  public void setUp() throws Exception {
+    provider = new ValidatingJacksonSmileProvider(
+        Validation.buildDefaultValidatorFactory().getValidator());
+    validAnnotations =
+        getClass().getDeclaredMethod("valid", CassandraRing.class).getParameterAnnotations()[0];
+  }
+
+  @Test
+  public void readFrom() throws Exception {
+    CassandraRing ring = new CassandraRing.Builder()
+        .name("ring")
+        .instances(ImmutableSet.of(new CassandraInstance.Builder()
+            .id(1)
+            .dataCenter("dc")
+            .rack("rack")
+            .hostName("host")
+            .publicIpAddress("1.1.1.1")
+            .build()))
+        .build();
+
+    assertEquals(ring, read(ringEntity("ring")));
+  }
+
+  @Test
+  public void readFrom_invalid() throws Exception {
+    try {
+      read(ringEntity(""));
+      fail("Expected WebApplicationException");
+    } catch (WebApplicationException e) {
+      assertEquals(ValidatingJacksonProvider.UNPROCESSABLE_ENTITY.getStatusCode(),
+          e.getResponse().getStatus());
+    }
+  }
+
+  @Test
+  public void writeTo() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    provider.writeTo(ImmutableMap.of("name", "ring"), Map.class, Map.class, new Annotation[0],
+        SMILE, new OutBoundHeaders(), out);
+
+    assertEquals(ImmutableMap.of("name", "ring"), smileMapper.readValue(out.toByteArray(), Map.class));
+  }
+
+  @Test
+  public void isWriteable() {
+    assertTrue(provider.isWriteable(CassandraRing.class, CassandraRing.class, new Annotation[0], SMILE));
+    assertFalse(provider.isWriteable(CassandraRing.class, CassandraRing.class, new Annotation[0],
+        MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object read(Map<String, Object> entity) throws Exception {
+    Class<Object> type = (Class<Object>) (Class<?>) CassandraRing.class;
+    return provider.readFrom(type, type, validAnnotations, SMILE, new MultivaluedMapImpl(),
+        new ByteArrayInputStream(smileMapper.writeValueAsBytes(entity)));
+  }
+
+  private static Map<String, Object> ringEntity(String name) {
+    return ImmutableMap.<String, Object>of("name", name, "instances", ImmutableList.of(
+        ImmutableMap.of("id", 1, "datacenter", "dc", "rack", "rack", "hostname", "host",
+            "publicIpAddress", "1.1.1.1")));
+  }
+
+  @SuppressWarnings("unused")
+  private void valid(@Valid CassandraRing ring) {
+  }
+
+}
@@ -28,8 +28,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.brighttag.agathon.dao.CassandraAddressDao;
 import com.brighttag.agathon.model.CassandraInstance;
-import com.brighttag.agathon.service.CassandraRingService;
 import com.brighttag.testing.ModuleTester;
 
 /**
@@ -54,7 +54,7 @@ public class SecurityGroupModuleTest extends EasyMockSupport {
     System.setProperty(SecurityGroupModule.SECURITY_GROUP_MANAGEMENT_ENABLED_PROPERTY, "true");
     System.setProperty(SecurityGroupModule.CASSANDRA_RING_CONFIG_PROPERTY, "does.not.matter");
     new ModuleTester(new SecurityGroupModule())
-        .dependsOn(CassandraRingService.class, createMock(CassandraRingService.class))
+        .dependsOn(CassandraAddressDao.class, createMock(CassandraAddressDao.class))
         .exposes(SecurityGroupUpdaterService.class)
         .exposesMultibinding(Service.class)
         .exposesNothingElse()
@@ -30,10 +30,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.brighttag.agathon.dao.BackingStoreException;
+import com.brighttag.agathon.dao.CassandraAddressDao;
 import com.brighttag.agathon.model.CassandraInstance;
 import com.brighttag.agathon.model.CassandraRing;
-import com.brighttag.agathon.service.CassandraRingService;
-import com.brighttag.agathon.service.ServiceUnavailableException;
 
 import static org.easymock.EasyMock.expect;
 import static org.junit.Assert.assertEquals;
@@ -45,12 +45,12 @@ import static org.junit.Assert.assertEquals;
  */
 public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
 
-  private CassandraRingService cassandraRingService;
+  private CassandraAddressDao cassandraAddressDao;
   private SecurityGroupService securityGroupService;
 
   @Before
   public void setUp() {
-    cassandraRingService = createMock(CassandraRingService.class);
+    cassandraAddressDao = createMock(CassandraAddressDao.class);
     securityGroupService = createMock(SecurityGroupService.class);
   }
 
@@ -91,7 +91,7 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
 
   @Test
   public void runOneIteration_noRings() throws Exception {
-    expect(cassandraRingService.findAll()).andReturn(ImmutableSet.<CassandraRing>of());
+    expect(cassandraAddressDao.findAllAddresses()).andReturn(ImmutableSet.<CassandraRing>of());
     replayAll();
     service().runOneIteration();
   }
@@ -104,7 +104,7 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
     expect(securityGroupService.exists("cassandra_ringName", "dc2")).andReturn(false);
     securityGroupService.create("cassandra_ringName", "dc1");
     securityGroupService.create("cassandra_ringName", "dc2");
-    expect(cassandraRingService.findAll()).andReturn(ImmutableSet.of(ringWithInstances(
+    expect(cassandraAddressDao.findAllAddresses()).andReturn(ImmutableSet.of(ringWithInstances(
         instance("1.1.1.1", "dc1"), instance("2.2.2.2", "dc2"))));
     securityGroupService.authorizeIngressRules("cassandra_ringName", "dc1",
         groupPermission(7000, "1.1.1.1/32", "2.2.2.2/32"));
@@ -122,7 +122,7 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
     expect(securityGroupService.exists("cassandra_ringName", "dc1")).andReturn(true);
     expect(securityGroupService.exists("cassandra_ringName", "dc2")).andReturn(true);
     expect(securityGroupService.exists("cassandra_ringName", "dc3")).andReturn(true);
-    expect(cassandraRingService.findAll()).andReturn(ImmutableSet.of(ringWithInstances(
+    expect(cassandraAddressDao.findAllAddresses()).andReturn(ImmutableSet.of(ringWithInstances(
         instance("1.1.1.1", "dc1"), instance("2.2.2.2", "dc2"), instance("3.3.3.3", "dc3"))));
     securityGroupService.authorizeIngressRules("cassandra_ringName", "dc1",
         groupPermission(7000, "1.1.1.1/32", "3.3.3.3/32"));
@@ -143,7 +143,7 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
         groupPermission(7000, "2.2.2.2/32"));
     expect(securityGroupService.exists("cassandra_ringName", "dc1")).andReturn(true);
     expect(securityGroupService.exists("cassandra_ringName", "dc2")).andReturn(true);
-    expect(cassandraRingService.findAll()).andReturn(ImmutableSet.of(ringWithInstances(
+    expect(cassandraAddressDao.findAllAddresses()).andReturn(ImmutableSet.of(ringWithInstances(
         instance("1.1.1.1", "dc1"), instance("2.2.2.2", "dc2"))));
     securityGroupService.authorizeIngressRules("cassandra_ringName", "dc2",
         groupPermission(7000, "1.1.1.1/32"));
@@ -185,7 +185,7 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
         groupPermission(7000, "5.5.5.5/32"),
         groupPermission(7000, "6.6.6.6/32"),
         groupPermission(7000, "7.7.7.7/32"));
-    expect(cassandraRingService.findAll()).andReturn(ImmutableSet.of(
+    expect(cassandraAddressDao.findAllAddresses()).andReturn(ImmutableSet.of(
         ringWithInstances("ringName",
           instance("1.1.1.1", "dc1"), instance("2.2.2.2", "dc2"), instance("3.3.3.3", "dc3")),
         ringWithInstances("otherRing",
@@ -214,7 +214,7 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
     expect(securityGroupService.exists("cassandra_secure", "dc2")).andReturn(false);
     securityGroupService.create("cassandra_secure", "dc1");
     securityGroupService.create("cassandra_secure", "dc2");
-    expect(cassandraRingService.findAll()).andReturn(ImmutableSet.of(ringWithInstances(
+    expect(cassandraAddressDao.findAllAddresses()).andReturn(ImmutableSet.of(ringWithInstances(
         "secure", instance("1.1.1.1", "dc1"), instance("2.2.2.2", "dc2"))));
     securityGroupService.authorizeIngressRules("cassandra_secure", "dc1",
         groupPermission(7001, "1.1.1.1/32", "2.2.2.2/32"));
@@ -225,8 +225,8 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
   }
 
   @Test
-  public void runOneIteration_serviceUnavailableException() throws Exception {
-    expect(cassandraRingService.findAll()).andThrow(new ServiceUnavailableException());
+  public void runOneIteration_backingStoreException() throws Exception {
+    expect(cassandraAddressDao.findAllAddresses()).andThrow(new BackingStoreException());
     replayAll();
     service().runOneIteration();
   }
@@ -240,7 +240,7 @@ public class SecurityGroupUpdaterServiceTest extends EasyMockSupport {
       };
 
   private SecurityGroupUpdaterService service() {
-    return new SecurityGroupUpdaterService(cassandraRingService, securityGroupService,
+    return new SecurityGroupUpdaterService(cassandraAddressDao, securityGroupService,
         ASSIGNED_DATA_CENTER, 7000, 7001, ImmutableSet.of("secure"),
         Duration.standardSeconds(60), "cassandra_");
   }
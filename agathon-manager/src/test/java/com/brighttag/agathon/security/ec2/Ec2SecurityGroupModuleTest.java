@@ -16,6 +16,12 @@
 
 package com.brighttag.agathon.security.ec2;
 
+import java.util.Map;
+
+import com.amazonaws.regions.Region;
+import com.amazonaws.regions.Regions;
+import com.amazonaws.regions.ServiceAbbreviations;
+
 import com.google.common.base.Function;
 import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
@@ -30,6 +36,8 @@ import com.brighttag.agathon.security.SecurityGroupService;
 import com.brighttag.agathon.service.CassandraInstanceService;
 import com.brighttag.testing.ModuleTester;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author codyaray
  * @since 9/02/2013
@@ -47,4 +55,14 @@ public class Ec2SecurityGroupModuleTest extends EasyMockSupport {
         .verify();
   }
 
+  @Test
+  public void provideRegions() throws Exception {
+    Map<String, Region> regions = new Ec2SecurityGroupModule().provideRegions();
+    for (Regions region : Regions.values()) {
+      assertEquals(region.getName(), regions.get(region.getName()).getName());
+    }
+    assertEquals("ec2.us-east-1.amazonaws.com",
+        regions.get("us-east-1").getServiceEndpoint(ServiceAbbreviations.EC2));
+  }
+
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.AbstractIdleService;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Service;
+
+import org.easymock.EasyMockSupport;
+import org.easymock.IAnswer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.service.CassandraRingService;
+import com.brighttag.agathon.service.DependsOn;
+import com.brighttag.agathon.service.SeedService;
+import com.brighttag.agathon.service.ServiceUnavailableException;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 10/18/2026
+ */
+public class CacheWarmupServiceTest extends EasyMockSupport {
+
+  private CassandraRingService ringService;
+  private SeedService seedService;
+  private CacheWarmupService service;
+
+  @Before
+  public void setUp() {
+    ringService = createMock(CassandraRingService.class);
+    seedService = createMock(SeedService.class);
+    service = new CacheWarmupService(ringService, seedService, 2, 1);
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void warmUp() {
+    CassandraRing ring1 = createMock(CassandraRing.class);
+    CassandraRing ring2 = createMock(CassandraRing.class);
+    expect(ringService.findAll()).andReturn(ImmutableSet.of(ring1, ring2));
+    expectSeeds(ring1);
+    expectSeeds(ring2);
+    replayAll();
+
+    assertFalse(service.isWarm());
+    assertTrue(service.warmUp(MoreExecutors.sameThreadExecutor()));
+    assertTrue(service.isWarm());
+  }
+
+  @Test
+  public void warmUp_ringsUnavailable() {
+    expect(ringService.findAll()).andThrow(new ServiceUnavailableException());
+    replayAll();
+
+    assertFalse(service.warmUp(MoreExecutors.sameThreadExecutor()));
+    assertFalse(service.isWarm());
+  }
+
+  @Test
+  public void warmUp_seedsFailed() {
+    CassandraRing ring = createMock(CassandraRing.class);
+    expect(ringService.findAll()).andReturn(ImmutableSet.of(ring));
+    expect(seedService.getSeeds(ring)).andThrow(new IllegalStateException());
+    replayAll();
+
+    assertFalse(service.warmUp(MoreExecutors.sameThreadExecutor()));
+    assertFalse(service.isWarm());
+  }
+
+  @Test
+  public void lifecycle_retriesUntilWarm() throws Exception {
+    CassandraRing ring = createMock(CassandraRing.class);
+    expect(ringService.findAll()).andThrow(new ServiceUnavailableException());
+    expect(ringService.findAll()).andReturn(ImmutableSet.of(ring));
+    expectSeeds(ring);
+    replayAll();
+
+    service.startAndWait();
+    for (int i = 0; i < 50 && !service.isWarm(); i++) {
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    service.stopAndWait();
+    assertTrue(service.isWarm());
+  }
+
+  @Test
+  public void lifecycle_startedAfterFirstWarmUp() throws Exception {
+    CountDownLatch warming = new CountDownLatch(1);
+    CassandraRing ring = createMock(CassandraRing.class);
+    expect(ringService.findAll()).andAnswer(awaiting(warming, ImmutableSet.of(ring)));
+    expectSeeds(ring);
+    replayAll();
+
+    ListenableFuture<Service.State> started = service.start();
+    TimeUnit.MILLISECONDS.sleep(100);
+    assertFalse(started.isDone());
+
+    warming.countDown();
+    assertEquals(Service.State.RUNNING, started.get(5, TimeUnit.SECONDS));
+    assertTrue(service.isWarm());
+    service.stopAndWait();
+  }
+
+  @Test
+  public void registry_startsDependentsAfterFirstWarmUp() throws Exception {
+    CountDownLatch warming = new CountDownLatch(1);
+    CassandraRing ring = createMock(CassandraRing.class);
+    expect(ringService.findAll()).andAnswer(awaiting(warming, ImmutableSet.of(ring)));
+    expectSeeds(ring);
+    replayAll();
+
+    WarmCacheReader reader = new WarmCacheReader(service);
+    ServiceRegistry registry = new ServiceRegistry(ImmutableSet.<Service>of(service, reader));
+    ListenableFuture<Service.State> started = registry.start();
+    TimeUnit.MILLISECONDS.sleep(100);
+    assertFalse(reader.isRunning());
+
+    warming.countDown();
+    assertEquals(Service.State.RUNNING, started.get(5, TimeUnit.SECONDS));
+    assertTrue(reader.warmWhenStarted);
+    registry.stopAndWait();
+  }
+
+  private void expectSeeds(CassandraRing ring) {
+    expect(seedService.getSeeds(ring)).andReturn(ImmutableSet.of("host"));
+    expect(seedService.getSeedAddresses(ring)).andReturn(ImmutableMap.of("host", "1.2.3.4"));
+  }
+
+  private static <T> IAnswer<T> awaiting(final CountDownLatch latch, final T result) {
+    return new IAnswer<T>() {
+      @Override
+      public T answer() throws Throwable {
+        latch.await();
+        return result;
+      }
+    };
+  }
+
+  @DependsOn(CacheWarmupService.class)
+  private static class WarmCacheReader extends AbstractIdleService {
+
+    private final CacheWarmupService warmup;
+    private volatile boolean warmWhenStarted;
+
+    WarmCacheReader(CacheWarmupService warmup) {
+      this.warmup = warmup;
+    }
+
+    @Override
+    protected void startUp() {
+      warmWhenStarted = warmup.isWarm();
+    }
+
+    @Override
+    protected void shutDown() {
+    }
+
+  }
+
+}
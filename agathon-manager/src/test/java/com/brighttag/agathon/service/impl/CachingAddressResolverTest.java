@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+
+import org.easymock.EasyMockSupport;
+import org.easymock.IAnswer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 10/18/2026
+ */
+public class CachingAddressResolverTest extends EasyMockSupport {
+
+  private static final long CACHE_SECONDS = 60;
+  private static final long TIMEOUT_MILLIS = 100;
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final Ticker ticker = new Ticker() {
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+  };
+  private ExecutorService executor;
+  private CachingAddressResolver resolver;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+    resolver = createMockBuilder(CachingAddressResolver.class)
+        .withConstructor(long.class, long.class, Ticker.class, ExecutorService.class)
+        .withArgs(CACHE_SECONDS, TIMEOUT_MILLIS, ticker, executor)
+        .addMockedMethod("lookup", String.class)
+        .createMock();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    verifyAll();
+  }
+
+  @Test
+  public void resolve_cached() {
+    expect(resolver.lookup("host1")).andReturn("1.1.1.1").once();
+    replayAll();
+
+    assertEquals("1.1.1.1", resolver.resolve("host1"));
+    assertEquals("1.1.1.1", resolver.resolve("host1"));
+  }
+
+  @Test
+  public void resolve_unknownHostCached() {
+    expect(resolver.lookup("host1")).andReturn(null).once();
+    replayAll();
+
+    assertNull(resolver.resolve("host1"));
+    assertNull(resolver.resolve("host1"));
+  }
+
+  @Test
+  public void resolve_staleAddressWhileRefreshing() throws Exception {
+    CountDownLatch refreshing = new CountDownLatch(1);
+    expect(resolver.lookup("host1")).andReturn("1.1.1.1").once();
+    expect(resolver.lookup("host1")).andAnswer(awaiting(refreshing, "2.2.2.2")).once();
+    replayAll();
+
+    assertEquals("1.1.1.1", resolver.resolve("host1"));
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(CACHE_SECONDS + 1));
+    assertEquals("1.1.1.1", resolver.resolve("host1"));
+    assertEquals("1.1.1.1", resolver.resolve("host1"));
+
+    refreshing.countDown();
+    awaitIdle();
+    assertEquals("2.2.2.2", resolver.resolve("host1"));
+  }
+
+  @Test
+  public void resolve_slowFirstLookupTimesOut() throws Exception {
+    CountDownLatch resolving = new CountDownLatch(1);
+    expect(resolver.lookup("host1")).andAnswer(awaiting(resolving, "1.1.1.1")).once();
+    replayAll();
+
+    assertNull(resolver.resolve("host1"));
+    // The hung lookup is shared rather than resubmitted
+    assertNull(resolver.resolve("host1"));
+
+    resolving.countDown();
+    awaitIdle();
+    assertEquals("1.1.1.1", resolver.resolve("host1"));
+  }
+
+  private void awaitIdle() throws InterruptedException {
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+  }
+
+  private static IAnswer<String> awaiting(final CountDownLatch latch, final String address) {
+    return new IAnswer<String>() {
+      @Override
+      public String answer() throws Throwable {
+        latch.await();
+        return address;
+      }
+    };
+  }
+
+}
@@ -73,6 +73,23 @@ public class CassandraRingServiceImplTest extends EasyMockSupport {
     service.findAll();
   }
 
+  @Test
+  public void findByNames() throws Exception {
+    CassandraRing ring = createMock(CassandraRing.class);
+    expect(dao.findByNames(ImmutableSet.of(RING_NAME))).andReturn(ImmutableSet.of(ring));
+    replayAll();
+
+    assertEquals(ImmutableSet.of(ring), service.findByNames(ImmutableSet.of(RING_NAME)));
+  }
+
+  @Test(expected = ServiceUnavailableException.class)
+  public void findByNames_backingStoreException() throws Exception {
+    expect(dao.findByNames(ImmutableSet.of(RING_NAME))).andThrow(new BackingStoreException());
+    replayAll();
+
+    service.findByNames(ImmutableSet.of(RING_NAME));
+  }
+
   @Test
   public void findByName() throws Exception {
     CassandraRing ring = createMock(CassandraRing.class);
@@ -18,6 +18,7 @@ package com.brighttag.agathon.service.impl;
 
 import javax.annotation.Nullable;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 import org.easymock.EasyMockSupport;
@@ -27,9 +28,11 @@ import org.junit.Test;
 
 import com.brighttag.agathon.model.CassandraInstance;
 import com.brighttag.agathon.model.CassandraRing;
+import com.brighttag.agathon.service.AddressResolver;
 
 import static org.easymock.EasyMock.expect;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author codyaray
@@ -39,6 +42,8 @@ public class PerDataCenterSeedServiceTest extends EasyMockSupport {
 
   private static final String DATACENTER1 = "dc1";
   private static final String DATACENTER2 = "dc2";
+  private static final String RACK1 = "rack1";
+  private static final String RACK2 = "rack2";
 
   private static final String IP_ADDRESS_1 = "1.1.1.1";
   private static final String IP_ADDRESS_2 = "2.2.2.2";
@@ -46,14 +51,18 @@ public class PerDataCenterSeedServiceTest extends EasyMockSupport {
   private static final String IP_ADDRESS_4 = "4.4.4.4";
 
   private static final String DOMAIN_NAME_1 = "domain1.com";
+  private static final String DOMAIN_NAME_2 = "domain2.com";
 
   private CassandraRing ring;
+  private AddressResolver resolver;
   private PerDataCenterSeedService seedProvider;
 
   @Before
   public void setUp() {
     ring = createMock(CassandraRing.class);
-    seedProvider = new PerDataCenterSeedService(2);
+    expect(ring.getName()).andStubReturn("ring");
+    resolver = createMock(AddressResolver.class);
+    seedProvider = new PerDataCenterSeedService(2, resolver);
   }
 
   @After
@@ -98,14 +107,65 @@ public class PerDataCenterSeedServiceTest extends EasyMockSupport {
     assertEquals(ImmutableSet.of(IP_ADDRESS_1, IP_ADDRESS_2, IP_ADDRESS_3), seedProvider.getSeeds(ring));
   }
 
+  @Test
+  public void getSeeds_spreadAcrossRacks() {
+    CassandraInstance instance1 = buildInstance(DATACENTER1, RACK1, IP_ADDRESS_1, null);
+    CassandraInstance instance2 = buildInstance(DATACENTER1, RACK1, IP_ADDRESS_2, null);
+    CassandraInstance instance3 = buildInstance(DATACENTER1, RACK1, IP_ADDRESS_3, null);
+    CassandraInstance instance4 = buildInstance(DATACENTER1, RACK2, IP_ADDRESS_4, null);
+    ImmutableSet<CassandraInstance> instances = ImmutableSet.of(instance1, instance2, instance3, instance4);
+    expect(ring.getInstances()).andReturn(instances);
+    replayAll();
+
+    ImmutableSet<String> seeds = seedProvider.getSeeds(ring);
+    assertEquals(2, seeds.size());
+    assertTrue(seeds.contains(IP_ADDRESS_4));
+  }
+
+  @Test
+  public void getSeeds_independentOfInstanceOrder() {
+    CassandraInstance instance1 = buildInstance(DATACENTER1, IP_ADDRESS_1);
+    CassandraInstance instance2 = buildInstance(DATACENTER1, IP_ADDRESS_2);
+    CassandraInstance instance3 = buildInstance(DATACENTER1, IP_ADDRESS_3);
+    CassandraInstance instance4 = buildInstance(DATACENTER1, IP_ADDRESS_4);
+    expect(ring.getInstances()).andReturn(ImmutableSet.of(instance1, instance2, instance3, instance4));
+    expect(ring.getInstances()).andReturn(ImmutableSet.of(instance4, instance3, instance2, instance1));
+    replayAll();
+
+    assertEquals(seedProvider.getSeeds(ring), seedProvider.getSeeds(ring));
+  }
+
+  @Test
+  public void getSeedAddresses() {
+    CassandraInstance instance1 = buildInstance(DATACENTER1, IP_ADDRESS_1, DOMAIN_NAME_1);
+    CassandraInstance instance2 = buildInstance(DATACENTER1, IP_ADDRESS_2);
+    CassandraInstance instance3 = buildInstance(DATACENTER2, IP_ADDRESS_3, DOMAIN_NAME_2);
+    ImmutableSet<CassandraInstance> instances = ImmutableSet.of(instance1, instance2, instance3);
+    expect(ring.getInstances()).andReturn(instances);
+    expect(resolver.resolve(DOMAIN_NAME_1)).andReturn(IP_ADDRESS_4);
+    expect(resolver.resolve(DOMAIN_NAME_2)).andReturn(null);
+    replayAll();
+
+    // Unresolvable domain names fall back to the public IP address
+    assertEquals(ImmutableMap.of(
+        DOMAIN_NAME_1, IP_ADDRESS_4, IP_ADDRESS_2, IP_ADDRESS_2, DOMAIN_NAME_2, IP_ADDRESS_3),
+        seedProvider.getSeedAddresses(ring));
+  }
+
   private CassandraInstance buildInstance(String dataCenter, String publicIpAddress) {
     return buildInstance(dataCenter, publicIpAddress, null);
   }
 
   private CassandraInstance buildInstance(String dataCenter, String publicIp, @Nullable String fqdn) {
+    return buildInstance(dataCenter, null, publicIp, fqdn);
+  }
+
+  private CassandraInstance buildInstance(String dataCenter, @Nullable String rack, String publicIp,
+      @Nullable String fqdn) {
     return new CassandraInstance.Builder()
         .id(1)
         .dataCenter(dataCenter)
+        .rack(rack)
         .publicIpAddress(publicIp)
         .fullyQualifiedDomainName(fqdn)
         .build();
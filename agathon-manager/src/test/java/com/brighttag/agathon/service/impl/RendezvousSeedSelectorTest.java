@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.junit.Test;
+
+import com.brighttag.agathon.model.CassandraInstance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 10/18/2026
+ */
+public class RendezvousSeedSelectorTest {
+
+  private static final String RING = "ring";
+
+  private static final Function<CassandraInstance, String> SEED = new Function<CassandraInstance, String>() {
+    @Override
+    public String apply(CassandraInstance instance) {
+      return instance.getPublicIpAddress();
+    }
+  };
+
+  @Test
+  public void select() {
+    List<CassandraInstance> instances = instances(3, 4);
+    ImmutableList<CassandraInstance> seeds = select(instances, 2);
+    assertEquals(2, seeds.size());
+    assertTrue(instances.containsAll(seeds));
+  }
+
+  @Test
+  public void select_tooFewInstances() {
+    List<CassandraInstance> instances = instances(1, 2);
+    assertEquals(ImmutableSet.copyOf(instances), ImmutableSet.copyOf(select(instances, 3)));
+  }
+
+  @Test
+  public void select_oneSeedPerRackFirst() {
+    assertEquals(ImmutableSet.of("rack0", "rack1", "rack2"), racks(select(instances(3, 10), 3)));
+  }
+
+  @Test
+  public void select_evenlyAcrossRacks() {
+    Set<String> racks = Sets.newHashSet();
+    List<CassandraInstance> seeds = select(instances(2, 10), 4);
+    for (CassandraInstance seed : seeds.subList(0, 2)) {
+      racks.add(seed.getRack());
+    }
+    assertEquals(2, racks.size());
+    for (CassandraInstance seed : seeds.subList(2, 4)) {
+      racks.remove(seed.getRack());
+    }
+    assertTrue(racks.isEmpty());
+  }
+
+  @Test
+  public void select_independentOfOrder() {
+    List<CassandraInstance> instances = instances(3, 10);
+    ImmutableList<CassandraInstance> seeds = select(instances, 3);
+    Collections.reverse(instances);
+    assertEquals(seeds, select(instances, 3));
+    Collections.shuffle(instances);
+    assertEquals(seeds, select(instances, 3));
+  }
+
+  @Test
+  public void select_stableWhenNonSeedLeaves() {
+    List<CassandraInstance> instances = instances(3, 10);
+    ImmutableList<CassandraInstance> seeds = select(instances, 3);
+    for (CassandraInstance instance : ImmutableList.copyOf(instances)) {
+      if (!seeds.contains(instance)) {
+        instances.remove(instance);
+        assertEquals(seeds, select(instances, 3));
+      }
+    }
+  }
+
+  @Test
+  public void select_replacesAtMostOneSeedWhenInstanceJoins() {
+    List<CassandraInstance> instances = instances(3, 10);
+    Set<CassandraInstance> seeds = ImmutableSet.copyOf(select(instances, 5));
+    for (int i = 0; i < 20; i++) {
+      CassandraInstance joined = instance(i % 3, 100 + i);
+      instances.add(joined);
+      Set<CassandraInstance> after = ImmutableSet.copyOf(select(instances, 5));
+      assertTrue(Sets.difference(seeds, after).size() <= 1);
+      seeds = after;
+    }
+  }
+
+  @Test
+  public void select_differsByRing() {
+    List<CassandraInstance> instances = instances(1, 100);
+    assertTrue(!RendezvousSeedSelector.select("ring1", instances, 3, SEED)
+        .equals(RendezvousSeedSelector.select("ring2", instances, 3, SEED)));
+  }
+
+  private static ImmutableList<CassandraInstance> select(List<CassandraInstance> instances, int numSeeds) {
+    return RendezvousSeedSelector.select(RING, instances, numSeeds, SEED);
+  }
+
+  private static Set<String> racks(List<CassandraInstance> instances) {
+    Set<String> racks = Sets.newHashSet();
+    for (CassandraInstance instance : instances) {
+      racks.add(instance.getRack());
+    }
+    return racks;
+  }
+
+  private static List<CassandraInstance> instances(int racks, int perRack) {
+    List<CassandraInstance> instances = Lists.newArrayList();
+    for (int i = 0; i < racks * perRack; i++) {
+      instances.add(instance(i % racks, i));
+    }
+    return instances;
+  }
+
+  private static CassandraInstance instance(int rack, int ordinal) {
+    return new CassandraInstance.Builder()
+        .id(ordinal + 1)
+        .dataCenter("dc")
+        .rack("rack" + rack)
+        .hostName("host" + ordinal)
+        .publicIpAddress("10.0." + (ordinal / 256) + "." + (ordinal % 256))
+        .build();
+  }
+
+}
@@ -40,6 +40,7 @@ public class ServiceModuleTest extends EasyMockSupport {
         .exposes(CassandraInstanceService.class)
         .exposes(CassandraRingService.class)
         .exposes(SeedService.class)
+        .exposes(CacheWarmupService.class)
         .exposesNothingElse()
         .verify();
   }
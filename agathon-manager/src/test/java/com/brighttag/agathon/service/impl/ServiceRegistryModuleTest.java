@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.service.impl;
+
+import java.util.Set;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Service;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+
+import org.junit.Test;
+
+import com.brighttag.testing.ModuleTester;
+
+/**
+ * @since 10/18/2026
+ */
+public class ServiceRegistryModuleTest {
+
+  @Test
+  public void bindings() throws Exception {
+    new ModuleTester(new ServiceRegistryModule())
+        .dependsOn(Key.get(new TypeLiteral<Set<Service>>() { }), ImmutableSet.<Service>of())
+        .dependsOn(MetricRegistry.class, new MetricRegistry())
+        .exposes(ServiceRegistry.class)
+        .exposes(Key.get(int.class, Names.named(ServiceRegistryModule.STARTUP_TIMEOUT_SECONDS_PROPERTY)))
+        .exposes(Key.get(int.class, Names.named(ServiceRegistryModule.SHUTDOWN_TIMEOUT_SECONDS_PROPERTY)))
+        .exposesNothingElse()
+        .verify();
+  }
+
+}
@@ -16,20 +16,32 @@
 
 package com.brighttag.agathon.service.impl;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.AbstractExecutionThreadService;
+import com.google.common.util.concurrent.AbstractIdleService;
 import com.google.common.util.concurrent.Service;
 import com.google.common.util.concurrent.Service.State;
 
 import org.junit.Test;
 
+import com.brighttag.agathon.service.DependsOn;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -98,6 +110,85 @@ public class ServiceRegistryTest {
     assertEquals(Service.State.TERMINATED, stopFuture.get());
   }
 
+  @Test
+  public void levels() throws Exception {
+    List<String> events = Lists.newArrayList();
+    Service first = new FirstService(events);
+    Service second = new SecondService(events);
+    Service third = new ThirdService(events);
+    ServiceRegistry registry = new ServiceRegistry(ImmutableSet.of(third, second, first));
+    assertEquals(ImmutableList.of(
+        ImmutableSet.of(first), ImmutableSet.of(second), ImmutableSet.of(third)), registry.getLevels());
+  }
+
+  @Test
+  public void levels_missingDependencyIgnored() throws Exception {
+    Service third = new ThirdService(Lists.<String>newArrayList());
+    ServiceRegistry registry = new ServiceRegistry(ImmutableSet.of(third));
+    assertEquals(ImmutableList.of(ImmutableSet.of(third)), registry.getLevels());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void levels_circular() throws Exception {
+    new ServiceRegistry(ImmutableSet.<Service>of(new PingService(), new PongService()));
+  }
+
+  @Test
+  public void lifecycle_dependencyOrder() throws Exception {
+    List<String> events = Lists.newArrayList();
+    MetricRegistry metrics = new MetricRegistry();
+    ServiceRegistry registry = new ServiceRegistry(ImmutableSet.<Service>of(
+        new ThirdService(events), new SecondService(events), new FirstService(events)), metrics, 10, 10);
+    registry.startAndWait();
+    assertEquals(ImmutableList.of("start FirstService", "start SecondService", "start ThirdService"),
+        events);
+    assertNotNull(metrics.getGauges().get("services.FirstService.startupMillis"));
+    assertNotNull(metrics.getGauges().get("services.ThirdService.startupMillis"));
+    assertNotNull(metrics.getGauges().get("services.startupMillis"));
+    events.clear();
+    registry.stopAndWait();
+    assertEquals(ImmutableList.of("stop ThirdService", "stop SecondService", "stop FirstService"),
+        events);
+  }
+
+  @Test
+  public void lifecycle_startupTimeout() throws Exception {
+    final CountDownLatch runningLatch = new CountDownLatch(1);
+    final CountDownLatch waitForShutdownLatch = new CountDownLatch(1);
+    Service service1 = new FakeService(runningLatch, waitForShutdownLatch);
+    SlowToStartService service2 = new SlowToStartService();
+    ServiceRegistry registry = new ServiceRegistry(
+        ImmutableSet.of(service1, service2), new MetricRegistry(), 1, 1);
+    try {
+      registry.startAndWait();
+      fail("Should have thrown an exception");
+    } catch (Exception e) {
+      // Ok to catch Exception here
+      assertThat(Throwables.getRootCause(e), is(TimeoutException.class));
+    } finally {
+      waitForShutdownLatch.countDown();
+      service2.startLatch.countDown();
+    }
+    assertFalse(service1.isRunning());
+  }
+
+  @Test
+  public void lifecycle_startupTimeout_lateServiceStopped() throws Exception {
+    LateService service = new LateService();
+    ServiceRegistry registry = new ServiceRegistry(
+        ImmutableSet.<Service>of(service), new MetricRegistry(), 1, 1);
+    try {
+      registry.startAndWait();
+      fail("Should have thrown an exception");
+    } catch (Exception e) {
+      // Ok to catch Exception here
+      assertThat(Throwables.getRootCause(e), is(TimeoutException.class));
+    }
+    // Finishes starting after the registry has failed, and then stops right away
+    service.startLatch.countDown();
+    assertTrue(service.stopLatch.await(5, TimeUnit.SECONDS));
+  }
+
   /**
    * Fake service that uses a {@code runningLatch} to notify the test when all
    * {@link FakeService}s are running, and a {@code waitForShutDownLatch} to await
@@ -149,4 +240,76 @@ public class ServiceRegistryTest {
     }
   }
 
+  /**
+   * Fake service that records its startUp and shutDown in a shared list of {@code events}.
+   */
+  private static class RecordingService extends AbstractIdleService {
+    private final List<String> events;
+    RecordingService(List<String> events) {
+      this.events = events;
+    }
+    @Override protected void startUp() throws Exception {
+      synchronized (events) {
+        events.add("start " + getClass().getSimpleName());
+      }
+    }
+    @Override protected void shutDown() throws Exception {
+      synchronized (events) {
+        events.add("stop " + getClass().getSimpleName());
+      }
+    }
+  }
+
+  private static class FirstService extends RecordingService {
+    FirstService(List<String> events) {
+      super(events);
+    }
+  }
+
+  @DependsOn(FirstService.class)
+  private static class SecondService extends RecordingService {
+    SecondService(List<String> events) {
+      super(events);
+    }
+  }
+
+  @DependsOn({FirstService.class, SecondService.class})
+  private static class ThirdService extends RecordingService {
+    ThirdService(List<String> events) {
+      super(events);
+    }
+  }
+
+  @DependsOn(PongService.class)
+  private static class PingService extends FailToRunService { }
+
+  @DependsOn(PingService.class)
+  private static class PongService extends FailToRunService { }
+
+  /**
+   * Fake service that does not finish starting until its {@code startLatch} is released.
+   */
+  private static class SlowToStartService extends AbstractExecutionThreadService {
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+    @Override protected void startUp() throws Exception {
+      startLatch.await();
+    }
+    @Override protected void run() throws Exception { }
+  }
+
+  /**
+   * Fake service that does not finish starting until its {@code startLatch} is released,
+   * and counts down its {@code stopLatch} when stopped.
+   */
+  private static class LateService extends AbstractIdleService {
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+    private final CountDownLatch stopLatch = new CountDownLatch(1);
+    @Override protected void startUp() throws Exception {
+      startLatch.await();
+    }
+    @Override protected void shutDown() {
+      stopLatch.countDown();
+    }
+  }
+
 }
@@ -16,6 +16,10 @@
 
 package com.brighttag.agathon.servlet;
 
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
 import com.google.inject.Injector;
 import com.google.inject.servlet.GuiceFilter;
 
@@ -27,8 +31,13 @@ import org.junit.Test;
 
 import com.brighttag.agathon.dao.DaoModule;
 import com.brighttag.agathon.resources.CassandraRingResource;
+import com.brighttag.agathon.resources.HealthResource;
+import com.brighttag.agathon.resources.MetricsResource;
 import com.brighttag.agathon.resources.ValidatingJacksonJsonProvider;
+import com.brighttag.agathon.resources.ValidatingJacksonSmileProvider;
+import com.brighttag.agathon.service.impl.ServiceRegistry;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 /**
@@ -63,7 +72,22 @@ public class GuiceServletConfigTest {
   @Test
   public void bindings() {
     assertNotNull(injector.getInstance(ValidatingJacksonJsonProvider.class));
+    assertNotNull(injector.getInstance(ValidatingJacksonSmileProvider.class));
     assertNotNull(injector.getInstance(CassandraRingResource.class));
+    assertNotNull(injector.getInstance(MetricsResource.class));
+    assertNotNull(injector.getInstance(HealthResource.class));
+    assertNotNull(injector.getInstance(ServiceRegistry.class));
+  }
+
+  @Test
+  public void circuitBreakerMBeans() throws Exception {
+    assertEquals("CLOSED", circuitBreakerState("CassandraRingDao.memory"));
+    assertEquals("CLOSED", circuitBreakerState("CassandraInstanceDao.memory"));
+  }
+
+  private static Object circuitBreakerState(String name) throws Exception {
+    return ManagementFactory.getPlatformMBeanServer().getAttribute(new ObjectName(
+        "com.brighttag.agathon:type=CircuitBreaker,name=" + ObjectName.quote(name)), "State");
   }
 
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014 BrightTag, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.brighttag.agathon.servlet;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import com.google.common.collect.ImmutableList;
+import com.sun.jersey.core.header.OutBoundHeaders;
+import com.sun.jersey.core.util.MultivaluedMapImpl;
+import com.sun.jersey.spi.container.ContainerRequest;
+import com.sun.jersey.spi.container.ContainerResponse;
+import com.sun.jersey.spi.container.ContainerResponseWriter;
+
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @since 10/18/2026
+ */
+public class JsonGzipContentEncodingFilterTest extends EasyMockSupport {
+
+  private final JsonGzipContentEncodingFilter filter = new JsonGzipContentEncodingFilter();
+
+  private ContainerRequest request;
+  private ContainerResponse response;
+  private MultivaluedMap<String, Object> responseHeaders;
+
+  @Before
+  public void setUp() {
+    request = createMock(ContainerRequest.class);
+    response = createMock(ContainerResponse.class);
+    MultivaluedMap<String, String> requestHeaders = new MultivaluedMapImpl();
+    requestHeaders.putSingle(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+    responseHeaders = new OutBoundHeaders();
+    expect(request.getRequestHeaders()).andStubReturn(requestHeaders);
+    expect(response.getHttpHeaders()).andStubReturn(responseHeaders);
+    expect(response.getEntity()).andStubReturn("entity");
+  }
+
+  @After
+  public void tearDown() {
+    verifyAll();
+  }
+
+  @Test
+  public void filter_json() {
+    expect(response.getMediaType()).andReturn(MediaType.APPLICATION_JSON_TYPE);
+    expect(response.getContainerResponseWriter()).andReturn(createMock(ContainerResponseWriter.class));
+    response.setContainerResponseWriter(anyObject(ContainerResponseWriter.class));
+    replayAll();
+
+    filter.filter(request, response);
+    assertEquals(ImmutableList.of("gzip"), responseHeaders.get(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(ImmutableList.of(HttpHeaders.ACCEPT_ENCODING), responseHeaders.get(HttpHeaders.VARY));
+  }
+
+  @Test
+  public void filter_plainText() {
+    expect(response.getMediaType()).andReturn(MediaType.TEXT_PLAIN_TYPE);
+    replayAll();
+
+    filter.filter(request, response);
+    assertFalse(responseHeaders.containsKey(HttpHeaders.CONTENT_ENCODING));
+  }
+
+}